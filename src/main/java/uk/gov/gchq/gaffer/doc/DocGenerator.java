@@ -15,6 +15,8 @@
  */
 package uk.gov.gchq.gaffer.doc;
 
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+
 public interface DocGenerator {
     String DOC_FOLDER = "docs/";
 
@@ -23,4 +25,43 @@ public interface DocGenerator {
     String getSummary();
 
     void generate();
+
+    /**
+     * Generators that do not use graphs or the global caches are thread safe.
+     * They can be run alongside other thread safe generators and their
+     * examples can be run in parallel.
+     * <p>
+     * The operation and walkthrough generators are not thread safe and are
+     * run one example at a time. Their examples clear the Gaffer cache
+     * service, which is a single instance for the whole JVM, and their named
+     * operations and jobs are stored in it, so one example would see or wipe
+     * the state of another. Running them in parallel would need a cache
+     * service per graph, which Gaffer does not support.
+     *
+     * @return true if the generator is thread safe
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
+    /**
+     * Checks whether the generator uses a source file, so watch mode only
+     * regenerates the generators affected by a change. A file that no
+     * generator claims is treated as being used by all of them.
+     *
+     * @param sourcePath the path of the file relative to the java or resources source folder, with '/' separators
+     * @return true if the generator uses the file
+     */
+    default boolean isAffectedBy(final String sourcePath) {
+        return false;
+    }
+
+    /**
+     * Generators left out by the {@link DocFilter} are not run.
+     *
+     * @return true if the generator should be run
+     */
+    default boolean isIncluded() {
+        return true;
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc;
+
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Describes a {@link DocGenerator} so it can be selected without loading it.
+ * Providers are found with a {@link ServiceLoader}, from the
+ * {@code META-INF/services/uk.gov.gchq.gaffer.doc.DocGeneratorProvider}
+ * files on the class path.
+ * <p>
+ * A provider only refers to its generator by class name. The generator, and
+ * the Spark or Accumulo classes it uses, are only loaded when
+ * {@link #create()} is called, so the generators that are not selected by
+ * the {@link DocFilter}, or that need a {@link Stack} that is not on the
+ * class path, are never loaded.
+ */
+public abstract class DocGeneratorProvider {
+    private final String title;
+    private final String generatorClassName;
+    private final int order;
+    private final Stack stack;
+
+    /**
+     * @param title              the title of the generator, which is matched by the {@link DocFilter}.
+     *                           Use the generator's {@code TITLE} constant, which the compiler inlines,
+     *                           so the title cannot drift and the generator class is still not loaded.
+     * @param generatorClassName the class name of the generator, which must have a public no argument constructor
+     * @param order              the position of the generator in the summary, lowest first
+     * @param stack              the libraries the generator needs
+     */
+    protected DocGeneratorProvider(final String title, final String generatorClassName, final int order, final Stack stack) {
+        this.title = title;
+        this.generatorClassName = generatorClassName;
+        this.order = order;
+        this.stack = stack;
+    }
+
+    /**
+     * @return all of the providers on the class path, in summary order
+     */
+    public static List<DocGeneratorProvider> load() {
+        final List<DocGeneratorProvider> providers = new ArrayList<>();
+        for (final DocGeneratorProvider provider : ServiceLoader.load(DocGeneratorProvider.class, DocGeneratorProvider.class.getClassLoader())) {
+            providers.add(provider);
+        }
+        providers.sort(Comparator.comparingInt(DocGeneratorProvider::getOrder));
+        return providers;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getGeneratorClassName() {
+        return generatorClassName;
+    }
+
+    public int getOrder() {
+        return order;
+    }
+
+    public Stack getStack() {
+        return stack;
+    }
+
+    public boolean isIncluded() {
+        return DocFilter.getInstance().includesRunner(title);
+    }
+
+    public boolean isAvailable() {
+        return stack.isAvailable(getClass().getClassLoader());
+    }
+
+    public DocGenerator create() {
+        try {
+            return Class.forName(generatorClassName, true, getClass().getClassLoader())
+                    .asSubclass(DocGenerator.class)
+                    .newInstance();
+        } catch (final ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to create the " + title + " generator: " + generatorClassName, e);
+        }
+    }
+
+    /**
+     * The heavyweight libraries a generator needs. A stack is available if
+     * its marker class is on the class path, which is checked without
+     * loading the class.
+     */
+    public enum Stack {
+        CORE(null),
+        ACCUMULO("uk.gov.gchq.gaffer.accumulostore.AccumuloStore"),
+        SPARK("org.apache.spark.sql.SparkSession");
+
+        private final String markerClassName;
+
+        Stack(final String markerClassName) {
+            this.markerClassName = markerClassName;
+        }
+
+        public boolean isAvailable(final ClassLoader classLoader) {
+            return null == markerClassName
+                    || null != classLoader.getResource(markerClassName.replace('.', '/') + ".class");
+        }
+    }
+}
@@ -20,34 +20,84 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
-import uk.gov.gchq.gaffer.doc.binaryoperator.BinaryOperatorExamplesRunner;
-import uk.gov.gchq.gaffer.doc.dev.walkthrough.DevWalkthroughRunner;
-import uk.gov.gchq.gaffer.doc.function.FunctionExamplesRunner;
-import uk.gov.gchq.gaffer.doc.operation.OperationExamplesRunner;
-import uk.gov.gchq.gaffer.doc.operation.accumulo.AccumuloOperationExamplesRunner;
-import uk.gov.gchq.gaffer.doc.operation.spark.SparkOperationExamplesRunner;
-import uk.gov.gchq.gaffer.doc.predicate.PredicateExamplesRunner;
-import uk.gov.gchq.gaffer.doc.properties.walkthrough.PropertiesWalkthroughRunner;
-import uk.gov.gchq.gaffer.doc.user.walkthrough.UserWalkthroughRunner;
+import uk.gov.gchq.gaffer.doc.util.BuildProfile;
+import uk.gov.gchq.gaffer.doc.util.DocEvents;
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
+import uk.gov.gchq.gaffer.doc.util.HtmlSiteRenderer;
+import uk.gov.gchq.gaffer.doc.util.PythonCache;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 
 public class DocsGenerator implements DocGenerator {
-    private static final DocGenerator[] GENERATORS = {
-            new UserWalkthroughRunner(),
-            new DevWalkthroughRunner(),
-            new PropertiesWalkthroughRunner(),
-            new OperationExamplesRunner(),
-            new AccumuloOperationExamplesRunner(),
-            new SparkOperationExamplesRunner(),
-            new PredicateExamplesRunner(),
-            new FunctionExamplesRunner(),
-            new BinaryOperatorExamplesRunner(),
-    };
+    public static final String PARALLELISM_PROPERTY = "gaffer.doc.parallelism";
+    public static final String FORCE_ARG = "--force";
+    public static final String WATCH_ARG = "--watch";
+    public static final String HTML_ARG = "--html";
+
+    private final List<DocGenerator> generators = new ArrayList<>();
+    private final boolean complete;
+
+    public DocsGenerator() {
+        this(provider -> true);
+    }
+
+    /**
+     * Only the generators of the selected providers are created, so the
+     * classes used by the other generators are never loaded.
+     *
+     * @param selected the providers of the generators to run
+     */
+    DocsGenerator(final Predicate<DocGeneratorProvider> selected) {
+        // The generators find their examples when they are created, so they are only created once the filters are set
+        final List<DocGeneratorProvider> providers = DocGeneratorProvider.load();
+        for (final DocGeneratorProvider provider : providers) {
+            if (!provider.isIncluded() || !selected.test(provider)) {
+                continue;
+            }
+            if (provider.isAvailable()) {
+                generators.add(provider.create());
+            } else {
+                System.out.println("Skipping " + provider.getTitle() + " documentation, the " + provider.getStack().name().toLowerCase(Locale.UK) + " classes are not on the class path");
+            }
+        }
+        this.complete = generators.size() == providers.size();
+    }
 
     public static void main(final String[] args) throws Exception {
-        new DocsGenerator().generate();
+        if (Arrays.asList(args).contains(FORCE_ARG)) {
+            System.setProperty(DocManifest.FORCE_PROPERTY, "true");
+        }
+        if (Arrays.asList(args).contains(HTML_ARG)) {
+            System.setProperty(HtmlSiteRenderer.HTML_PROPERTY, "true");
+        }
+        DocFilter.applyArgs(args);
+        final DocsGenerator docsGenerator = new DocsGenerator();
+        docsGenerator.generate();
+        if (Arrays.asList(args).contains(WATCH_ARG)) {
+            new DocsWatcher(docsGenerator.generators).watch();
+        }
+    }
+
+    /**
+     * Regenerates the documentation of some of the generators. The summary
+     * is left as it is, as the other generators are not loaded. This is invoked
+     * reflectively by {@link DocsWatcher} in a fresh class loader.
+     *
+     * @param generatorClassNames the class names of the generators to run
+     */
+    static void generate(final Collection<String> generatorClassNames) {
+        new DocsGenerator(provider -> generatorClassNames.contains(provider.getGeneratorClassName())).generate();
     }
 
     @Override
@@ -60,13 +110,77 @@ public class DocsGenerator implements DocGenerator {
     }
 
     protected void _generate() throws IOException {
-        for (final DocGenerator generator : GENERATORS) {
-            System.out.println("Generating " + generator.getClass().getSimpleName().replace("Runner", "") + " documentation");
+        // Thread safe generators are run together first. The other generators share
+        // the global caches and mock accumulo instances so they are run in order afterwards,
+        // see DocGenerator.isThreadSafe. Only the predicate, function and binary operator
+        // examples are sped up by the parallelism.
+        final ForkJoinPool pool = new ForkJoinPool(getParallelism());
+        try {
+            final List<CompletableFuture<Void>> threadSafeGenerators = new ArrayList<>();
+            for (final DocGenerator generator : generators) {
+                if (generator.isThreadSafe()) {
+                    threadSafeGenerators.add(CompletableFuture.runAsync(() -> runGenerator(generator), pool));
+                }
+            }
+            join(CompletableFuture.allOf(threadSafeGenerators.toArray(new CompletableFuture[threadSafeGenerators.size()])));
+        } finally {
+            pool.shutdown();
+        }
+
+        for (final DocGenerator generator : generators) {
+            if (!generator.isThreadSafe()) {
+                runGenerator(generator);
+            }
+        }
+
+        // Without all of the generators and all of their examples the summary would be incomplete, so the previous summary is kept
+        if (complete && !DocFilter.getInstance().isActive()) {
+            final String summary = getSummary();
+            FileUtils.writeStringToFile(new File(DocGenerator.DOC_FOLDER + "SUMMARY.md"), summary);
+        }
+
+        DocManifest.getInstance().save();
+
+        if (HtmlSiteRenderer.isEnabled()) {
+            final File htmlDir = HtmlSiteRenderer.getOutputDir();
+            final int pages = new HtmlSiteRenderer(new File(DocGenerator.DOC_FOLDER), htmlDir, getParallelism()).render();
+            System.out.println("Rendered " + pages + " html pages to " + htmlDir.getPath());
+        }
+
+        final PythonCache pythonCache = PythonCache.getInstance();
+        pythonCache.evict();
+        System.out.println(pythonCache.getReport());
+
+        final String profile = BuildProfile.report();
+        if (null != profile) {
+            System.out.println(profile);
+        }
+    }
+
+    private static void runGenerator(final DocGenerator generator) {
+        System.out.println("Generating " + generator.getClass().getSimpleName().replace("Runner", "") + " documentation");
+        try (final DocEvents.Span event = DocEvents.runner(generator.getClass().getSimpleName())) {
             generator.generate();
         }
+    }
 
-        final String summary = getSummary();
-        FileUtils.writeStringToFile(new File(DocGenerator.DOC_FOLDER + "SUMMARY.md"), summary);
+    private static void join(final CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static int getParallelism() {
+        final String parallelism = System.getProperty(PARALLELISM_PROPERTY);
+        if (null != parallelism) {
+            return Math.max(1, Integer.parseInt(parallelism));
+        }
+        return Runtime.getRuntime().availableProcessors();
     }
 
     @Override
@@ -81,7 +195,7 @@ public class DocsGenerator implements DocGenerator {
         }
 
         final StringBuilder gettingStartedSummaries = new StringBuilder();
-        for (final DocGenerator summary : GENERATORS) {
+        for (final DocGenerator summary : generators) {
             gettingStartedSummaries.append(summary.getSummary());
         }
 
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc;
+
+import uk.gov.gchq.gaffer.doc.util.StartupTimer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Starts {@link DocsGenerator}, or one of the runners, in a new JVM that
+ * loads its classes from an application class data sharing archive.
+ * <p>
+ * The first run is a training run, which records the classes that are
+ * loaded and then dumps them into {@value #CDS_DIR}. Later runs map the
+ * archive instead of loading and verifying the Spark, Accumulo, Hadoop and
+ * Gaffer classes from their jars. The archive is rebuilt whenever the java
+ * version or the jars on the class path change, and the generator is run
+ * without an archive on JVMs that cannot create one.
+ * <p>
+ * The archive can only hold classes from jars at the start of the class
+ * path, so the jars are moved ahead of any directories, such as
+ * {@code target/classes}. This would change which copy of a class or
+ * resource is loaded if it is in both, so when anything in the directories
+ * is also in a jar the class path is left in its original order and the
+ * generator is run without an archive.
+ * <p>
+ * The launcher must be started with the project class path, e.g.
+ * {@code mvn compile exec:exec -Dexec.executable=java -Dexec.args="-cp %classpath uk.gov.gchq.gaffer.doc.DocsLauncher"}.
+ * Any arguments are passed on to the generator, other than:
+ * <ul>
+ * <li>{@value #MAIN_ARG} - the class to run, instead of {@link DocsGenerator}</li>
+ * <li>{@value #RETRAIN_ARG} - rebuild the archive</li>
+ * </ul>
+ */
+public final class DocsLauncher {
+    public static final String CDS_DIR = "target/cds";
+    public static final String MAIN_ARG = "--main";
+    public static final String RETRAIN_ARG = "--retrain";
+    private static final int MIN_JAVA_VERSION = 10;
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String BASELINE_KEY_PREFIX = "startupMillis.";
+
+    private final String mainClass;
+    private final List<String> args;
+    private final Path archive = Paths.get(CDS_DIR, "docs.jsa");
+    private final Path classList = Paths.get(CDS_DIR, "docs.classlist");
+    private final Path archiveProperties = Paths.get(CDS_DIR, "docs.properties");
+    private final Path startupFile = Paths.get(CDS_DIR, "startup.txt");
+    private String classPath = System.getProperty("java.class.path");
+
+    private DocsLauncher(final String mainClass, final List<String> args) {
+        this.mainClass = mainClass;
+        this.args = args;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        String mainClass = DocsGenerator.class.getName();
+        boolean retrain = false;
+        final List<String> generatorArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (MAIN_ARG.equals(args[i]) && i + 1 < args.length) {
+                mainClass = args[++i];
+            } else if (RETRAIN_ARG.equals(args[i])) {
+                retrain = true;
+            } else {
+                generatorArgs.add(args[i]);
+            }
+        }
+        System.exit(new DocsLauncher(mainClass, generatorArgs).launch(retrain));
+    }
+
+    private int launch(final boolean retrain) throws IOException, InterruptedException {
+        Files.createDirectories(archive.getParent());
+        if (getJavaVersion() < MIN_JAVA_VERSION) {
+            System.out.println("Class data sharing archives need java " + MIN_JAVA_VERSION + " or later, running without one");
+            return run(new ArrayList<>());
+        }
+
+        final String shadowed = getShadowedEntry();
+        if (null != shadowed) {
+            System.out.println("Class data sharing archives need the jars first on the class path, but " + shadowed
+                    + " is in both a class directory and a jar, running without one");
+            return run(new ArrayList<>());
+        }
+        classPath = getArchiveClassPath();
+
+        final Properties properties = loadProperties();
+        final String fingerprint = getFingerprint();
+        final String baselineKey = BASELINE_KEY_PREFIX + mainClass;
+        if (!retrain && Files.isRegularFile(archive) && fingerprint.equals(properties.getProperty(FINGERPRINT_KEY))) {
+            final List<String> jvmArgs = getAppCdsArgs();
+            jvmArgs.addAll(Arrays.asList("-XX:SharedArchiveFile=" + archive, "-Xshare:auto"));
+            if (properties.containsKey(baselineKey)) {
+                jvmArgs.add("-D" + StartupTimer.BASELINE_PROPERTY + "=" + properties.getProperty(baselineKey));
+            }
+            return run(jvmArgs);
+        }
+
+        if (Files.isRegularFile(archive)) {
+            System.out.println("The class data archive does not match the class path, rebuilding it");
+        } else {
+            System.out.println("Recording the classes to put in the class data archive");
+        }
+        Files.deleteIfExists(archive);
+        Files.deleteIfExists(classList);
+        final List<String> recordArgs = getAppCdsArgs();
+        recordArgs.add("-XX:DumpLoadedClassList=" + classList);
+        final int result = run(recordArgs);
+        if (0 != result) {
+            return result;
+        }
+
+        if (dumpArchive()) {
+            properties.setProperty(FINGERPRINT_KEY, fingerprint);
+            final String startupMillis = readStartupMillis();
+            if (null != startupMillis) {
+                properties.setProperty(baselineKey, startupMillis);
+            }
+            try (final OutputStream stream = Files.newOutputStream(archiveProperties)) {
+                properties.store(stream, "Class data archive for the documentation generators");
+            }
+            System.out.println("Created the class data archive " + archive + ", it will be used from the next run");
+        } else {
+            Files.deleteIfExists(archive);
+            System.err.println("Unable to create the class data archive, the documentation will be generated without one");
+        }
+        return result;
+    }
+
+    private int run(final List<String> jvmArgs) throws IOException, InterruptedException {
+        Files.deleteIfExists(startupFile);
+        final List<String> command = new ArrayList<>();
+        command.add(getJavaExecutable());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.addAll(jvmArgs);
+        command.add("-D" + StartupTimer.STARTUP_FILE_PROPERTY + "=" + startupFile);
+        command.add("-cp");
+        command.add(classPath);
+        command.add(mainClass);
+        command.addAll(args);
+        return new ProcessBuilder(command).inheritIO().start().waitFor();
+    }
+
+    /**
+     * Dumps the recorded classes into the archive. Only the jars are given
+     * to the dump, as the archive cannot be built from a class path with
+     * directories in it. The documentation classes still come from the
+     * classes directory, which is after the jars on the class path given to
+     * the generator.
+     */
+    private boolean dumpArchive() throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add(getJavaExecutable());
+        command.addAll(getAppCdsArgs());
+        command.addAll(Arrays.asList(
+                "-Xshare:dump",
+                "-XX:SharedClassListFile=" + classList,
+                "-XX:SharedArchiveFile=" + archive,
+                "-cp", String.join(File.pathSeparator, getJars())));
+        final Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(archive.resolveSibling("dump.log").toFile())
+                .start();
+        return 0 == process.waitFor() && Files.isRegularFile(archive);
+    }
+
+    /**
+     * Java 10 only records, archives and maps the application classes when
+     * AppCDS is switched on, so the flag is passed to every step. Later
+     * versions enable it by default.
+     */
+    private static List<String> getAppCdsArgs() {
+        final List<String> args = new ArrayList<>();
+        if (MIN_JAVA_VERSION == getJavaVersion()) {
+            args.add("-XX:+UseAppCDS");
+        }
+        return args;
+    }
+
+    private String readStartupMillis() throws IOException {
+        if (!Files.isRegularFile(startupFile)) {
+            return null;
+        }
+        return new String(Files.readAllBytes(startupFile), StandardCharsets.UTF_8).trim();
+    }
+
+    private Properties loadProperties() throws IOException {
+        final Properties properties = new Properties();
+        if (Files.isRegularFile(archiveProperties)) {
+            try (final InputStream stream = Files.newInputStream(archiveProperties)) {
+                properties.load(stream);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * The archive is only valid for the same JVM and the same jars, in the
+     * same order, so they are all included in the fingerprint.
+     */
+    private static String getFingerprint() throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new RuntimeException("Unable to fingerprint the class path", e);
+        }
+        update(digest, System.getProperty("java.home"));
+        update(digest, System.getProperty("java.vm.version"));
+        for (final String jar : getJars()) {
+            final Path path = Paths.get(jar);
+            update(digest, jar);
+            update(digest, Long.toString(Files.size(path)));
+            update(digest, Long.toString(Files.getLastModifiedTime(path).toMillis()));
+        }
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * @return the class path with the jars first, so the archive's class path is a prefix of it
+     */
+    private static String getArchiveClassPath() {
+        final List<String> entries = new ArrayList<>(getJars());
+        for (final String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (!entries.contains(entry)) {
+                entries.add(entry);
+            }
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    /**
+     * Only a directory that comes before a jar on the class path can be
+     * affected by moving the jars first, so the files in those directories
+     * are looked up in the jars that follow them.
+     *
+     * @return the first file that would be loaded from a jar instead of a
+     * directory if the jars were moved first, or null if there are none
+     */
+    private static String getShadowedEntry() throws IOException {
+        final List<String> jars = getJars();
+        final List<String> files = new ArrayList<>();
+        for (final String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            final Path path = Paths.get(entry);
+            if (Files.isDirectory(path)) {
+                try (final Stream<Path> walk = Files.walk(path)) {
+                    walk.filter(Files::isRegularFile)
+                            .map(file -> path.relativize(file).toString().replace(File.separatorChar, '/'))
+                            .forEach(files::add);
+                }
+            } else if (jars.contains(entry) && !files.isEmpty()) {
+                try (final JarFile jar = new JarFile(entry)) {
+                    for (final String file : files) {
+                        if (null != jar.getEntry(file)) {
+                            return file;
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<String> getJars() {
+        final List<String> jars = new ArrayList<>();
+        for (final String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (entry.endsWith(".jar") && new File(entry).isFile()) {
+                jars.add(entry);
+            }
+        }
+        return jars;
+    }
+
+    private static String getJavaExecutable() {
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int getJavaVersion() {
+        final String version = System.getProperty("java.specification.version");
+        return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc;
+
+import uk.gov.gchq.gaffer.doc.util.PythonWorkerPool;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Watches the documentation sources and regenerates the pages affected by
+ * each change, keeping the JVM warm between builds.
+ * <p>
+ * Changed java files are compiled into the build output folder and changed
+ * resources are copied there. The generators that use the changed files are
+ * then run in a fresh class loader, so the new classes are picked up, while
+ * the python workers and python cache are shared with the previous builds.
+ * The python workers are restarted when their script changes. The graph
+ * fixtures are not shared, as they are keyed by element generator classes
+ * that are reloaded by every build, so each build starts with empty fixture
+ * registries. The documentation manifest skips any page whose inputs have
+ * not changed.
+ */
+public final class DocsWatcher {
+    public static final String JAVA_SRC_PATH = "src/main/java/";
+    public static final String RESOURCES_SRC_PATH = "src/main/resources/";
+    private static final String DOC_PACKAGE = "uk.gov.gchq.gaffer.doc.";
+    private static final String PYTHON_RESOURCES_PATH = "python/";
+    private static final long QUIET_PERIOD_MILLIS = 500;
+
+    /**
+     * Classes that hold state worth keeping between builds. They are loaded
+     * once, so changes to them need a restart.
+     */
+    private static final List<String> SHARED_CLASSES = Arrays.asList(
+            "uk.gov.gchq.gaffer.doc.util.PythonWorkerPool",
+            "uk.gov.gchq.gaffer.doc.util.PythonCache",
+            "uk.gov.gchq.gaffer.doc.util.BuildProfile",
+            "uk.gov.gchq.gaffer.doc.util.DocEvents",
+            "uk.gov.gchq.gaffer.doc.util.JfrEvents"
+    );
+
+    private final List<DocGenerator> generators;
+    private final Path javaSrc = Paths.get(JAVA_SRC_PATH).toAbsolutePath();
+    private final Path resourcesSrc = Paths.get(RESOURCES_SRC_PATH).toAbsolutePath();
+    private final Path classesDir;
+    private final Map<WatchKey, Path> watchedDirs = new HashMap<>();
+
+    public DocsWatcher(final List<DocGenerator> generators) {
+        this.generators = generators;
+        this.classesDir = getClassesDir();
+    }
+
+    /**
+     * Watches for changes until the process is stopped.
+     */
+    public void watch() {
+        try (final WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            register(watchService, javaSrc.resolve(DOC_PACKAGE.replace('.', '/')));
+            register(watchService, resourcesSrc);
+            System.out.println("Watching " + JAVA_SRC_PATH + " and " + RESOURCES_SRC_PATH + " for changes, press Ctrl+C to stop");
+
+            while (!Thread.currentThread().isInterrupted()) {
+                final Set<Path> changed = new TreeSet<>();
+                WatchKey key = watchService.take();
+                // Wait for the changes to stop, so saving several files only triggers one build
+                while (null != key) {
+                    collectChanges(watchService, key, changed);
+                    key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (!changed.isEmpty()) {
+                    regenerate(changed);
+                }
+            }
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to watch the documentation sources", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void register(final WatchService watchService, final Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (final Stream<Path> dirs = Files.walk(root)) {
+            for (final Path dir : (Iterable<Path>) dirs.filter(Files::isDirectory)::iterator) {
+                watchedDirs.put(dir.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE), dir);
+            }
+        }
+    }
+
+    private void collectChanges(final WatchService watchService, final WatchKey key, final Set<Path> changed) throws IOException {
+        final Path dir = watchedDirs.get(key);
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (null == dir || StandardWatchEventKinds.OVERFLOW == event.kind()) {
+                continue;
+            }
+            final Path file = dir.resolve((Path) event.context());
+            if (Files.isDirectory(file)) {
+                if (StandardWatchEventKinds.ENTRY_CREATE == event.kind()) {
+                    register(watchService, file);
+                    try (final Stream<Path> files = Files.walk(file)) {
+                        files.filter(Files::isRegularFile).forEach(changed::add);
+                    }
+                }
+            } else if (!file.getFileName().toString().startsWith(".") && !file.getFileName().toString().endsWith("~")) {
+                // Editor swap and backup files are ignored
+                changed.add(file);
+            }
+        }
+        if (!key.reset()) {
+            watchedDirs.remove(key);
+        }
+    }
+
+    private void regenerate(final Set<Path> changed) {
+        final List<File> javaFiles = new ArrayList<>();
+        final Set<String> sourcePaths = new LinkedHashSet<>();
+        try {
+            for (final Path file : changed) {
+                if (file.startsWith(javaSrc)) {
+                    final String sourcePath = toSourcePath(javaSrc.relativize(file));
+                    if (sourcePath.endsWith(".java")) {
+                        sourcePaths.add(sourcePath);
+                        if (Files.isRegularFile(file)) {
+                            javaFiles.add(file.toFile());
+                        }
+                        warnIfShared(sourcePath);
+                    }
+                } else if (file.startsWith(resourcesSrc)) {
+                    final Path resource = resourcesSrc.relativize(file);
+                    sourcePaths.add(toSourcePath(resource));
+                    copyResource(file, classesDir.resolve(resource));
+                }
+            }
+        } catch (final IOException e) {
+            System.err.println("Unable to update the build output: " + e.getMessage());
+            return;
+        }
+
+        if (sourcePaths.isEmpty() || (!javaFiles.isEmpty() && !compile(javaFiles))) {
+            return;
+        }
+
+        final Set<String> affected = getAffectedGenerators(sourcePaths);
+        System.out.println("Changed: " + sourcePaths);
+        if (sourcePaths.stream().anyMatch(path -> path.startsWith(PYTHON_RESOURCES_PATH))) {
+            // The workers have already loaded the old script
+            PythonWorkerPool.reset();
+        }
+        final long start = System.currentTimeMillis();
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try (final URLClassLoader loader = new WatchClassLoader(classesDir.toUri().toURL(), getClass().getClassLoader())) {
+            thread.setContextClassLoader(loader);
+            final Method generate = loader.loadClass(DocsGenerator.class.getName()).getDeclaredMethod("generate", Collection.class);
+            generate.setAccessible(true);
+            generate.invoke(null, affected);
+            System.out.println("Regenerated in " + (System.currentTimeMillis() - start) + " ms");
+        } catch (final InvocationTargetException e) {
+            System.err.println("Unable to regenerate the documentation");
+            e.getCause().printStackTrace();
+        } catch (final IOException | ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to load the documentation generators", e);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private Set<String> getAffectedGenerators(final Set<String> sourcePaths) {
+        final Set<String> affected = new LinkedHashSet<>();
+        for (final String sourcePath : sourcePaths) {
+            boolean claimed = false;
+            for (final DocGenerator generator : generators) {
+                if (generator.isAffectedBy(sourcePath)) {
+                    affected.add(generator.getClass().getName());
+                    claimed = true;
+                }
+            }
+            if (!claimed) {
+                // Shared code and resources may be used by any of the generators
+                for (final DocGenerator generator : generators) {
+                    affected.add(generator.getClass().getName());
+                }
+            }
+        }
+        return affected;
+    }
+
+    private boolean compile(final List<File> javaFiles) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (null == compiler) {
+            System.err.println("Java changes cannot be compiled in watch mode, the JVM is not a JDK");
+            return false;
+        }
+
+        final List<String> args = new ArrayList<>(Arrays.asList(
+                "-d", classesDir.toString(),
+                "-cp", getClassPath(),
+                "-encoding", "UTF-8",
+                "-nowarn"));
+        for (final File javaFile : javaFiles) {
+            args.add(javaFile.getPath());
+        }
+        return 0 == compiler.run(null, null, null, args.toArray(new String[args.size()]));
+    }
+
+    private static void copyResource(final Path source, final Path target) throws IOException {
+        if (Files.isRegularFile(source)) {
+            Files.createDirectories(target.getParent());
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    private static void warnIfShared(final String sourcePath) {
+        final String className = sourcePath.substring(0, sourcePath.length() - ".java".length()).replace('/', '.');
+        if (SHARED_CLASSES.contains(className)) {
+            System.err.println(className + " is shared between builds in watch mode, restart to pick up the change");
+        }
+    }
+
+    private static String toSourcePath(final Path relativePath) {
+        return relativePath.toString().replace(File.separatorChar, '/');
+    }
+
+    private static Path getClassesDir() {
+        final Path classes;
+        try {
+            classes = Paths.get(DocsGenerator.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (final URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+        if (!Files.isDirectory(classes)) {
+            throw new IllegalStateException("Watch mode needs the documentation classes to be in a folder, not: " + classes);
+        }
+        return classes;
+    }
+
+    /**
+     * Gets the class path the documentation is running with, including the
+     * class loaders used by the maven exec plugin.
+     */
+    private static String getClassPath() {
+        final Set<String> entries = new LinkedHashSet<>();
+        for (ClassLoader loader = DocsWatcher.class.getClassLoader(); null != loader; loader = loader.getParent()) {
+            if (loader instanceof URLClassLoader) {
+                for (final URL url : ((URLClassLoader) loader).getURLs()) {
+                    try {
+                        entries.add(Paths.get(url.toURI()).toString());
+                    } catch (final URISyntaxException | IllegalArgumentException e) {
+                        // Only file urls can be used by the compiler
+                    }
+                }
+            }
+        }
+        entries.addAll(Arrays.asList(System.getProperty("java.class.path").split(File.pathSeparator)));
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static boolean isShared(final String className) {
+        for (final String sharedClass : SHARED_CLASSES) {
+            if (className.equals(sharedClass) || className.startsWith(sharedClass + "$")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Loads the documentation classes from the build output before asking
+     * its parent, so recompiled classes replace the ones already loaded.
+     */
+    private static final class WatchClassLoader extends URLClassLoader {
+        private WatchClassLoader(final URL classes, final ClassLoader parent) {
+            super(new URL[]{classes}, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(DOC_PACKAGE) || isShared(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (null == clazz) {
+                    try {
+                        clazz = findClass(name);
+                    } catch (final ClassNotFoundException e) {
+                        return super.loadClass(name, resolve);
+                    }
+                }
+                if (resolve) {
+                    resolveClass(clazz);
+                }
+                return clazz;
+            }
+        }
+    }
+}
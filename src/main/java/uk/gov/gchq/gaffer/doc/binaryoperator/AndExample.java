@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.binaryoperator;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.binaryoperator.And;
 
 public class AndExample extends BinaryOperatorExample {
@@ -28,13 +29,7 @@ public class AndExample extends BinaryOperatorExample {
         new AndExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        andWithBooleans();
-        andWithNulls();
-        andWithNonBooleanValues();
-    }
-
+    @ExampleMethod(order = 1)
     private void andWithBooleans() {
         // ---------------------------------------------------------
         final And and = new And();
@@ -47,6 +42,7 @@ public class AndExample extends BinaryOperatorExample {
         );
     }
 
+    @ExampleMethod(order = 2)
     private void andWithNulls() {
         // ---------------------------------------------------------
         final And and = new And();
@@ -59,6 +55,7 @@ public class AndExample extends BinaryOperatorExample {
 
     }
 
+    @ExampleMethod(order = 3)
     private void andWithNonBooleanValues() {
         // ---------------------------------------------------------
         final And and = new And();
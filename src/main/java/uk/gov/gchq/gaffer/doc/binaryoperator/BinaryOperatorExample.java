@@ -37,12 +37,12 @@ public abstract class BinaryOperatorExample extends Example {
 
     @SafeVarargs
     public final void runExample(final BinaryOperator function, final String description, final Pair<Object, Object>... inputs) {
-        print("### " + getMethodNameAsSentence(1) + "\n");
+        print("### " + getExampleMethodTitle() + "\n");
         if (StringUtils.isNotBlank(description)) {
             print(description + "\n");
         }
 
-        printJavaJsonPython(function, 3);
+        printJavaJsonPython(function);
 
         print("Input type:");
         print("\n```");
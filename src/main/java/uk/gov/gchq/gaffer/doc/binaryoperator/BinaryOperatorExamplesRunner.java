@@ -15,17 +15,28 @@
  */
 package uk.gov.gchq.gaffer.doc.binaryoperator;
 
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
 import uk.gov.gchq.gaffer.doc.util.ExampleDocRunner;
 
 /**
  * This runner will run all binary operator examples.
  */
 public class BinaryOperatorExamplesRunner extends ExampleDocRunner {
+    public static final String TITLE = "Binary Operators";
+
     public BinaryOperatorExamplesRunner() {
-        super("Binary Operators", BinaryOperatorExample.class);
+        super(TITLE, BinaryOperatorExample.class);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
     }
 
     public static void main(final String[] args) throws Exception {
+        DocFilter.applyArgs(args);
         new BinaryOperatorExamplesRunner().generate();
+        DocManifest.getInstance().save();
     }
 }
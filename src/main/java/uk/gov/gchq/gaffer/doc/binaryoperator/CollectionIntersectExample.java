@@ -19,6 +19,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.binaryoperator.CollectionIntersect;
 
 public class CollectionIntersectExample extends BinaryOperatorExample {
@@ -31,11 +32,7 @@ public class CollectionIntersectExample extends BinaryOperatorExample {
         new CollectionConcatExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        collectionIntersect();
-    }
-
+    @ExampleMethod(order = 1)
     private void collectionIntersect() {
 
         // ---------------------------------------------------------
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.binaryoperator;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.binaryoperator.First;
 
 public class FirstExample extends BinaryOperatorExample {
@@ -28,11 +29,7 @@ public class FirstExample extends BinaryOperatorExample {
         new FirstExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        first();
-    }
-
+    @ExampleMethod(order = 1)
     private void first() {
         // ---------------------------------------------------------
         final First first = new First();
@@ -17,6 +17,7 @@
 package uk.gov.gchq.gaffer.doc.binaryoperator;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Max;
 
 public class MaxExample extends BinaryOperatorExample {
@@ -28,11 +29,7 @@ public class MaxExample extends BinaryOperatorExample {
         super(Max.class, "Returns the max value.");
     }
 
-    @Override
-    protected void runExamples() {
-        max();
-    }
-
+    @ExampleMethod(order = 1)
     private void max() {
         // ---------------------------------------------------------
         final Max function = new Max();
@@ -17,6 +17,7 @@
 package uk.gov.gchq.gaffer.doc.binaryoperator;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Min;
 
 public class MinExample extends BinaryOperatorExample {
@@ -28,11 +29,7 @@ public class MinExample extends BinaryOperatorExample {
         super(Min.class, "Returns the min value.");
     }
 
-    @Override
-    protected void runExamples() {
-        min();
-    }
-
+    @ExampleMethod(order = 1)
     private void min() {
         // ---------------------------------------------------------
         final Min function = new Min();
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.binaryoperator;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Or;
 
 public class OrExample extends BinaryOperatorExample {
@@ -28,13 +29,7 @@ public class OrExample extends BinaryOperatorExample {
         new OrExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        orWithBooleans();
-        orWithNulls();
-        orWithNonBooleanValues();
-    }
-
+    @ExampleMethod(order = 1)
     private void orWithBooleans() {
         // ---------------------------------------------------------
         final Or or = new Or();
@@ -47,6 +42,7 @@ public class OrExample extends BinaryOperatorExample {
         );
     }
 
+    @ExampleMethod(order = 2)
     private void orWithNulls() {
         // ---------------------------------------------------------
         final Or or = new Or();
@@ -59,6 +55,7 @@ public class OrExample extends BinaryOperatorExample {
 
     }
 
+    @ExampleMethod(order = 3)
     private void orWithNonBooleanValues() {
         // ---------------------------------------------------------
         final Or or = new Or();
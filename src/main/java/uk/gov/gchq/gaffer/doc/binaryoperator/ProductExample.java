@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.binaryoperator;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Product;
 
 public class ProductExample extends BinaryOperatorExample {
@@ -28,11 +29,7 @@ public class ProductExample extends BinaryOperatorExample {
         new ProductExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        product();
-    }
-
+    @ExampleMethod(order = 1)
     private void product() {
         // ---------------------------------------------------------
         final Product product = new Product();
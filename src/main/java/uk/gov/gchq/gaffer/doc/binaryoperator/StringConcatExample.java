@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.binaryoperator;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.binaryoperator.StringConcat;
 
 public class StringConcatExample extends BinaryOperatorExample {
@@ -28,12 +29,7 @@ public class StringConcatExample extends BinaryOperatorExample {
         new StringConcatExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        stringConcatWithSeparator();
-        stringConcatWithDefaultSeparator();
-    }
-
+    @ExampleMethod(order = 1)
     private void stringConcatWithSeparator() {
         // ---------------------------------------------------------
         final StringConcat stringConcat = new StringConcat();
@@ -47,6 +43,7 @@ public class StringConcatExample extends BinaryOperatorExample {
         );
     }
 
+    @ExampleMethod(order = 2)
     private void stringConcatWithDefaultSeparator() {
         // ---------------------------------------------------------
         final StringConcat stringConcat = new StringConcat();
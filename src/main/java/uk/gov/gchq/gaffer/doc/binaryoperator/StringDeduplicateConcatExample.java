@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.binaryoperator;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.binaryoperator.StringDeduplicateConcat;
 
 public class StringDeduplicateConcatExample extends BinaryOperatorExample {
@@ -28,12 +29,7 @@ public class StringDeduplicateConcatExample extends BinaryOperatorExample {
         new StringConcatExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        stringDeduplicateConcatWithSeparator();
-        stringDeduplicateConcatWithDefaultSeparator();
-    }
-
+    @ExampleMethod(order = 1)
     private void stringDeduplicateConcatWithSeparator() {
         // ---------------------------------------------------------
         final StringDeduplicateConcat stringDeduplicateConcat = new StringDeduplicateConcat();
@@ -48,6 +44,7 @@ public class StringDeduplicateConcatExample extends BinaryOperatorExample {
         );
     }
 
+    @ExampleMethod(order = 2)
     private void stringDeduplicateConcatWithDefaultSeparator() {
         // ---------------------------------------------------------
         final StringDeduplicateConcat stringDeduplicateConcat = new StringDeduplicateConcat();
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.binaryoperator;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
 
 public class SumExample extends BinaryOperatorExample {
@@ -28,11 +29,7 @@ public class SumExample extends BinaryOperatorExample {
         new SumExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        sum();
-    }
-
+    @ExampleMethod(order = 1)
     private void sum() {
         // ---------------------------------------------------------
         final Sum sum = new Sum();
@@ -30,7 +30,7 @@ public abstract class DevWalkthrough extends AbstractWalkthrough {
     @Override
     protected String substituteParameters(final String walkthrough) {
         final String walkthroughFormatted = DevWalkthroughStrSubstitutor.substitute(super.substituteParameters(walkthrough, true), this);
-        DevWalkthroughStrSubstitutor.validateSubstitution(walkthroughFormatted, "limitParam", "' and '", "vehicle", "result-limit", "to-csv");
+        DevWalkthroughStrSubstitutor.validateSubstitution(walkthroughFormatted, "limitParam", "' and '", "vehicle", "result-limit", "to-csv", "isMoreThan", "property");
         return walkthroughFormatted;
     }
 }
@@ -15,6 +15,8 @@
  */
 package uk.gov.gchq.gaffer.doc.dev.walkthrough;
 
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
 import uk.gov.gchq.gaffer.doc.walkthrough.AbstractWalkthrough;
 import uk.gov.gchq.gaffer.doc.walkthrough.AbstractWalkthroughRunner;
 
@@ -25,6 +27,7 @@ import java.util.List;
  * This runner will run all developer walkthroughs.
  */
 public class DevWalkthroughRunner extends AbstractWalkthroughRunner {
+    public static final String TITLE = "Developer Guide";
     private static final List<AbstractWalkthrough> EXAMPLES = Arrays.asList(
             new Visibilities(),
             new Schemas(),
@@ -38,10 +41,12 @@ public class DevWalkthroughRunner extends AbstractWalkthroughRunner {
     );
 
     public DevWalkthroughRunner() {
-        super("Developer Guide", EXAMPLES, null, "dev");
+        super(TITLE, EXAMPLES, null, "dev");
     }
 
     public static void main(final String[] args) throws Exception {
+        DocFilter.applyArgs(args);
         new DevWalkthroughRunner().generate();
+        DocManifest.getInstance().save();
     }
 }
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Max;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Min;
 import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
@@ -33,13 +34,7 @@ public class ApplyBiFunctionExample extends FunctionExample {
         super(ApplyBiFunction.class);
     }
 
-    @Override
-    protected void runExamples() {
-        applyBiFunctionUsingSum();
-        applyBiFunctionUsingMax();
-        applyBiFunctionUsingMin();
-    }
-
+    @ExampleMethod(order = 1)
     private void applyBiFunctionUsingSum() {
         // ---------------------------------------------------------
         final ApplyBiFunction<Number, Number, Number> function = new ApplyBiFunction<>(new Sum());
@@ -47,6 +42,7 @@ public class ApplyBiFunctionExample extends FunctionExample {
         runExample(function, null, new Tuple2<Number, Number>(1, 2), new Tuple4<>(1, 2, 3, 4), new Tuple2<Number, Number>(1.1, 2.2));
     }
 
+    @ExampleMethod(order = 2)
     private void applyBiFunctionUsingMax() {
         // ---------------------------------------------------------
         final ApplyBiFunction<Comparable, Comparable, Comparable> function = new ApplyBiFunction<>(new Max());
@@ -55,6 +51,7 @@ public class ApplyBiFunctionExample extends FunctionExample {
         runExample(function, null, new Tuple2<Number, Number>(1, 2), new Tuple4<>(1, 2, 3, 4), new Tuple2<Number, Number>(1.1, 2.2));
     }
 
+    @ExampleMethod(order = 3)
     private void applyBiFunctionUsingMin() {
         // ---------------------------------------------------------
         final ApplyBiFunction<Comparable, Comparable, Comparable> function = new ApplyBiFunction<>(new Min());
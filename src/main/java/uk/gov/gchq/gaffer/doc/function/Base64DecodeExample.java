@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import org.apache.directory.api.util.Base64;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.Base64Decode;
 
 public class Base64DecodeExample extends FunctionExample {
@@ -29,11 +30,7 @@ public class Base64DecodeExample extends FunctionExample {
         super(Base64Decode.class);
     }
 
-    @Override
-    protected void runExamples() {
-        decodeBase64();
-    }
-
+    @ExampleMethod(order = 1)
     private void decodeBase64() {
         // ---------------------------------------------------------
         final Base64Decode function = new Base64Decode();
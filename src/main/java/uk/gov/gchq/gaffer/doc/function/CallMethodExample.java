@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import com.google.common.collect.Sets;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.CallMethod;
 
 public class CallMethodExample extends FunctionExample {
@@ -28,12 +29,7 @@ public class CallMethodExample extends FunctionExample {
         super(CallMethod.class, "Allows you to call any public no-argument method on an object");
     }
 
-    @Override
-    public void runExamples() {
-        callToString();
-        callToLowerCase();
-    }
-
+    @ExampleMethod(order = 1)
     public void callToString() {
         // ---------------------------------------------------------
         final CallMethod function = new CallMethod("toString");
@@ -48,6 +44,7 @@ public class CallMethodExample extends FunctionExample {
         );
     }
 
+    @ExampleMethod(order = 2)
     public void callToLowerCase() {
         // ---------------------------------------------------------
         final CallMethod function = new CallMethod("toLowerCase");
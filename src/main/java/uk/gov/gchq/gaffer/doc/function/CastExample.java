@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.Cast;
 
 public class CastExample extends FunctionExample {
@@ -27,11 +28,7 @@ public class CastExample extends FunctionExample {
         super(Cast.class, "Casts input to specified class.");
     }
 
-    @Override
-    protected void runExamples() {
-        cast();
-    }
-
+    @ExampleMethod(order = 1)
     private void cast() {
         // ---------------------------------------------------------
         final Cast function = new Cast(String.class);
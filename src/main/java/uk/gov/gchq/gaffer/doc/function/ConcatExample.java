@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.Concat;
 import uk.gov.gchq.koryphe.tuple.n.Tuple2;
 
@@ -27,11 +28,7 @@ public class ConcatExample extends FunctionExample {
         super(Concat.class, "Objects are concatenated by concatenating the outputs from calling toString on each object.");
     }
 
-    @Override
-    public void runExamples() {
-        concatObjects();
-    }
-
+    @ExampleMethod(order = 1)
     public void concatObjects() {
         // ---------------------------------------------------------
         final Concat function = new Concat();
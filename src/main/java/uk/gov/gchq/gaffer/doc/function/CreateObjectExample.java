@@ -20,6 +20,7 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.apache.commons.io.Charsets;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.CreateObject;
 
 import java.util.ArrayList;
@@ -35,12 +36,7 @@ public class CreateObjectExample extends FunctionExample {
         new CreateObjectExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        stringExample();
-        listExample();
-    }
-
+    @ExampleMethod(order = 1)
     public void stringExample() {
         // ---------------------------------------------------------
         final CreateObject createObject = new CreateObject(String.class);
@@ -51,6 +47,7 @@ public class CreateObjectExample extends FunctionExample {
                 null, 123, "a char array".toCharArray());
     }
 
+    @ExampleMethod(order = 2)
     public void listExample() {
         // ---------------------------------------------------------
         final CreateObject createObject = new CreateObject(ArrayList.class);
@@ -20,6 +20,7 @@ import com.google.common.collect.Lists;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.generator.CsvGenerator;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 
 public class CsvGeneratorExample extends FunctionExample {
     public static void main(final String[] args) {
@@ -30,12 +31,7 @@ public class CsvGeneratorExample extends FunctionExample {
         super(CsvGenerator.class, "Converts an iterable of elements into an iterable of csvs");
     }
 
-    @Override
-    public void runExamples() {
-        elementsToCsv();
-        elementsToQuotedCsv();
-    }
-
+    @ExampleMethod(order = 1)
     public void elementsToCsv() {
         // ---------------------------------------------------------
         final CsvGenerator function = new CsvGenerator.Builder()
@@ -75,6 +71,7 @@ public class CsvGeneratorExample extends FunctionExample {
         );
     }
 
+    @ExampleMethod(order = 2)
     public void elementsToQuotedCsv() {
         // ---------------------------------------------------------
         final CsvGenerator function = new CsvGenerator.Builder()
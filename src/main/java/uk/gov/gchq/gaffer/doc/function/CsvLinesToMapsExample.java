@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.CsvLinesToMaps;
 
 import java.util.Arrays;
@@ -29,11 +30,7 @@ public class CsvLinesToMapsExample extends FunctionExample {
         super(uk.gov.gchq.koryphe.impl.function.CsvLinesToMaps.class);
     }
 
-    @Override
-    protected void runExamples() {
-        cstToMapDeliminator();
-    }
-
+    @ExampleMethod(order = 1)
     private void cstToMapDeliminator() {
         // ---------------------------------------------------------
         final CsvLinesToMaps function = new CsvLinesToMaps()
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.CsvToMaps;
 
 public class CsvToMapsExample extends FunctionExample {
@@ -27,11 +28,7 @@ public class CsvToMapsExample extends FunctionExample {
         super(uk.gov.gchq.koryphe.impl.function.CsvToMaps.class);
     }
 
-    @Override
-    protected void runExamples() {
-        csvToMap();
-    }
-
+    @ExampleMethod(order = 1)
     private void csvToMap() {
         // ---------------------------------------------------------
         final CsvToMaps function = new CsvToMaps().header("header1", "header2", "header3").firstRow(1);
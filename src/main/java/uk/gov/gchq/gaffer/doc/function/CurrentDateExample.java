@@ -17,6 +17,7 @@
 package uk.gov.gchq.gaffer.doc.function;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.CurrentDate;
 
 public class CurrentDateExample extends FunctionExample {
@@ -29,11 +30,7 @@ public class CurrentDateExample extends FunctionExample {
         super(CurrentDate.class);
     }
 
-    @Override
-    protected void runExamples() {
-        getCurrentDate();
-    }
-
+    @ExampleMethod(order = 1)
     private void getCurrentDate() {
         // ---------------------------------------------------------
         final CurrentDate currentDate = new CurrentDate();
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.CurrentTime;
 
 public class CurrentTimeExample extends FunctionExample {
@@ -28,11 +29,7 @@ public class CurrentTimeExample extends FunctionExample {
         super(CurrentTime.class);
     }
 
-    @Override
-    protected void runExamples() {
-        getCurrentTime();
-    }
-
+    @ExampleMethod(order = 1)
     private void getCurrentTime() {
         // ---------------------------------------------------------
         final CurrentTime currentTime = new CurrentTime();
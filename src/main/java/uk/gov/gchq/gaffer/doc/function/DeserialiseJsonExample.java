@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import com.google.common.collect.Lists;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -34,11 +35,7 @@ public class DeserialiseJsonExample extends FunctionExample {
         super(DeserialiseJson.class);
     }
 
-    @Override
-    protected void runExamples() {
-        parseJson();
-    }
-
+    @ExampleMethod(order = 1)
     private void parseJson() {
         // ---------------------------------------------------------
         final DeserialiseJson function = new DeserialiseJson();
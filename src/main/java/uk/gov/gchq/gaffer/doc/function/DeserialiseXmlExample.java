@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.DeserialiseXml;
 
 public class DeserialiseXmlExample extends FunctionExample {
@@ -27,11 +28,7 @@ public class DeserialiseXmlExample extends FunctionExample {
         super(DeserialiseXml.class);
     }
 
-    @Override
-    protected void runExamples() {
-        parseXml();
-    }
-
+    @ExampleMethod(order = 1)
     private void parseXml() {
         // ---------------------------------------------------------
         final DeserialiseXml function = new DeserialiseXml();
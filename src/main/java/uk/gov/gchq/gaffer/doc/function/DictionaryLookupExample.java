@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.DictionaryLookup;
 
 import java.util.HashMap;
@@ -25,11 +26,7 @@ public class DictionaryLookupExample extends FunctionExample {
         super(DictionaryLookup.class, "looks up a value in a Map");
     }
 
-    @Override
-    protected void runExamples() {
-        dictionaryLookupExample();
-    }
-
+    @ExampleMethod(order = 1)
     public void dictionaryLookupExample() {
         final HashMap<Integer, String> map = new HashMap<>();
         map.put(1, "one");
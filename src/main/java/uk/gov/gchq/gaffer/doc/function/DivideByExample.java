@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.DivideBy;
 
 public class DivideByExample extends FunctionExample {
@@ -26,11 +27,7 @@ public class DivideByExample extends FunctionExample {
         super(DivideBy.class, "Divide the input integer by the provide number. x -> [x/divideBy, remainder]");
     }
 
-    @Override
-    public void runExamples() {
-        divideBy2();
-    }
-
+    @ExampleMethod(order = 1)
     public void divideBy2() {
         // ---------------------------------------------------------
         final DivideBy function = new DivideBy(2);
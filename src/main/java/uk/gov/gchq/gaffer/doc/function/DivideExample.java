@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.Divide;
 import uk.gov.gchq.koryphe.tuple.n.Tuple2;
 
@@ -27,11 +28,7 @@ public class DivideExample extends FunctionExample {
         super(Divide.class, "The input integers are divided. [x, y] -> [x/y, remainder]");
     }
 
-    @Override
-    public void runExamples() {
-        divideInputs();
-    }
-
+    @ExampleMethod(order = 1)
     public void divideInputs() {
         // ---------------------------------------------------------
         final Divide function = new Divide();
@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.function;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.function.ExtractGroup;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 
 public class ExtractGroupExample extends FunctionExample {
@@ -30,11 +31,7 @@ public class ExtractGroupExample extends FunctionExample {
         super(ExtractGroup.class);
     }
 
-    @Override
-    protected void runExamples() {
-        extractGroup();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractGroup() {
         // ---------------------------------------------------------
         final ExtractGroup function = new ExtractGroup();
@@ -19,6 +19,7 @@ import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.IdentifierType;
 import uk.gov.gchq.gaffer.data.element.function.ExtractId;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 
 public class ExtractIdExample extends FunctionExample {
 
@@ -30,12 +31,7 @@ public class ExtractIdExample extends FunctionExample {
         super(ExtractId.class);
     }
 
-    @Override
-    protected void runExamples() {
-        extractSourceFromEdge();
-        extractVertexFromEntity();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractSourceFromEdge() {
         // ---------------------------------------------------------
         final ExtractId function = new ExtractId(IdentifierType.SOURCE);
@@ -58,6 +54,7 @@ public class ExtractIdExample extends FunctionExample {
                         .build());
     }
 
+    @ExampleMethod(order = 2)
     public void extractVertexFromEntity() {
         // ---------------------------------------------------------
         final ExtractId function = new ExtractId(IdentifierType.VERTEX);
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ExtractKeys;
 
 import java.util.HashMap;
@@ -30,11 +31,7 @@ public class ExtractKeysExample extends FunctionExample {
         super(ExtractKeys.class, "An ExtractKeys will return the Set of keys from the provided Java Map.");
     }
 
-    @Override
-    protected void runExamples() {
-        extractKeysFromMap();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractKeysFromMap() {
         // ---------------------------------------------------------
         final ExtractKeys<String, Integer> function = new ExtractKeys<>();
@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.function;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.function.ExtractProperty;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 
 public class ExtractPropertyExample extends FunctionExample {
 
@@ -29,11 +30,7 @@ public class ExtractPropertyExample extends FunctionExample {
         super(ExtractProperty.class);
     }
 
-    @Override
-    protected void runExamples() {
-        extractPropertyFromElement();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractPropertyFromElement() {
         // ---------------------------------------------------------
         final ExtractProperty function = new ExtractProperty("prop1");
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ExtractValue;
 
 import java.util.HashMap;
@@ -30,11 +31,7 @@ public class ExtractValueExample extends FunctionExample {
         super(ExtractValue.class, "An ExtractValue will return the value associated with the pre-configured key, from a supplied Java Map.");
     }
 
-    @Override
-    protected void runExamples() {
-        extractValueFromMap();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractValueFromMap() {
         // ---------------------------------------------------------
         final ExtractValue<String, Integer> function = new ExtractValue<>("blueKey");
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ExtractValues;
 
 import java.util.HashMap;
@@ -30,11 +31,7 @@ public class ExtractValuesExample extends FunctionExample {
         super(ExtractValues.class, "An ExtractValues will return a Collection of the values from a provided Java Map.");
     }
 
-    @Override
-    protected void runExamples() {
-        extractValuesFromMap();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractValuesFromMap() {
         // ---------------------------------------------------------
         final ExtractValues<String, Integer> function = new ExtractValues<>();
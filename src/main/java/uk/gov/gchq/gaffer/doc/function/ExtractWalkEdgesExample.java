@@ -19,6 +19,7 @@ import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.graph.Walk;
 import uk.gov.gchq.gaffer.data.graph.function.walk.ExtractWalkEdges;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 
 public class ExtractWalkEdgesExample extends FunctionExample {
 
@@ -30,11 +31,7 @@ public class ExtractWalkEdgesExample extends FunctionExample {
         super(ExtractWalkEdges.class, "An ExtractWalkEdges will extract a List of ALL Sets of Edges, from a given Walk.");
     }
 
-    @Override
-    protected void runExamples() {
-        extractEdgesFromWalk();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractEdgesFromWalk() {
         // ---------------------------------------------------------
         final ExtractWalkEdges function = new ExtractWalkEdges();
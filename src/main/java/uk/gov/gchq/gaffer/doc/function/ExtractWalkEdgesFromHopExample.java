@@ -19,6 +19,7 @@ import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.graph.Walk;
 import uk.gov.gchq.gaffer.data.graph.function.walk.ExtractWalkEdgesFromHop;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 
 public class ExtractWalkEdgesFromHopExample extends FunctionExample {
 
@@ -30,11 +31,7 @@ public class ExtractWalkEdgesFromHopExample extends FunctionExample {
         super(ExtractWalkEdgesFromHop.class, "An ExtractWalkEdgesFromHop will extract the Set of Edges at a given hop, from a provided Walk");
     }
 
-    @Override
-    protected void runExamples() {
-        extractSingleSetOfEdgesFromWalk();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractSingleSetOfEdgesFromWalk() {
         // ---------------------------------------------------------
         final ExtractWalkEdgesFromHop function = new ExtractWalkEdgesFromHop(1);
@@ -19,6 +19,7 @@ import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.graph.Walk;
 import uk.gov.gchq.gaffer.data.graph.function.walk.ExtractWalkEntitiesFromHop;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 
 public class ExtractWalkEntitiesFromHopExample extends FunctionExample {
 
@@ -30,11 +31,7 @@ public class ExtractWalkEntitiesFromHopExample extends FunctionExample {
         super(ExtractWalkEntitiesFromHop.class);
     }
 
-    @Override
-    protected void runExamples() {
-        extractSingleSetOfEntitiesFromWalk();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractSingleSetOfEntitiesFromWalk() {
         // ---------------------------------------------------------
         final ExtractWalkEntitiesFromHop function = new ExtractWalkEntitiesFromHop(1);
@@ -19,6 +19,7 @@ import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.graph.Walk;
 import uk.gov.gchq.gaffer.data.graph.function.walk.ExtractWalkVertex;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 
 public class ExtractWalkVertexExample extends FunctionExample {
 
@@ -30,11 +31,7 @@ public class ExtractWalkVertexExample extends FunctionExample {
         super(ExtractWalkVertex.class);
     }
 
-    @Override
-    protected void runExamples() {
-        extractVertexFromWalk();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractVertexFromWalk() {
         // ---------------------------------------------------------
         final ExtractWalkVertex function = new ExtractWalkVertex();
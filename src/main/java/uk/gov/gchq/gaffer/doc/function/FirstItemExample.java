@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import com.google.common.collect.Lists;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.FirstItem;
 
 public class FirstItemExample extends FunctionExample {
@@ -28,11 +29,7 @@ public class FirstItemExample extends FunctionExample {
         super(FirstItem.class, "For a given Iterable, a FirstItem will extract the first item.");
     }
 
-    @Override
-    protected void runExamples() {
-        extractFirstItem();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractFirstItem() {
         // ---------------------------------------------------------
         final FirstItem<Integer> function = new FirstItem<>();
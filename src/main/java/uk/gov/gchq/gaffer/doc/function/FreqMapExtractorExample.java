@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.function;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.types.FreqMap;
 import uk.gov.gchq.gaffer.types.function.FreqMapExtractor;
 
@@ -31,11 +32,7 @@ public class FreqMapExtractorExample extends FunctionExample {
         super(FreqMapExtractor.class, "Extracts a count from a frequency map for a given key.");
     }
 
-    @Override
-    public void runExamples() {
-        multiplyAllMapValuesBy10();
-    }
-
+    @ExampleMethod(order = 1)
     public void multiplyAllMapValuesBy10() {
         // ---------------------------------------------------------
         final FreqMapExtractor function = new FreqMapExtractor("key1");
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.function.ToEntityId;
 import uk.gov.gchq.gaffer.types.function.ToTypeSubTypeValue;
 import uk.gov.gchq.koryphe.impl.function.FunctionChain;
@@ -33,12 +34,7 @@ public class FunctionChainExample extends FunctionExample {
         super(FunctionChain.class);
     }
 
-    @Override
-    protected void runExamples() {
-        functionChainUsingTupleAdaptedFunctions();
-        functionChainUsingStandardFunctions();
-    }
-
+    @ExampleMethod(order = 1)
     private void functionChainUsingTupleAdaptedFunctions() {
         // ---------------------------------------------------------
         final FunctionChain function = new FunctionChain.Builder<>()
@@ -59,6 +55,7 @@ public class FunctionChainExample extends FunctionExample {
         );
     }
 
+    @ExampleMethod(order = 2)
     private void functionChainUsingStandardFunctions() {
         // ---------------------------------------------------------
         final FunctionChain function = new FunctionChain.Builder<>()
@@ -33,12 +33,12 @@ public abstract class FunctionExample extends Example {
     }
 
     public void runExample(final Function function, final String description, final Object... inputs) {
-        print("### " + getMethodNameAsSentence(1) + "\n");
+        print("### " + getExampleMethodTitle() + "\n");
         if (StringUtils.isNotBlank(description)) {
             print(description + "\n");
         }
 
-        printJavaJsonPython(function, 3);
+        printJavaJsonPython(function);
 
         print("Input type:");
         print("\n```");
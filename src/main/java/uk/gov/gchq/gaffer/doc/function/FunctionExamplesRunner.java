@@ -15,17 +15,28 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
 import uk.gov.gchq.gaffer.doc.util.ExampleDocRunner;
 
 /**
  * This runner will run all function examples.
  */
 public class FunctionExamplesRunner extends ExampleDocRunner {
+    public static final String TITLE = "Functions";
+
     public FunctionExamplesRunner() {
-        super("Functions", FunctionExample.class);
+        super(TITLE, FunctionExample.class);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
     }
 
     public static void main(final String[] args) throws Exception {
+        DocFilter.applyArgs(args);
         new FunctionExamplesRunner().generate();
+        DocManifest.getInstance().save();
     }
 }
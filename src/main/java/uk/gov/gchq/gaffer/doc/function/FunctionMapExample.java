@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.function;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.function.FunctionMap;
 import uk.gov.gchq.koryphe.impl.function.MultiplyBy;
 
@@ -31,11 +32,7 @@ public class FunctionMapExample extends FunctionExample {
         super(FunctionMap.class, "Applies a function to all values in a map.");
     }
 
-    @Override
-    public void runExamples() {
-        multiplyAllMapValuesBy10();
-    }
-
+    @ExampleMethod(order = 1)
     public void multiplyAllMapValuesBy10() {
         // ---------------------------------------------------------
         final FunctionMap<String, Integer, Integer> function = new FunctionMap<>(new MultiplyBy(10));
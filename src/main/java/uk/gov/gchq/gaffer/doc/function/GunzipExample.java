@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.Gunzip;
 
 import java.io.ByteArrayOutputStream;
@@ -31,11 +32,7 @@ public class GunzipExample extends FunctionExample {
         super(Gunzip.class);
     }
 
-    @Override
-    protected void runExamples() {
-        gunzip();
-    }
-
+    @ExampleMethod(order = 1)
     private void gunzip() {
         // ---------------------------------------------------------
         final Gunzip gunzip = new Gunzip();
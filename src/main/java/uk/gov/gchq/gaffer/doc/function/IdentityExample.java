@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import com.google.common.collect.Lists;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.Identity;
 
 public class IdentityExample extends FunctionExample {
@@ -28,11 +29,7 @@ public class IdentityExample extends FunctionExample {
         super(Identity.class, "Just returns the input.");
     }
 
-    @Override
-    public void runExamples() {
-        identity2();
-    }
-
+    @ExampleMethod(order = 1)
     public void identity2() {
         // ---------------------------------------------------------
         final Identity function = new Identity();
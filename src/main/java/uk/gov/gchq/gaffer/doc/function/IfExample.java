@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.If;
 import uk.gov.gchq.koryphe.impl.function.ToLowerCase;
 import uk.gov.gchq.koryphe.impl.function.ToUpperCase;
@@ -30,11 +31,7 @@ public class IfExample extends FunctionExample {
         super(If.class);
     }
 
-    @Override
-    protected void runExamples() {
-        applyFunctionsToInput();
-    }
-
+    @ExampleMethod(order = 1)
     public void applyFunctionsToInput() {
         // ---------------------------------------------------------
         final If<String, String> predicate = new If<String, String>()
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.Increment;
 
 public class IncrementExample extends FunctionExample {
@@ -27,14 +28,7 @@ public class IncrementExample extends FunctionExample {
         super(uk.gov.gchq.koryphe.impl.function.Increment.class);
     }
 
-    @Override
-    protected void runExamples() {
-        addToInt();
-        addToDouble();
-        addToFloat();
-        addToLong();
-    }
-
+    @ExampleMethod(order = 1)
     private void addToInt() {
         // ---------------------------------------------------------
         final Increment increment = new Increment(3);
@@ -43,6 +37,7 @@ public class IncrementExample extends FunctionExample {
         runExample(increment, " returned value type will match the input type int", 2, 2.0d, 2.0f, 2L);
     }
 
+    @ExampleMethod(order = 2)
     private void addToDouble() {
         // ---------------------------------------------------------
         final Increment increment = new Increment(3.0);
@@ -51,6 +46,7 @@ public class IncrementExample extends FunctionExample {
         runExample(increment, " returned value type will match the input type double", 2, 2.0d, 2.0f, 2L, "33", "three", null);
     }
 
+    @ExampleMethod(order = 3)
     private void addToFloat() {
         // ---------------------------------------------------------
         final Increment increment = new Increment(3.0f);
@@ -59,6 +55,7 @@ public class IncrementExample extends FunctionExample {
         runExample(increment, " returned value type will match the input type float", 2, 2.0d, 2.0f, 2L, "33", "three", null);
     }
 
+    @ExampleMethod(order = 4)
     private void addToLong() {
         // ---------------------------------------------------------
         final Increment increment = new Increment(3L);
@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import com.google.common.collect.Lists;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.IterableConcat;
 
 import java.util.ArrayList;
@@ -32,11 +33,7 @@ public class IterableConcatExample extends FunctionExample {
         super(IterableConcat.class, "For a given Iterable of Iterables, an IterableConcat will essentially perform a FlatMap on the input, by concatenating each of the nested iterables into a single flattened iterable.");
     }
 
-    @Override
-    protected void runExamples() {
-        concatenateNestedIterables();
-    }
-
+    @ExampleMethod(order = 1)
     public void concatenateNestedIterables() {
         // ---------------------------------------------------------
         final IterableConcat<Integer> function = new IterableConcat<>();
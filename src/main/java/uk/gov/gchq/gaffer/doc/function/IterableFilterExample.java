@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import com.google.common.collect.Lists;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.IterableFilter;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
@@ -30,11 +31,7 @@ public class IterableFilterExample extends FunctionExample {
         super(IterableFilter.class, "An IterableFilter applies a given predicate to each element in an Iterable and returns the filtered iterable");
     }
 
-    @Override
-    protected void runExamples() {
-        iterableFilter();
-    }
-
+    @ExampleMethod(order = 1)
     public void iterableFilter() {
         // ---------------------------------------------------------
         final IterableFilter<Integer> function = new IterableFilter<>(new IsMoreThan(5));
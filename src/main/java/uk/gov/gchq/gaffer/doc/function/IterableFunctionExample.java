@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import com.google.common.collect.Lists;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.IterableFunction;
 import uk.gov.gchq.koryphe.impl.function.MultiplyBy;
 
@@ -29,12 +30,7 @@ public class IterableFunctionExample extends FunctionExample {
         super(IterableFunction.class, "An IterableFunction is useful for applying a provided function, or functions, to each entry of a supplied Iterable.");
     }
 
-    @Override
-    protected void runExamples() {
-        applyFunctionIteratively();
-        applyMultipleFunctions();
-    }
-
+    @ExampleMethod(order = 1)
     public void applyFunctionIteratively() {
         // ---------------------------------------------------------
         final IterableFunction<Integer, Integer> function = new IterableFunction<>(new MultiplyBy(2));
@@ -49,6 +45,7 @@ public class IterableFunctionExample extends FunctionExample {
                 null);
     }
 
+    @ExampleMethod(order = 2)
     public void applyMultipleFunctions() {
         // ---------------------------------------------------------
         final IterableFunction<Integer, Integer> function = new IterableFunction.Builder<Integer>()
@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import com.google.common.collect.Lists;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.LastItem;
 
 public class LastItemExample extends FunctionExample {
@@ -28,12 +29,7 @@ public class LastItemExample extends FunctionExample {
         super(LastItem.class, "For a given Iterable, a LastItem will extract the last item.");
     }
 
-    @Override
-    protected void runExamples() {
-        extractLastItem();
-
-    }
-
+    @ExampleMethod(order = 1)
     public void extractLastItem() {
         // ---------------------------------------------------------
         final LastItem<Integer> function = new LastItem<>();
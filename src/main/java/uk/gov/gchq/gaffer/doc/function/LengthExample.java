@@ -20,6 +20,7 @@ import com.google.common.collect.Lists;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.graph.Walk;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.koryphe.impl.function.Length;
 
@@ -33,11 +34,7 @@ public class LengthExample extends FunctionExample {
         super(Length.class);
     }
 
-    @Override
-    protected void runExamples() {
-        getLength();
-    }
-
+    @ExampleMethod(order = 1)
     public void getLength() {
         // ---------------------------------------------------------
         final Length function = new Length();
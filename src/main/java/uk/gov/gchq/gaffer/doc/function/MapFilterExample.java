@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.MapFilter;
 import uk.gov.gchq.koryphe.impl.predicate.AreEqual;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
@@ -33,13 +34,7 @@ public class MapFilterExample extends FunctionExample {
         super(MapFilter.class, "A Function which applies the given predicates to the keys and/or values");
     }
 
-    @Override
-    protected void runExamples() {
-        filterOnKeys();
-        filterOnValues();
-        filterOnBoth();
-    }
-
+    @ExampleMethod(order = 1)
     public void filterOnKeys() {
 
         // ---------------------------------------------------------
@@ -57,6 +52,7 @@ public class MapFilterExample extends FunctionExample {
 
     }
 
+    @ExampleMethod(order = 2)
     public void filterOnValues() {
 
         // ---------------------------------------------------------
@@ -75,6 +71,7 @@ public class MapFilterExample extends FunctionExample {
 
     }
 
+    @ExampleMethod(order = 3)
     public void filterOnBoth() {
 
         // ---------------------------------------------------------
@@ -20,6 +20,7 @@ import com.google.common.collect.Lists;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.generator.MapGenerator;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 
 public class MapGeneratorExample extends FunctionExample {
     public static void main(final String[] args) {
@@ -30,11 +31,7 @@ public class MapGeneratorExample extends FunctionExample {
         super(MapGenerator.class, "Converts an iterable of elements into an iterable of maps");
     }
 
-    @Override
-    public void runExamples() {
-        elementsToMap();
-    }
-
+    @ExampleMethod(order = 1)
     public void elementsToMap() {
         // ---------------------------------------------------------
         final MapGenerator function = new MapGenerator.Builder()
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.types.FreqMap;
 import uk.gov.gchq.koryphe.impl.function.MapToTuple;
 
@@ -31,11 +32,7 @@ public class MapToTupleExample extends FunctionExample {
         super(MapToTuple.class);
     }
 
-    @Override
-    protected void runExamples() {
-        mapToTuple();
-    }
-
+    @ExampleMethod(order = 1)
     private void mapToTuple() {
         // ---------------------------------------------------------
         final MapToTuple<String> function = new MapToTuple<>();
@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.function;
 import com.google.common.collect.Lists;
 
 import uk.gov.gchq.gaffer.commonutil.CommonTimeUtil;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.time.RBMBackedTimestampSet;
 import uk.gov.gchq.gaffer.time.function.MaskTimestampSetByTimeRange;
 import uk.gov.gchq.koryphe.util.TimeUnit;
@@ -40,11 +41,7 @@ public class MaskTimestampSetByTimeRangeExample extends FunctionExample {
     @Override
     protected void runExamples() {
         setupTimestampSet();
-        maskWithStartDate();
-        maskWithEndDate();
-        maskWithStartAndEndDate();
-        maskWithNoStartOrEndDates();
-        maskWithTimeUnit();
+        runExampleMethods();
     }
 
     private void setupTimestampSet() {
@@ -58,6 +55,7 @@ public class MaskTimestampSetByTimeRangeExample extends FunctionExample {
         timestampSet = new RBMBackedTimestampSet.Builder().timestamps(instants).timeBucket(CommonTimeUtil.TimeBucket.SECOND).build();
     }
 
+    @ExampleMethod(order = 3)
     public void maskWithStartAndEndDate() {
         // ---------------------------------------------------------
         MaskTimestampSetByTimeRange function = new MaskTimestampSetByTimeRange(10000L, 20000L);
@@ -66,6 +64,7 @@ public class MaskTimestampSetByTimeRangeExample extends FunctionExample {
         runExample(function, null, timestampSet);
     }
 
+    @ExampleMethod(order = 2)
     public void maskWithEndDate() {
         // ---------------------------------------------------------
         MaskTimestampSetByTimeRange function = new MaskTimestampSetByTimeRange(null, 20000L);
@@ -74,6 +73,7 @@ public class MaskTimestampSetByTimeRangeExample extends FunctionExample {
         runExample(function, null, timestampSet);
     }
 
+    @ExampleMethod(order = 1)
     public void maskWithStartDate() {
         // ---------------------------------------------------------
         MaskTimestampSetByTimeRange function = new MaskTimestampSetByTimeRange(10000L, null);
@@ -82,6 +82,7 @@ public class MaskTimestampSetByTimeRangeExample extends FunctionExample {
         runExample(function, null, timestampSet);
     }
 
+    @ExampleMethod(order = 4)
     public void maskWithNoStartOrEndDates() {
         // ---------------------------------------------------------
         MaskTimestampSetByTimeRange function = new MaskTimestampSetByTimeRange();
@@ -90,6 +91,7 @@ public class MaskTimestampSetByTimeRangeExample extends FunctionExample {
         runExample(function, null, timestampSet);
     }
 
+    @ExampleMethod(order = 5)
     public void maskWithTimeUnit() {
         // ---------------------------------------------------------
         MaskTimestampSetByTimeRange function = new MaskTimestampSetByTimeRange(10L, 25L, TimeUnit.SECOND);
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.MultiplyBy;
 
 public class MultiplyByExample extends FunctionExample {
@@ -26,11 +27,7 @@ public class MultiplyByExample extends FunctionExample {
         super(MultiplyBy.class, "Multiply the input integer by the provide number.");
     }
 
-    @Override
-    public void runExamples() {
-        multiplyBy2();
-    }
-
+    @ExampleMethod(order = 1)
     public void multiplyBy2() {
         // ---------------------------------------------------------
         final MultiplyBy function = new MultiplyBy(2);
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.Multiply;
 import uk.gov.gchq.koryphe.tuple.n.Tuple2;
 
@@ -27,11 +28,7 @@ public class MultiplyExample extends FunctionExample {
         super(Multiply.class, "The input integers are multiplied together.");
     }
 
-    @Override
-    public void runExamples() {
-        objectMultiply();
-    }
-
+    @ExampleMethod(order = 1)
     public void objectMultiply() {
         // ---------------------------------------------------------
         final Multiply function = new Multiply();
@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import com.google.common.collect.Lists;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.NthItem;
 
 public class NthItemExample extends FunctionExample {
@@ -28,11 +29,7 @@ public class NthItemExample extends FunctionExample {
         super(NthItem.class, "For a given Iterable, an NthItem will extract the item at the Nth index, where n is a user-provided selection. (Consider that this is array-backed, so a selection of \"1\" will extract the item at index 1, ie the 2nd item)\"");
     }
 
-    @Override
-    protected void runExamples() {
-        extractNthItem();
-    }
-
+    @ExampleMethod(order = 1)
     public void extractNthItem() {
         // ---------------------------------------------------------
         final NthItem<Integer> function = new NthItem<>(2);
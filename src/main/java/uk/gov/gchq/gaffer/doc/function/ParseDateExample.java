@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ParseDate;
 
 public class ParseDateExample extends FunctionExample {
@@ -27,12 +28,7 @@ public class ParseDateExample extends FunctionExample {
         super(ParseDate.class);
     }
 
-    @Override
-    protected void runExamples() {
-        parseDateGreenwichMeanTimePlus4Hours();
-        parseDateGreenwichMeanTimePlus0Hours();
-    }
-
+    @ExampleMethod(order = 1)
     private void parseDateGreenwichMeanTimePlus4Hours() {
         // ---------------------------------------------------------
         final ParseDate parseDate = new ParseDate();
@@ -47,6 +43,7 @@ public class ParseDateExample extends FunctionExample {
         );
     }
 
+    @ExampleMethod(order = 2)
     private void parseDateGreenwichMeanTimePlus0Hours() {
         // ---------------------------------------------------------
         final ParseDate parseDate = new ParseDate();
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ParseTime;
 
 public class ParseTimeExample extends FunctionExample {
@@ -27,13 +28,7 @@ public class ParseTimeExample extends FunctionExample {
         super(ParseTime.class);
     }
 
-    @Override
-    protected void runExamples() {
-        parseTime();
-        parseFormattedTime();
-        parseFormattedGreenwichMeanTime();
-    }
-
+    @ExampleMethod(order = 1)
     private void parseTime() {
         // ---------------------------------------------------------
         final ParseTime parseTime = new ParseTime();
@@ -44,6 +39,7 @@ public class ParseTimeExample extends FunctionExample {
                 "1885-01-01 12:00:00.000");
     }
 
+    @ExampleMethod(order = 2)
     private void parseFormattedTime() {
         // ---------------------------------------------------------
         final ParseTime parseTime = new ParseTime().format("yyyy-MM hh:mm");
@@ -54,6 +50,7 @@ public class ParseTimeExample extends FunctionExample {
                 "2015-10-21 16:29");
     }
 
+    @ExampleMethod(order = 3)
     private void parseFormattedGreenwichMeanTime() {
         // ---------------------------------------------------------
         final ParseTime parseTime = new ParseTime()
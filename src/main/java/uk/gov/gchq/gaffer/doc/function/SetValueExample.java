@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.SetValue;
 
 import java.util.Arrays;
@@ -29,11 +30,7 @@ public class SetValueExample extends FunctionExample {
         super(SetValue.class, "Returns a set value from any input.");
     }
 
-    @Override
-    public void runExamples() {
-        setValue();
-    }
-
+    @ExampleMethod(order = 1)
     public void setValue() {
         // ---------------------------------------------------------
         final SetValue function = new SetValue(5);
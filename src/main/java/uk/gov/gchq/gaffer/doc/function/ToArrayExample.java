@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.types.TypeSubTypeValue;
 import uk.gov.gchq.koryphe.impl.function.ToArray;
 
@@ -34,11 +35,7 @@ public class ToArrayExample extends FunctionExample {
         super(ToArray.class, "Converts an Object to a List");
     }
 
-    @Override
-    public void runExamples() {
-        toArray();
-    }
-
+    @ExampleMethod(order = 1)
     public void toArray() {
         // ---------------------------------------------------------
         final ToArray function = new ToArray();
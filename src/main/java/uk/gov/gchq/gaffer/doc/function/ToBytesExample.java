@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ToBytes;
 
 import java.nio.charset.StandardCharsets;
@@ -29,11 +30,7 @@ public class ToBytesExample extends FunctionExample {
         super(ToBytes.class);
     }
 
-    @Override
-    protected void runExamples() {
-        stringToBytes();
-    }
-
+    @ExampleMethod(order = 1)
     private void stringToBytes() {
         // ---------------------------------------------------------
         final ToBytes toBytes = new ToBytes(StandardCharsets.UTF_16);
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ToDateString;
 
 import java.util.Date;
@@ -29,13 +30,7 @@ public class ToDateStringExample extends FunctionExample {
         super(ToDateString.class);
     }
 
-    @Override
-    protected void runExamples() {
-        toDateStringMicroFormatted();
-        toDateStringShortFormattedToMin();
-        toDateStringShortFormattedToDay();
-    }
-
+    @ExampleMethod(order = 1)
     private void toDateStringMicroFormatted() {
         // ---------------------------------------------------------
         final ToDateString function = new ToDateString("yyyy-MM-dd HH:mm:ss.SSS");
@@ -48,6 +43,7 @@ public class ToDateStringExample extends FunctionExample {
         );
     }
 
+    @ExampleMethod(order = 2)
     private void toDateStringShortFormattedToMin() {
         // ---------------------------------------------------------
         final ToDateString function = new ToDateString("yy-MM-dd HH:mm");
@@ -61,6 +57,7 @@ public class ToDateStringExample extends FunctionExample {
         );
     }
 
+    @ExampleMethod(order = 3)
     private void toDateStringShortFormattedToDay() {
         // ---------------------------------------------------------
         final ToDateString function = new ToDateString("yy-MM-dd");
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.types.TypeValue;
 import uk.gov.gchq.gaffer.types.function.ToFreqMap;
 
@@ -32,11 +33,7 @@ public class ToFreqMapExample extends FunctionExample {
     }
 
 
-    @Override
-    protected void runExamples() {
-        toFreqMap();
-    }
-
+    @ExampleMethod(order = 1)
     private void toFreqMap() {
         // ---------------------------------------------------------
         Function toFreqMap = new ToFreqMap();
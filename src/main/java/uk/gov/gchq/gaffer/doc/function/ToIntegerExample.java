@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ToInteger;
 
 import java.util.Arrays;
@@ -29,11 +30,7 @@ public class ToIntegerExample extends FunctionExample {
         super(ToInteger.class, "Returns any input as Integer.");
     }
 
-    @Override
-    public void runExamples() {
-        toInteger();
-    }
-
+    @ExampleMethod(order = 1)
     public void toInteger() {
         // ---------------------------------------------------------
         final ToInteger function = new ToInteger();
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.types.TypeSubTypeValue;
 import uk.gov.gchq.koryphe.impl.function.ToList;
 
@@ -33,11 +34,7 @@ public class ToListExample extends FunctionExample {
         super(ToList.class, "Converts an Object to a List");
     }
 
-    @Override
-    public void runExamples() {
-        toList();
-    }
-
+    @ExampleMethod(order = 1)
     public void toList() {
         // ---------------------------------------------------------
         final ToList function = new ToList();
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ToLong;
 
 import java.util.Arrays;
@@ -29,11 +30,7 @@ public class ToLongExample extends FunctionExample {
         super(ToLong.class, "Returns any input as Long.");
     }
 
-    @Override
-    public void runExamples() {
-        toLong();
-    }
-
+    @ExampleMethod(order = 1)
     public void toLong() {
         // ---------------------------------------------------------
         final ToLong function = new ToLong();
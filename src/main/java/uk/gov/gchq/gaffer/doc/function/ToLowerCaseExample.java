@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ToLowerCase;
 
 import java.util.Arrays;
@@ -29,11 +30,7 @@ public class ToLowerCaseExample extends FunctionExample {
         super(ToLowerCase.class, "Performs toLowerCase on input object.");
     }
 
-    @Override
-    public void runExamples() {
-        toLowerCase();
-    }
-
+    @ExampleMethod(order = 1)
     public void toLowerCase() {
         // ---------------------------------------------------------
         final ToLowerCase function = new ToLowerCase();
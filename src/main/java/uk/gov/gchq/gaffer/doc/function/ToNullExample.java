@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ToNull;
 
 import java.util.Arrays;
@@ -29,11 +30,7 @@ public class ToNullExample extends FunctionExample {
         super(ToNull.class, "Returns null on any input object.");
     }
 
-    @Override
-    public void runExamples() {
-        toNull();
-    }
-
+    @ExampleMethod(order = 1)
     public void toNull() {
         // ---------------------------------------------------------
         final ToNull function = new ToNull();
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.types.TypeSubTypeValue;
 import uk.gov.gchq.koryphe.impl.function.ToSet;
 
@@ -32,11 +33,7 @@ public class ToSetExample extends FunctionExample {
         super(ToSet.class, "Converts an Object to a Set");
     }
 
-    @Override
-    public void runExamples() {
-        toList();
-    }
-
+    @ExampleMethod(order = 1)
     public void toList() {
         // ---------------------------------------------------------
         final ToSet function = new ToSet();
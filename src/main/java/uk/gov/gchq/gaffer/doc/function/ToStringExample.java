@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ToString;
 
 public class ToStringExample extends FunctionExample {
@@ -26,11 +27,7 @@ public class ToStringExample extends FunctionExample {
         super(ToString.class, "toString is simply called on each input. If the input is null, null is returned.");
     }
 
-    @Override
-    public void runExamples() {
-        objectToString();
-    }
-
+    @ExampleMethod(order = 1)
     public void objectToString() {
         // ---------------------------------------------------------
         final ToString function = new ToString();
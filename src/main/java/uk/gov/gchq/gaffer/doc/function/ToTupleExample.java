@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import com.google.common.collect.Lists;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ToTuple;
 
 import java.util.HashMap;
@@ -32,11 +33,7 @@ public class ToTupleExample extends FunctionExample {
         super(ToTuple.class);
     }
 
-    @Override
-    protected void runExamples() {
-        toTuple();
-    }
-
+    @ExampleMethod(order = 1)
     private void toTuple() {
         // ---------------------------------------------------------
         final ToTuple function = new ToTuple();
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.types.TypeValue;
 import uk.gov.gchq.gaffer.types.function.ToTypeSubTypeValue;
 
@@ -31,11 +32,7 @@ public class ToTypeSubTypeValueExample extends FunctionExample {
         new ToTypeSubTypeValueExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        toTypeSubTypeValue();
-    }
-
+    @ExampleMethod(order = 1)
     private void toTypeSubTypeValue() {
         // ---------------------------------------------------------
         Function toTypeSubTypeValue = new ToTypeSubTypeValue();
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.types.TypeValue;
 import uk.gov.gchq.gaffer.types.function.ToTypeValue;
 
@@ -31,11 +32,7 @@ public class ToTypeValueExample extends FunctionExample {
         new ToTypeValueExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        toTypeValue();
-    }
-
+    @ExampleMethod(order = 1)
     private void toTypeValue() {
         // ---------------------------------------------------------
         Function toTypeValue = new ToTypeValue();
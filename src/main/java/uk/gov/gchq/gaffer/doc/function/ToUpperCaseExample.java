@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.function;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.function.ToUpperCase;
 
 import java.util.Arrays;
@@ -29,11 +30,7 @@ public class ToUpperCaseExample extends FunctionExample {
         super(ToUpperCase.class, "Returns null on any input object.");
     }
 
-    @Override
-    public void runExamples() {
-        toUpperCase();
-    }
-
+    @ExampleMethod(order = 1)
     public void toUpperCase() {
         // ---------------------------------------------------------
         final ToUpperCase function = new ToUpperCase();
@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.function;
 
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.function.UnwrapEntityId;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 
 public class UnwrapEntityIdExample extends FunctionExample {
@@ -28,11 +29,7 @@ public class UnwrapEntityIdExample extends FunctionExample {
         super(UnwrapEntityId.class, "If the object is an EntityId, the vertex value will be unwrapped and returned, otherwise the original object will be returned.");
     }
 
-    @Override
-    public void runExamples() {
-        unwrapEntityIds();
-    }
-
+    @ExampleMethod(order = 1)
     public void unwrapEntityIds() {
         // ---------------------------------------------------------
         final UnwrapEntityId function = new UnwrapEntityId();
@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.user.User;
@@ -30,17 +31,9 @@ public class AddElementsExample extends OperationExample {
         super(AddElements.class);
     }
 
-    @Override
-    public void runExamples() {
-        try {
-            addElements();
-        } catch (final OperationException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
+    @ExampleMethod(order = 1)
     public void addElements() throws OperationException {
-        print("### " + getMethodNameAsSentence(0) + "\n");
+        print("### " + getExampleMethodTitle() + "\n");
         printSimpleGraphAsAscii();
 
         final AddElements operation = new AddElements.Builder()
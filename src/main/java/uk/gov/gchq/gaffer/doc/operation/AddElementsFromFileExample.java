@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.doc.operation.generator.ElementGenerator;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElementsFromFile;
 
@@ -28,11 +29,7 @@ public class AddElementsFromFileExample extends OperationExample {
         super(AddElementsFromFile.class, "This is not a core operation. To enable it to be handled by Apache Flink, see [flink-library/README.md](https://github.com/gchq/Gaffer/blob/master/library/flink-library/README.md)");
     }
 
-    @Override
-    public void runExamples() {
-        addElementsFromFile();
-    }
-
+    @ExampleMethod(order = 1)
     public void addElementsFromFile() {
         // ---------------------------------------------------------
         final AddElementsFromFile op = new AddElementsFromFile.Builder()
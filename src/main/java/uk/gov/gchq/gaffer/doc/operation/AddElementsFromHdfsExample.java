@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.operation;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import uk.gov.gchq.gaffer.doc.operation.generator.TextMapperGeneratorImpl;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.hdfs.operation.AddElementsFromHdfs;
 import uk.gov.gchq.gaffer.hdfs.operation.SampleDataForSplitPoints;
@@ -62,14 +63,8 @@ public class AddElementsFromHdfsExample extends OperationExample {
                 "If there is no optimal number within the provided range an exception is thrown.");
     }
 
-    @Override
-    public void runExamples() {
-        addElementsFromHdfs();
-        addElementsFromHdfsMainMethod();
-        addElementsFromHdfsWithMultipleInput();
-    }
-
     @SuppressFBWarnings("REC_CATCH_EXCEPTION")
+    @ExampleMethod(order = 2)
     private void addElementsFromHdfsMainMethod() {
         try {
             // ---------------------------------------------------------
@@ -111,6 +106,7 @@ public class AddElementsFromHdfsExample extends OperationExample {
     }
 
     @SuppressFBWarnings("DLS_DEAD_LOCAL_STORE")
+    @ExampleMethod(order = 1)
     public void addElementsFromHdfs() {
         // ---------------------------------------------------------
         final AddElementsFromHdfs operation = new AddElementsFromHdfs.Builder()
@@ -130,6 +126,7 @@ public class AddElementsFromHdfsExample extends OperationExample {
     }
 
     @SuppressFBWarnings("DLS_DEAD_LOCAL_STORE")
+    @ExampleMethod(order = 3)
     public void addElementsFromHdfsWithMultipleInput() {
         // ---------------------------------------------------------
         final Map<String, String> inputMapperMap = new HashMap<>();
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.doc.operation.generator.ElementGenerator;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElementsFromKafka;
 
@@ -29,11 +30,7 @@ public class AddElementsFromKafkaExample extends OperationExample {
 
     }
 
-    @Override
-    public void runExamples() {
-        addElementsFromKafka();
-    }
-
+    @ExampleMethod(order = 1)
     public void addElementsFromKafka() {
         // ---------------------------------------------------------
         final AddElementsFromKafka op = new AddElementsFromKafka.Builder()
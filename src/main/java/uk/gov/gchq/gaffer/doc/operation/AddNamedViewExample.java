@@ -22,6 +22,7 @@ import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewParameterDetail;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.named.view.AddNamedView;
 import uk.gov.gchq.gaffer.named.view.DeleteNamedView;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -38,12 +39,7 @@ public class AddNamedViewExample extends OperationExample {
         super(AddNamedView.class, "See [NamedViews](../developer-guide/namedviews.md) for information on configuring NamedViews for your Gaffer graph, along with working examples.");
     }
 
-    @Override
-    protected void runExamples() {
-        addNamedView();
-        addNamedViewWithParameter();
-    }
-
+    @ExampleMethod(order = 1)
     public void addNamedView() {
         // ---------------------------------------------------------
         final AddNamedView op = new AddNamedView.Builder()
@@ -72,6 +68,7 @@ public class AddNamedViewExample extends OperationExample {
         }
     }
 
+    @ExampleMethod(order = 2)
     public void addNamedViewWithParameter() {
         // ---------------------------------------------------------
         final String viewJson = "{\"edges\" : {\n" +
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.impl.function.Aggregate;
 import uk.gov.gchq.gaffer.operation.util.AggregatePair;
 import uk.gov.gchq.koryphe.impl.binaryoperator.StringConcat;
@@ -30,12 +31,7 @@ public class AggregateExample extends OperationExample {
         super(Aggregate.class, "The Aggregate operation would normally be used in an Operation Chain to aggregate the results of a previous operation.");
     }
 
-    @Override
-    public void runExamples() {
-        simpleAggregateElementsExample();
-        aggregateOnlyEdgesOfTypeEdgeWithATransientPropertyAndProvidedAggregator();
-    }
-
+    @ExampleMethod(order = 1)
     public void simpleAggregateElementsExample() {
         // ---------------------------------------------------------
         final Aggregate aggregate = new Aggregate();
@@ -44,6 +40,7 @@ public class AggregateExample extends OperationExample {
         showExample(aggregate, null);
     }
 
+    @ExampleMethod(order = 2)
     public void aggregateOnlyEdgesOfTypeEdgeWithATransientPropertyAndProvidedAggregator() {
         // ---------------------------------------------------------
         final String[] groupBy = {};
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.jobtracker.Job;
 import uk.gov.gchq.gaffer.jobtracker.JobDetail;
 import uk.gov.gchq.gaffer.jobtracker.Repeat;
@@ -43,11 +44,10 @@ public class CancelScheduledJobExample extends OperationExample {
     @Override
     protected void runExamples() {
         jobId = createJobId();
-        scheduledJobBeforeBeingCancelled();
-        cancelScheduledJob();
-        scheduledJobAfterBeingCancelled();
+        runExampleMethods();
     }
 
+    @ExampleMethod(order = 1)
     public JobDetail scheduledJobBeforeBeingCancelled() {
         // ---------------------------------------------------------
         final OperationChain<JobDetail> operationChain = new OperationChain.Builder()
@@ -58,6 +58,7 @@ public class CancelScheduledJobExample extends OperationExample {
         return runExample(operationChain, null);
     }
 
+    @ExampleMethod(order = 3)
     public JobDetail scheduledJobAfterBeingCancelled() {
         // ---------------------------------------------------------
         final OperationChain<JobDetail> operationChain = new OperationChain.Builder()
@@ -68,6 +69,7 @@ public class CancelScheduledJobExample extends OperationExample {
         return runExample(operationChain, null);
     }
 
+    @ExampleMethod(order = 2)
     public void cancelScheduledJob() {
 
         // ---------------------------------------------------------
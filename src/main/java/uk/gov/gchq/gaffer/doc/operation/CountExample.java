@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.impl.Count;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
@@ -30,11 +31,7 @@ public class CountExample extends OperationExample {
         super(Count.class, "Counts the number of items in an iterable");
     }
 
-    @Override
-    protected void runExamples() {
-        countAllElements();
-    }
-
+    @ExampleMethod(order = 1)
     public Long countAllElements() {
         // ---------------------------------------------------------
         OperationChain<Long> countAllElements = new OperationChain.Builder()
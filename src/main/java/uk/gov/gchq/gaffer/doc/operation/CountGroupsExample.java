@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.GroupCounts;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.CountGroups;
@@ -30,12 +31,7 @@ public class CountGroupsExample extends OperationExample {
         super(CountGroups.class);
     }
 
-    @Override
-    public void runExamples() {
-        countAllElementGroups();
-        countAllElementGroupsWithLimit();
-    }
-
+    @ExampleMethod(order = 1)
     public GroupCounts countAllElementGroups() {
         // ---------------------------------------------------------
         final OperationChain<GroupCounts> opChain = new OperationChain.Builder()
@@ -47,6 +43,7 @@ public class CountGroupsExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 2)
     public GroupCounts countAllElementGroupsWithLimit() {
         // ---------------------------------------------------------
         final OperationChain<GroupCounts> opChain = new OperationChain.Builder()
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.named.view.DeleteNamedView;
 import uk.gov.gchq.gaffer.operation.OperationException;
 
@@ -28,11 +29,7 @@ public class DeleteNamedViewExample extends OperationExample {
         super(DeleteNamedView.class, "See [NamedViews](../developer-guide/namedviews.md) for information on configuring NamedViews for your Gaffer graph, along with working examples.");
     }
 
-    @Override
-    protected void runExamples() {
-        deleteNamedView();
-    }
-
+    @ExampleMethod(order = 1)
     public void deleteNamedView() {
         // ---------------------------------------------------------
         final DeleteNamedView op = new DeleteNamedView.Builder()
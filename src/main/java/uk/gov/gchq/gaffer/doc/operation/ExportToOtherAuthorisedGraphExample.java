@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.export.graph.ExportToOtherAuthorisedGraph;
@@ -34,12 +35,7 @@ public class ExportToOtherAuthorisedGraphExample extends OperationExample {
                 ", and then set this property: gaffer.store.operation.declarations=/path/to/ExportToOtherAuthorisedGraphOperationDeclarations.json\n");
     }
 
-    @Override
-    public void runExamples() {
-        exportToPreconfiguredGraph();
-        exportToNewGraphUsingPreconfiguredSchemaAndProperties();
-    }
-
+    @ExampleMethod(order = 1)
     public void exportToPreconfiguredGraph() {
 
         // ---------------------------------------------------------
@@ -61,6 +57,7 @@ public class ExportToOtherAuthorisedGraphExample extends OperationExample {
                 "In order to export to graph2 the user must have the required user authorisations that were configured for this operation.");
     }
 
+    @ExampleMethod(order = 2)
     public void exportToNewGraphUsingPreconfiguredSchemaAndProperties() {
 
         // ---------------------------------------------------------
@@ -21,6 +21,7 @@ import uk.gov.gchq.gaffer.accumulostore.AccumuloProperties;
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -52,13 +53,7 @@ public class ExportToOtherGraphExample extends OperationExample {
 
     @Override
     public void runExamples() {
-        simpleExport();
-        simpleExportWithCustomGraph();
-        simpleToOtherGafferRestApi();
-        deleteTheOldGraphLibraryGraph1();
-        simpleExportUsingGraphFromGraphLibrary();
-        deleteTheOldGraphLibraryGraph1();
-        exportToNewGraphBasedOnConfigFromGraphLibrary();
+        runExampleMethods();
         cleanUp();
     }
 
@@ -73,6 +68,7 @@ public class ExportToOtherGraphExample extends OperationExample {
         }
     }
 
+    @ExampleMethod(order = 1)
     public void simpleExport() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends Element>> opChain =
@@ -93,6 +89,7 @@ public class ExportToOtherGraphExample extends OperationExample {
                 "In this case it will just create another table in accumulo called 'newGraphId'.");
     }
 
+    @ExampleMethod(order = 2)
     public void simpleExportWithCustomGraph() {
         // ---------------------------------------------------------
         final Schema schema = Schema.fromJson(StreamUtil.openStreams(getClass(), "operations/schema"));
@@ -117,6 +114,7 @@ public class ExportToOtherGraphExample extends OperationExample {
                 "The store properties could be any store properties e.g. Accumulo, HBase, Map, Proxy store properties.");
     }
 
+    @ExampleMethod(order = 3)
     public void simpleToOtherGafferRestApi() {
         // ---------------------------------------------------------
         final ProxyProperties proxyProperties = new ProxyProperties();
@@ -145,7 +143,9 @@ public class ExportToOtherGraphExample extends OperationExample {
                 "Note that you will need to include the proxy-store module as a maven dependency to do this.");
     }
 
+    @ExampleMethod(order = 4)
     public void simpleExportUsingGraphFromGraphLibrary() {
+        deleteTheOldGraphLibraryGraph1();
         // ---------------------------------------------------------
         // Setup the graphLibrary with an export graph
         final GraphLibrary graphLibrary = new FileGraphLibrary("target/graphLibrary");
@@ -194,7 +194,9 @@ public class ExportToOtherGraphExample extends OperationExample {
                 "This means the user does not have to proxy all the schema and store properties when they configure the export operation, they can just provide the ID.");
     }
 
+    @ExampleMethod(order = 5)
     public void exportToNewGraphBasedOnConfigFromGraphLibrary() {
+        deleteTheOldGraphLibraryGraph1();
         // ---------------------------------------------------------
         // Setup the graphLibrary with a schema and store properties for exporting
         final GraphLibrary graphLibrary = new FileGraphLibrary("target/graphLibrary");
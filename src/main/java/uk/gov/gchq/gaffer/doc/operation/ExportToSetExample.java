@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.DiscardOutput;
@@ -35,13 +36,7 @@ public class ExportToSetExample extends OperationExample {
         super(ExportToSet.class);
     }
 
-    @Override
-    public void runExamples() {
-        simpleExportAndGet();
-        simpleExportAndGetWithPagination();
-        exportMultipleResultsToSetAndGetAllResults();
-    }
-
+    @ExampleMethod(order = 1)
     public Iterable<?> simpleExportAndGet() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<?>> opChain = new OperationChain.Builder()
@@ -55,6 +50,7 @@ public class ExportToSetExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 2)
     public Iterable<?> simpleExportAndGetWithPagination() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<?>> opChain = new OperationChain.Builder()
@@ -72,6 +68,7 @@ public class ExportToSetExample extends OperationExample {
     }
 
 
+    @ExampleMethod(order = 3)
     public Map<String, CloseableIterable<?>> exportMultipleResultsToSetAndGetAllResults() {
         // ---------------------------------------------------------
         final OperationChain<Map<String, CloseableIterable<?>>> opChain = new OperationChain.Builder()
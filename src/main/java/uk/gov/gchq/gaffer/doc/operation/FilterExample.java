@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.named.operation.AddNamedOperation;
 import uk.gov.gchq.gaffer.named.operation.DeleteNamedOperation;
 import uk.gov.gchq.gaffer.named.operation.NamedOperation;
@@ -50,8 +51,7 @@ public class FilterExample extends OperationExample {
             throw new RuntimeException(e);
         }
 
-        allElementsWithACountMoreThan2();
-        allEdgesOfTypeEdgeWithCountMoreThan2();
+        runExampleMethods();
 
         try {
             getGraph().execute(new DeleteNamedOperation.Builder()
@@ -63,6 +63,7 @@ public class FilterExample extends OperationExample {
         }
     }
 
+    @ExampleMethod(order = 1)
     public void allElementsWithACountMoreThan2() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends Element>> opChain = new OperationChain.Builder()
@@ -82,6 +83,7 @@ public class FilterExample extends OperationExample {
         runExample(opChain, "The filter will only return elements (Entities and Edges) with a count more than 2. The results show the Edge 1->4 that has a count of 1 has been removed.");
     }
 
+    @ExampleMethod(order = 2)
     public void allEdgesOfTypeEdgeWithCountMoreThan2() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends Element>> opChain = new OperationChain.Builder()
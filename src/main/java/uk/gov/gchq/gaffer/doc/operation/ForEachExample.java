@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -33,11 +34,7 @@ public class ForEachExample extends OperationExample {
         new ForEachExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        forEachInChainExample();
-    }
-
+    @ExampleMethod(order = 1)
     public Iterable<?> forEachInChainExample() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<?>> opChain = new OperationChain.Builder()
@@ -20,6 +20,7 @@ import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.generator.OneToOneElementGenerator;
 import uk.gov.gchq.gaffer.doc.operation.generator.ElementGenerator;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.generate.GenerateElements;
 
@@ -32,12 +33,7 @@ public class GenerateElementsExample extends OperationExample {
         super(GenerateElements.class);
     }
 
-    @Override
-    public void runExamples() {
-        generateElementsFromStrings();
-        generateElementsFromDomainObjects();
-    }
-
+    @ExampleMethod(order = 1)
     public Iterable<? extends Element> generateElementsFromStrings() {
         // ---------------------------------------------------------
         final GenerateElements<String> operation = new GenerateElements.Builder<String>()
@@ -49,6 +45,7 @@ public class GenerateElementsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public Iterable<? extends Element> generateElementsFromDomainObjects() {
         // ---------------------------------------------------------
         final GenerateElements<Object> operation = new GenerateElements.Builder<>()
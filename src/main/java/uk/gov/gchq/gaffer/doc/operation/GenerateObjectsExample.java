@@ -23,6 +23,7 @@ import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.generator.OneToOneObjectGenerator;
 import uk.gov.gchq.gaffer.doc.operation.generator.ObjectGenerator;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.impl.generate.GenerateObjects;
 
 public class GenerateObjectsExample extends OperationExample {
@@ -34,12 +35,7 @@ public class GenerateObjectsExample extends OperationExample {
         super(GenerateObjects.class);
     }
 
-    @Override
-    public void runExamples() {
-        generateStringsFromElements();
-        generateDomainObjectsFromElements();
-    }
-
+    @ExampleMethod(order = 1)
     public Iterable<? extends String> generateStringsFromElements() {
         // ---------------------------------------------------------
         final GenerateObjects<String> operation = new GenerateObjects.Builder<String>()
@@ -60,6 +56,7 @@ public class GenerateObjectsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public Iterable<?> generateDomainObjectsFromElements() {
         // ---------------------------------------------------------
         final GenerateObjects<Object> operation = new GenerateObjects.Builder<>()
@@ -20,6 +20,7 @@ import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.operation.graph.SeededGraphFilters.IncludeIncomingOutgoingType;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
@@ -34,13 +35,7 @@ public class GetAdjacentIdsExample extends OperationExample {
         super(GetAdjacentIds.class);
     }
 
-    @Override
-    public void runExamples() {
-        getAdjacentIdsFromVertex2();
-        getAdjacentIdsAlongOutboundEdgesFromVertex2();
-        getAdjacentIdsAlongOutboundEdgesFromVertex2WithCountGreaterThan1();
-    }
-
+    @ExampleMethod(order = 1)
     public CloseableIterable<? extends EntityId> getAdjacentIdsFromVertex2() {
         // ---------------------------------------------------------
         final GetAdjacentIds operation = new GetAdjacentIds.Builder()
@@ -51,6 +46,7 @@ public class GetAdjacentIdsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public CloseableIterable<? extends EntityId> getAdjacentIdsAlongOutboundEdgesFromVertex2() {
         // ---------------------------------------------------------
         final GetAdjacentIds operation = new GetAdjacentIds.Builder()
@@ -62,6 +58,7 @@ public class GetAdjacentIdsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 3)
     public CloseableIterable<? extends EntityId> getAdjacentIdsAlongOutboundEdgesFromVertex2WithCountGreaterThan1() {
         // ---------------------------------------------------------
         final GetAdjacentIds operation = new GetAdjacentIds.Builder()
@@ -20,6 +20,7 @@ import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
@@ -32,12 +33,7 @@ public class GetAllElementsExample extends OperationExample {
         super(GetAllElements.class);
     }
 
-    @Override
-    public void runExamples() {
-        getAllElements();
-        getAllElementsWithCountGreaterThan2();
-    }
-
+    @ExampleMethod(order = 1)
     public CloseableIterable<? extends Element> getAllElements() {
         // ---------------------------------------------------------
         final GetAllElements operation = new GetAllElements();
@@ -46,6 +42,7 @@ public class GetAllElementsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public CloseableIterable<? extends Element> getAllElementsWithCountGreaterThan2() {
         // ---------------------------------------------------------
         final GetAllElements operation = new GetAllElements.Builder()
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.jobtracker.JobDetail;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.job.GetAllJobDetails;
@@ -29,11 +30,7 @@ public class GetAllJobDetailsExample extends OperationExample {
         super(GetAllJobDetails.class);
     }
 
-    @Override
-    public void runExamples() {
-        getAllJobDetails();
-    }
-
+    @ExampleMethod(order = 1)
     public CloseableIterable<JobDetail> getAllJobDetails() {
         // ---------------------------------------------------------
         final GetAllJobDetails operation = new GetAllJobDetails();
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.named.view.GetAllNamedViews;
 import uk.gov.gchq.gaffer.operation.OperationException;
 
@@ -28,11 +29,7 @@ public class GetAllNamedViewsExample extends OperationExample {
         super(GetAllNamedViews.class, "See [NamedViews](../developer-guide/namedviews.md) for information on configuring NamedViews for your Gaffer graph, along with working examples.");
     }
 
-    @Override
-    protected void runExamples() {
-        getAllNamedViews();
-    }
-
+    @ExampleMethod(order = 1)
     public void getAllNamedViews() {
         // ---------------------------------------------------------
         final GetAllNamedViews op = new GetAllNamedViews();
@@ -23,6 +23,7 @@ import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.element.id.DirectedType;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
@@ -40,22 +41,7 @@ public class GetElementsExample extends OperationExample {
         new GetElementsExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        getEntitiesAndEdgesByEntityId2AndEdgeId2to3();
-        getEntitiesAndEdgesByEntityId2AndEdgeId2to3WithCountMoreThan1();
-
-        getEntitiesAndEdgesThatAreRelatedToVertex2();
-        getAllEntitiesAndEdgesThatAreRelatedToEdge1to2();
-        getAllEntitiesAndEdgesThatAreRelatedToEdge1to2WithCountMoreThan1();
-
-        getEntitiesRelatedTo2WithCountLessThan2OrMoreThan5();
-        getEdgesRelatedTo2WhenSourceIsLessThan2OrDestinationIsMoreThan3();
-
-        getEntitiesAndReturnOnlySomeProperties();
-        getEntitiesAndExcludeProperties();
-    }
-
+    @ExampleMethod(order = 3)
     public CloseableIterable<? extends Element> getEntitiesAndEdgesThatAreRelatedToVertex2() {
         // ---------------------------------------------------------
         final GetElements operation = new GetElements.Builder()
@@ -66,6 +52,7 @@ public class GetElementsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 4)
     public CloseableIterable<? extends Element> getAllEntitiesAndEdgesThatAreRelatedToEdge1to2() {
         // ---------------------------------------------------------
         final GetElements operation = new GetElements.Builder()
@@ -76,6 +63,7 @@ public class GetElementsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 5)
     public CloseableIterable<? extends Element> getAllEntitiesAndEdgesThatAreRelatedToEdge1to2WithCountMoreThan1() {
         // ---------------------------------------------------------
         final GetElements operation = new GetElements.Builder()
@@ -100,6 +88,7 @@ public class GetElementsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 1)
     public CloseableIterable<? extends Element> getEntitiesAndEdgesByEntityId2AndEdgeId2to3() {
         // ---------------------------------------------------------
         final GetElements operation = new GetElements.Builder()
@@ -110,6 +99,7 @@ public class GetElementsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public CloseableIterable<? extends Element> getEntitiesAndEdgesByEntityId2AndEdgeId2to3WithCountMoreThan1() {
         // ---------------------------------------------------------
         final GetElements operation = new GetElements.Builder()
@@ -134,6 +124,7 @@ public class GetElementsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 6)
     public CloseableIterable<? extends Element> getEntitiesRelatedTo2WithCountLessThan2OrMoreThan5() {
         // ---------------------------------------------------------
         final GetElements operation = new GetElements.Builder()
@@ -154,6 +145,7 @@ public class GetElementsExample extends OperationExample {
                 "When using an Or predicate with a single selected value you can just do 'select(propertyName)' then 'execute(new Or(predicates))'");
     }
 
+    @ExampleMethod(order = 7)
     public CloseableIterable<? extends Element> getEdgesRelatedTo2WhenSourceIsLessThan2OrDestinationIsMoreThan3() {
         // ---------------------------------------------------------
         final GetElements operation = new GetElements.Builder()
@@ -182,6 +174,7 @@ public class GetElementsExample extends OperationExample {
                         "When selecting values in the Or.Builder you need to refer to the position in the [a,b,c] array. So to use property 'a', use position 0 - select(0).");
     }
 
+    @ExampleMethod(order = 8)
     public CloseableIterable<? extends Element> getEntitiesAndReturnOnlySomeProperties() {
         // ---------------------------------------------------------
         final Concat concat = new Concat();
@@ -205,6 +198,7 @@ public class GetElementsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 9)
     public CloseableIterable<? extends Element> getEntitiesAndExcludeProperties() {
         // ---------------------------------------------------------
         final Concat concat = new Concat();
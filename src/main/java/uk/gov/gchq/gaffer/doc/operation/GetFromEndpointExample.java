@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.impl.get.GetFromEndpoint;
 public class GetFromEndpointExample extends OperationExample {
 
@@ -27,11 +28,7 @@ public class GetFromEndpointExample extends OperationExample {
         new GetFromEndpointExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        getFromEndpoint();
-    }
-
+    @ExampleMethod(order = 1)
     private void getFromEndpoint() {
         // ---------------------------------------------------------
         final GetFromEndpoint get = new GetFromEndpoint.Builder()
@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.operation;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.jobtracker.JobDetail;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -42,14 +43,7 @@ public class GetGafferResultCacheExportExample extends OperationExample {
         super(GetGafferResultCacheExport.class);
     }
 
-    @Override
-    public void runExamples() {
-        simpleExportAndGet();
-        exportAndGetJobDetails();
-        getExport();
-        exportMultipleResultsToGafferResultCacheAndGetAllResults();
-    }
-
+    @ExampleMethod(order = 1)
     public CloseableIterable<?> simpleExportAndGet() {
         // ---------------------------------------------------------
         final OperationChain<CloseableIterable<?>> opChain = new OperationChain.Builder()
@@ -63,6 +57,7 @@ public class GetGafferResultCacheExportExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 2)
     public JobDetail exportAndGetJobDetails() {
         // ---------------------------------------------------------
         final OperationChain<JobDetail> opChain = new OperationChain.Builder()
@@ -77,6 +72,7 @@ public class GetGafferResultCacheExportExample extends OperationExample {
         return jobDetail;
     }
 
+    @ExampleMethod(order = 3)
     public CloseableIterable<?> getExport() {
         // ---------------------------------------------------------
         final OperationChain<CloseableIterable<?>> opChain = new OperationChain.Builder()
@@ -89,6 +85,7 @@ public class GetGafferResultCacheExportExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 4)
     public Map<String, CloseableIterable<?>> exportMultipleResultsToGafferResultCacheAndGetAllResults() {
         // ---------------------------------------------------------
         final OperationChain<Map<String, CloseableIterable<?>>> opChain = new OperationChain.Builder()
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.jobtracker.JobDetail;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -33,12 +34,7 @@ public class GetJobDetailsExample extends OperationExample {
         super(GetJobDetails.class);
     }
 
-    @Override
-    public void runExamples() {
-        getJobDetailsInOperationChain();
-        getJobDetails();
-    }
-
+    @ExampleMethod(order = 2)
     public JobDetail getJobDetails() {
         // ---------------------------------------------------------
         final GetJobDetails operation = new GetJobDetails.Builder()
@@ -49,6 +45,7 @@ public class GetJobDetailsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 1)
     public JobDetail getJobDetailsInOperationChain() {
         // ---------------------------------------------------------
         final OperationChain<JobDetail> opChain = new OperationChain.Builder()
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.jobtracker.JobDetail;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -52,9 +53,10 @@ public class GetJobResultsExample extends OperationExample {
             throw new RuntimeException(e);
         }
 
-        getJobResults();
+        runExampleMethods();
     }
 
+    @ExampleMethod(order = 1)
     public CloseableIterable<?> getJobResults() {
         // ---------------------------------------------------------
         final GetJobResults operation = new GetJobResults.Builder()
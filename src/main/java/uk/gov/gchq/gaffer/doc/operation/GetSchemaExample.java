@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.store.operation.GetSchema;
 
 public class GetSchemaExample extends OperationExample {
@@ -27,12 +28,7 @@ public class GetSchemaExample extends OperationExample {
         super(GetSchema.class);
     }
 
-    @Override
-    protected void runExamples() {
-        getFullSchema();
-        getCompactSchema();
-    }
-
+    @ExampleMethod(order = 1)
     public void getFullSchema() {
         // ---------------------------------------------------------
         final GetSchema operation = new GetSchema();
@@ -42,6 +38,7 @@ public class GetSchemaExample extends OperationExample {
                 "thereby returning the full Schema.");
     }
 
+    @ExampleMethod(order = 2)
     public void getCompactSchema() {
         // ---------------------------------------------------------
         final GetSchema operation = new GetSchema.Builder()
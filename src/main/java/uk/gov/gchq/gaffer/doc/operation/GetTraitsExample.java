@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.store.operation.GetTraits;
 
 public class GetTraitsExample extends OperationExample {
@@ -27,12 +28,7 @@ public class GetTraitsExample extends OperationExample {
         super(GetTraits.class, "Gets the traits of the current store.");
     }
 
-    @Override
-    protected void runExamples() {
-        getAllTraits();
-        getCurrentTraits();
-    }
-
+    @ExampleMethod(order = 1)
     public void getAllTraits() {
         // ---------------------------------------------------------
         final GetTraits operation = new GetTraits.Builder()
@@ -43,6 +39,7 @@ public class GetTraitsExample extends OperationExample {
         runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public void getCurrentTraits() {
         // ---------------------------------------------------------
         final GetTraits operation = new GetTraits.Builder()
@@ -23,6 +23,7 @@ import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.data.graph.Walk;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -47,19 +48,7 @@ public class GetWalksExample extends OperationExample {
         new GetWalksExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        getWalks();
-        getWalksWithIncomingOutgoingFlags();
-        getWalksWithFiltering();
-        getWalksWithEntities();
-        getWalksWithFilteringOnCardinalityEntities();
-        getWalksWithMultipleGroups();
-        getWalksWithLoops();
-        getWalksWithSelfLoops();
-        getWalksWithAdditionalOperations();
-    }
-
+    @ExampleMethod(order = 1)
     public Iterable<Walk> getWalks() {
         // ---------------------------------------------------------
         final GetWalks getWalks = new GetWalks.Builder()
@@ -78,6 +67,7 @@ public class GetWalksExample extends OperationExample {
                 "edges must be traversed using the source as the matched vertex.");
     }
 
+    @ExampleMethod(order = 3)
     public Iterable<Walk> getWalksWithFiltering() {
         // ---------------------------------------------------------
         final GetWalks getWalks = new GetWalks.Builder()
@@ -111,6 +101,7 @@ public class GetWalksExample extends OperationExample {
                 "on a property on the edge.");
     }
 
+    @ExampleMethod(order = 2)
     public Iterable<Walk> getWalksWithIncomingOutgoingFlags() {
         // ---------------------------------------------------------
         final GetWalks getWalks = new GetWalks.Builder()
@@ -130,6 +121,7 @@ public class GetWalksExample extends OperationExample {
                 "for each hop.");
     }
 
+    @ExampleMethod(order = 6)
     public Iterable<Walk> getWalksWithMultipleGroups() {
         // ---------------------------------------------------------
         final GetWalks getWalks = new GetWalks.Builder()
@@ -156,6 +148,7 @@ public class GetWalksExample extends OperationExample {
                 "only travel down certain edges in each hop.");
     }
 
+    @ExampleMethod(order = 7)
     public Iterable<Walk> getWalksWithLoops() {
         // ---------------------------------------------------------
         final GetWalks getWalks = new GetWalks.Builder()
@@ -188,6 +181,7 @@ public class GetWalksExample extends OperationExample {
                 "are encountered again.");
     }
 
+    @ExampleMethod(order = 8)
     public Iterable<Walk> getWalksWithSelfLoops() {
         // ---------------------------------------------------------
         final GetWalks getWalks = new GetWalks.Builder()
@@ -210,6 +204,7 @@ public class GetWalksExample extends OperationExample {
                 "This demonstrates the behaviour when self loops exist in the graph.");
     }
 
+    @ExampleMethod(order = 4)
     public Iterable<Walk> getWalksWithEntities() {
         // ---------------------------------------------------------
         final GetWalks getWalks = new GetWalks.Builder()
@@ -240,6 +235,7 @@ public class GetWalksExample extends OperationExample {
                 "to the vertices found along the way.");
     }
 
+    @ExampleMethod(order = 9)
     public Iterable<Walk> getWalksWithAdditionalOperations() {
         // ---------------------------------------------------------
         final GetWalks getWalks = new GetWalks.Builder()
@@ -269,6 +265,7 @@ public class GetWalksExample extends OperationExample {
                 "between the GetElements operations used to retrieve elements.");
     }
 
+    @ExampleMethod(order = 5)
     public Iterable<Walk> getWalksWithFilteringOnCardinalityEntities() {
         // ---------------------------------------------------------
         final GetWalks getWalks = new GetWalks.Builder()
@@ -21,6 +21,7 @@ import com.google.common.collect.Maps;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.named.operation.AddNamedOperation;
 import uk.gov.gchq.gaffer.named.operation.NamedOperation;
 import uk.gov.gchq.gaffer.named.operation.ParameterDetail;
@@ -43,13 +44,7 @@ public class IfExample extends OperationExample {
                 "These examples use a modified, more complex graph.", true);
     }
 
-    @Override
-    protected void runExamples() {
-        conditionallyGetElementsOrLimitCurrentResults();
-        addNamedOperationContainingIfOperationWithParameter();
-        runParameterisedNamedOperationContainingIfOperation();
-    }
-
+    @ExampleMethod(order = 1)
     public void conditionallyGetElementsOrLimitCurrentResults() {
         // ---------------------------------------------------------
         final OperationChain<Object> opChain = new OperationChain.Builder()
@@ -72,6 +67,7 @@ public class IfExample extends OperationExample {
                 "Otherwise, there will simply only be 5 results returned.");
     }
 
+    @ExampleMethod(order = 2)
     public void addNamedOperationContainingIfOperationWithParameter() {
         // ---------------------------------------------------------
         final String opChainString = "{" +
@@ -127,6 +123,7 @@ public class IfExample extends OperationExample {
                 "otherwise it will just continue to the next GetElements.");
     }
 
+    @ExampleMethod(order = 3)
     public CloseableIterable<? extends Element> runParameterisedNamedOperationContainingIfOperation() {
         // ---------------------------------------------------------
         final java.util.Map<String, Object> parameterValues = Maps.newHashMap();
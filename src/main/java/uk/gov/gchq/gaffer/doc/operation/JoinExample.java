@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.operation.OperationChain;
@@ -64,18 +65,7 @@ public class JoinExample extends OperationExample {
     @Override
     protected void runExamples() {
         setAndPrintInputElements();
-        leftKeyInnerJoin();
-        flattenedLeftKeyInnerJoin();
-        rightKeyInnerJoin();
-        flattenedRightKeyInnerJoin();
-        leftKeyFullJoin();
-        flattenedLeftKeyFullJoin();
-        rightKeyFullJoin();
-        flattenedRightKeyFullJoin();
-        leftKeyOuterJoin();
-        flattenedLeftKeyOuterJoin();
-        rightKeyOuterJoin();
-        flattenedRightKeyOuterJoin();
+        runExampleMethods();
     }
 
     public void setAndPrintInputElements() {
@@ -114,6 +104,7 @@ public class JoinExample extends OperationExample {
         }
     }
 
+    @ExampleMethod(order = 1)
     public Iterable<? extends MapTuple> leftKeyInnerJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
@@ -130,6 +121,7 @@ public class JoinExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 2)
     public Iterable<? extends MapTuple> flattenedLeftKeyInnerJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
@@ -144,6 +136,7 @@ public class JoinExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 3)
     public Iterable<? extends MapTuple> rightKeyInnerJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
@@ -160,6 +153,7 @@ public class JoinExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 4)
     public Iterable<? extends MapTuple> flattenedRightKeyInnerJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
@@ -176,6 +170,7 @@ public class JoinExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 5)
     public Iterable<? extends MapTuple> leftKeyFullJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
@@ -192,6 +187,7 @@ public class JoinExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 6)
     public Iterable<? extends MapTuple> flattenedLeftKeyFullJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
@@ -208,6 +204,7 @@ public class JoinExample extends OperationExample {
     }
 
 
+    @ExampleMethod(order = 7)
     public Iterable<? extends MapTuple> rightKeyFullJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
@@ -224,6 +221,7 @@ public class JoinExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 8)
     public Iterable<? extends MapTuple> flattenedRightKeyFullJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
@@ -239,6 +237,7 @@ public class JoinExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 9)
     public Iterable<? extends MapTuple> leftKeyOuterJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
@@ -255,6 +254,7 @@ public class JoinExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 10)
     public Iterable<? extends MapTuple> flattenedLeftKeyOuterJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
@@ -270,6 +270,7 @@ public class JoinExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 11)
     public Iterable<? extends MapTuple> rightKeyOuterJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
@@ -286,6 +287,7 @@ public class JoinExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 12)
     public Iterable<? extends MapTuple> flattenedRightKeyOuterJoin() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends MapTuple>> opChain = new OperationChain.Builder()
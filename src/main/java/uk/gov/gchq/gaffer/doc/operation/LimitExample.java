@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.Limit;
@@ -30,13 +31,7 @@ public class LimitExample extends OperationExample {
         super(Limit.class);
     }
 
-    @Override
-    public void runExamples() {
-        limitElementsTo3();
-        limitElementsTo3WithoutTruncation();
-        limitElementsTo3WithBuilder();
-    }
-
+    @ExampleMethod(order = 1)
     public Iterable<? extends Element> limitElementsTo3() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends Element>> opChain = new OperationChain.Builder()
@@ -48,6 +43,7 @@ public class LimitExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 2)
     public void limitElementsTo3WithoutTruncation() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends Element>> opChain = new OperationChain.Builder()
@@ -62,6 +58,7 @@ public class LimitExample extends OperationExample {
                 "when executed a LimitExceededException would be thrown.");
     }
 
+    @ExampleMethod(order = 3)
     public Iterable<? extends Element> limitElementsTo3WithBuilder() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends Element>> opChain = new OperationChain.Builder()
@@ -19,6 +19,7 @@ import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.graph.Walk;
 import uk.gov.gchq.gaffer.data.graph.function.walk.ExtractWalkEdgesFromHop;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.operation.impl.GetWalks;
@@ -41,12 +42,7 @@ public class MapExample extends OperationExample {
         super(Map.class);
     }
 
-    @Override
-    protected void runExamples() {
-        extractFromGetElements();
-        extractFirstItemsFromWalks();
-    }
-
+    @ExampleMethod(order = 1)
     public Object extractFromGetElements() {
         // ---------------------------------------------------------
         final OperationChain<?> operationChain = new OperationChain.Builder()
@@ -67,6 +63,7 @@ public class MapExample extends OperationExample {
                 "extracted.");
     }
 
+    @ExampleMethod(order = 2)
     public Set<?> extractFirstItemsFromWalks() {
         // ---------------------------------------------------------
         final OperationChain<Set<?>> opChain = new OperationChain.Builder()
@@ -21,6 +21,7 @@ import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.doc.operation.function.ExampleScoreFunction;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -36,12 +37,7 @@ public class MaxExample extends OperationExample {
         new MaxExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        maxCount();
-        maxCountAndTransientProperty();
-    }
-
+    @ExampleMethod(order = 1)
     public Element maxCount() {
         // ---------------------------------------------------------
         final OperationChain<Element> opChain = new OperationChain.Builder()
@@ -60,6 +56,7 @@ public class MaxExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 2)
     public Element maxCountAndTransientProperty() {
         // ---------------------------------------------------------
         final OperationChain<Element> opChain = new OperationChain.Builder()
@@ -21,6 +21,7 @@ import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.doc.operation.function.ExampleScoreFunction;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -36,12 +37,7 @@ public class MinExample extends OperationExample {
         new MinExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        minCount();
-        minCountAndTransientProperty();
-    }
-
+    @ExampleMethod(order = 1)
     public Element minCount() {
         // ---------------------------------------------------------
         final OperationChain<Element> opChain = new OperationChain.Builder()
@@ -60,6 +56,7 @@ public class MinExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 2)
     public Element minCountAndTransientProperty() {
         // ---------------------------------------------------------
         final OperationChain<Element> opChain = new OperationChain.Builder()
@@ -20,6 +20,7 @@ import com.google.common.collect.Maps;
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.doc.util.DocUtil;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.named.operation.AddNamedOperation;
 import uk.gov.gchq.gaffer.named.operation.DeleteNamedOperation;
 import uk.gov.gchq.gaffer.named.operation.GetAllNamedOperations;
@@ -46,15 +47,10 @@ public class NamedOperationExample extends OperationExample {
     public void runExamples() {
         DocUtil.clearCache();
 
-        addNamedOperation();
-        addNamedOperationWithScore();
-        addNamedOperationWithParameter();
-        getAllNamedOperations();
-        runNamedOperation();
-        runNamedOperationWithParameter();
-        deleteNamedOperation();
+        runExampleMethods();
     }
 
+    @ExampleMethod(order = 1)
     public void addNamedOperation() {
         // ---------------------------------------------------------
         final AddNamedOperation operation = new AddNamedOperation.Builder()
@@ -77,6 +73,7 @@ public class NamedOperationExample extends OperationExample {
         runExampleNoResult(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public void addNamedOperationWithScore() {
         // ---------------------------------------------------------
         final AddNamedOperation operation = new AddNamedOperation.Builder()
@@ -97,6 +94,7 @@ public class NamedOperationExample extends OperationExample {
         runExampleNoResult(operation, null);
     }
 
+    @ExampleMethod(order = 3)
     public void addNamedOperationWithParameter() {
         // ---------------------------------------------------------
         final String opChainString = "{" +
@@ -136,6 +134,7 @@ public class NamedOperationExample extends OperationExample {
         runExampleNoResult(operation, null);
     }
 
+    @ExampleMethod(order = 4)
     public CloseableIterable<NamedOperationDetail> getAllNamedOperations() {
         // ---------------------------------------------------------
         final GetAllNamedOperations operation = new GetAllNamedOperations();
@@ -144,6 +143,7 @@ public class NamedOperationExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 5)
     public CloseableIterable<EntityId> runNamedOperation() {
         // ---------------------------------------------------------
         final NamedOperation<EntityId, CloseableIterable<EntityId>> operation =
@@ -156,6 +156,7 @@ public class NamedOperationExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 6)
     public CloseableIterable<EntityId> runNamedOperationWithParameter() {
         // ---------------------------------------------------------
         Map<String, Object> paramMap = Maps.newHashMap();
@@ -172,6 +173,7 @@ public class NamedOperationExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 7)
     public void deleteNamedOperation() {
         // ---------------------------------------------------------
         final DeleteNamedOperation operation = new DeleteNamedOperation.Builder()
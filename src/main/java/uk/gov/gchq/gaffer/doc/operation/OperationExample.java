@@ -15,7 +15,6 @@
  */
 package uk.gov.gchq.gaffer.doc.operation;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
@@ -25,27 +24,30 @@ import org.apache.spark.sql.Row;
 
 import uk.gov.gchq.gaffer.commonutil.Required;
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
-import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.graph.Walk;
 import uk.gov.gchq.gaffer.doc.operation.generator.ElementGenerator;
 import uk.gov.gchq.gaffer.doc.operation.generator.ElementWithVaryingGroupsGenerator;
+import uk.gov.gchq.gaffer.doc.util.BuildProfile;
+import uk.gov.gchq.gaffer.doc.util.DocEvents;
 import uk.gov.gchq.gaffer.doc.util.DocUtil;
 import uk.gov.gchq.gaffer.doc.util.Example;
+import uk.gov.gchq.gaffer.doc.util.GraphFixtures;
+import uk.gov.gchq.gaffer.doc.util.ResultSample;
 import uk.gov.gchq.gaffer.doc.walkthrough.WalkthroughStrSubstitutor;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.graph.GraphConfig;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
-import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
-import uk.gov.gchq.gaffer.operation.impl.generate.GenerateElements;
 import uk.gov.gchq.gaffer.operation.io.Output;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.user.User;
 
-import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -55,29 +57,35 @@ import java.util.stream.StreamSupport;
 public abstract class OperationExample extends Example {
     private static final Logger ROOT_LOGGER = Logger.getRootLogger();
     protected boolean skipEndOfMethodBreaks = false;
-    private final Graph graph;
+    private static final String OPERATIONS_RESOURCES = "operations";
+    private static final GraphFixtures.Key SIMPLE_GRAPH = new GraphFixtures.Key(
+            OPERATIONS_RESOURCES + "/schema", "mockaccumulostore.properties", OPERATIONS_RESOURCES + "/data.txt", ElementGenerator.class);
+    private static final GraphFixtures.Key COMPLEX_GRAPH = new GraphFixtures.Key(
+            OPERATIONS_RESOURCES + "/schema", "mockaccumulostore.properties", OPERATIONS_RESOURCES + "/complexData.txt", ElementWithVaryingGroupsGenerator.class);
+    private Graph graph;
     private boolean complex;
+    private boolean fixtureRegistered;
 
     public OperationExample(final Class<? extends Operation> classForExample) {
         super(classForExample);
         ROOT_LOGGER.setLevel(Level.OFF);
 
-        this.graph = createSimpleExampleGraph();
+        registerFixture();
     }
 
     public OperationExample(final Class<? extends Operation> classForExample, final String description) {
         super(classForExample, description);
         ROOT_LOGGER.setLevel(Level.OFF);
 
-        this.graph = createSimpleExampleGraph();
+        registerFixture();
     }
 
     public OperationExample(final Class<? extends Operation> classForExample, final String description, final boolean complex) {
         super(classForExample, description);
         ROOT_LOGGER.setLevel(Level.OFF);
 
-        this.graph = (complex) ? createComplexExampleGraph() : createSimpleExampleGraph();
         this.complex = complex;
+        registerFixture();
     }
 
     @Override
@@ -86,16 +94,51 @@ public abstract class OperationExample extends Example {
         printRequiredFields();
     }
 
+    /**
+     * Gets the example graph. The graph is created and loaded from the graph
+     * fixture the first time it is needed, so examples that are not run do
+     * not load any data. Each example has its own graph.
+     *
+     * @return the example graph
+     */
     protected Graph getGraph() {
+        if (null == graph) {
+            registerFixture();
+            graph = complex ? createComplexExampleGraph() : createSimpleExampleGraph();
+        }
         return graph;
     }
 
+    /**
+     * Discards the example graph and releases the shared graph fixture.
+     */
+    @Override
+    public void release() {
+        graph = null;
+        if (fixtureRegistered) {
+            fixtureRegistered = false;
+            GraphFixtures.release(complex ? COMPLEX_GRAPH : SIMPLE_GRAPH);
+        }
+    }
+
+    @Override
+    public List<String> getResourcePaths() {
+        return Collections.singletonList(OPERATIONS_RESOURCES);
+    }
+
+    private void registerFixture() {
+        if (!fixtureRegistered) {
+            fixtureRegistered = true;
+            GraphFixtures.register(complex ? COMPLEX_GRAPH : SIMPLE_GRAPH);
+        }
+    }
+
     protected void showJavaExample(final String description) {
-        print("### " + getMethodNameAsSentence(1) + "\n");
+        print("### " + getExampleMethodTitle() + "\n");
         if (StringUtils.isNotBlank(description)) {
             print(description + "\n");
         }
-        printJava(getJavaSnippet(3));
+        printJava(getJavaSnippet());
 
         if (!skipEndOfMethodBreaks) {
             endOfMethod();
@@ -104,11 +147,11 @@ public abstract class OperationExample extends Example {
 
     protected void showExample(final OperationChain operation,
                                final String description) {
-        print("### " + getMethodNameAsSentence(1) + "\n");
+        print("### " + getExampleMethodTitle() + "\n");
         if (StringUtils.isNotBlank(description)) {
             print(description + "\n");
         }
-        printJavaJsonPython(operation, 3);
+        printJavaJsonPython(operation);
 
         if (!skipEndOfMethodBreaks) {
             endOfMethod();
@@ -117,11 +160,11 @@ public abstract class OperationExample extends Example {
 
     protected void showExample(final Operation operation,
                                final String description) {
-        print("### " + getMethodNameAsSentence(1) + "\n");
+        print("### " + getExampleMethodTitle() + "\n");
         if (StringUtils.isNotBlank(description)) {
             print(description);
         }
-        printJavaJsonPython(operation, 3);
+        printJavaJsonPython(operation);
 
         if (!skipEndOfMethodBreaks) {
             endOfMethod();
@@ -130,17 +173,13 @@ public abstract class OperationExample extends Example {
 
     protected void runExampleNoResult(final Operation operation,
                                       final String description) {
-        print("### " + getMethodNameAsSentence(1) + "\n");
+        print("### " + getExampleMethodTitle() + "\n");
         if (StringUtils.isNotBlank(description)) {
             print(description + "\n");
         }
-        printJavaJsonPython(operation, 3);
+        printJavaJsonPython(operation);
 
-        try {
-            getGraph().execute(operation, createContext());
-        } catch (final OperationException e) {
-            throw new RuntimeException(e);
-        }
+        execute(operation);
 
         if (!skipEndOfMethodBreaks) {
             endOfMethod();
@@ -149,7 +188,7 @@ public abstract class OperationExample extends Example {
 
     protected <RESULT_TYPE> RESULT_TYPE runExample(
             final Output<RESULT_TYPE> operation, final String description) {
-        print("### " + getMethodNameAsSentence(1) + "\n");
+        print("### " + getExampleMethodTitle() + "\n");
         if (StringUtils.isNotBlank(description)) {
             print(description + "\n");
         }
@@ -160,14 +199,9 @@ public abstract class OperationExample extends Example {
             printSimpleGraphAsAscii();
         }
 
-        printJavaJsonPython(operation, 3);
+        printJavaJsonPython(operation);
 
-        final RESULT_TYPE results;
-        try {
-            results = getGraph().execute(operation, createContext());
-        } catch (final OperationException e) {
-            throw new RuntimeException(e);
-        }
+        final RESULT_TYPE results = execute(operation);
 
         printResult(results);
 
@@ -180,7 +214,7 @@ public abstract class OperationExample extends Example {
     protected <RESULT_TYPE> RESULT_TYPE runExample(
             final OperationChain<RESULT_TYPE> operationChain,
             final String description) {
-        print("### " + getMethodNameAsSentence(1) + "\n");
+        print("### " + getExampleMethodTitle() + "\n");
         if (StringUtils.isNotBlank(description)) {
             print(description);
             print("");
@@ -192,14 +226,9 @@ public abstract class OperationExample extends Example {
             printSimpleGraphAsAscii();
         }
 
-        printJavaJsonPython(operationChain, 3);
+        printJavaJsonPython(operationChain);
 
-        final RESULT_TYPE result;
-        try {
-            result = getGraph().execute(operationChain, createContext());
-        } catch (final OperationException e) {
-            throw new RuntimeException(e);
-        }
+        final RESULT_TYPE result = execute(operationChain);
 
         printResult(result);
 
@@ -217,54 +246,60 @@ public abstract class OperationExample extends Example {
         return METHOD_DIVIDER;
     }
 
+    /**
+     * Prints the result of an operation. Lazy and large results are read
+     * once into a {@link ResultSample}, which both the java and the json are
+     * rendered from, so a query is never run a second time and a stream
+     * result still has its json.
+     *
+     * @param result        the operation result
+     * @param <RESULT_TYPE> the type of the result
+     */
     public <RESULT_TYPE> void printResult(final RESULT_TYPE result) {
         print("Result:");
 
         print("\n{% codetabs name=\"Java\", type=\"java\" -%}");
+        Object jsonResult = result;
         if (result instanceof Iterable) {
-            for (final Object item : (Iterable) result) {
-                if (item instanceof Walk) {
-                    final Walk walk = (Walk) item;
-                    print(Walk.class.getName() + walk.getVerticesOrdered()
-                            .stream()
-                            .map(Object::toString)
-                            .collect(Collectors.joining(" --> ", "[ ", " ]")));
-                } else if (item instanceof Iterable) {
-                    print(StreamSupport.stream(((Iterable) item).spliterator(), false)
-                            .map(o -> o == null ? "null" : o.toString())
-                            .collect(Collectors.joining(" --> ", "[ ", " ]")).toString());
-                } else {
-                    print(item.toString());
-                }
-            }
+            final ResultSample<Object> sample = ResultSample.of((Iterable<?>) result);
+            printRows(sample);
+            jsonResult = sample.getRows();
         } else if (result instanceof Map) {
             final Map<?, ?> resultMap = (Map) result;
+            final Map<Object, Object> sampledMap = new LinkedHashMap<>();
             for (final Map.Entry<?, ?> entry : resultMap.entrySet()) {
                 print(entry.getKey() + ":");
                 if (entry.getValue() instanceof Iterable) {
-                    for (final Object item : (Iterable) entry.getValue()) {
+                    final ResultSample<Object> sample = ResultSample.of((Iterable<?>) entry.getValue());
+                    for (final Object item : sample.getRows()) {
                         print("    " + item.toString());
                     }
+                    if (sample.isTruncated()) {
+                        print("    " + sample.getFooter());
+                        recordTruncatedResult(sample);
+                    }
+                    sampledMap.put(entry.getKey(), sample.getRows());
                 } else {
                     print("    " + entry.getValue().toString());
+                    sampledMap.put(entry.getKey(), entry.getValue());
                 }
             }
+            jsonResult = sampledMap;
         } else if (result instanceof Stream) {
-            final Stream stream = (Stream) result;
-            stream.forEach(item -> print(item.toString()));
+            final ResultSample<Object> sample = ResultSample.of(((Stream<?>) result).iterator());
+            printRows(sample);
+            jsonResult = sample.getRows();
         } else if (result instanceof Object[]) {
-            final Object[] array = (Object[]) result;
-            for (int i = 0; i < array.length; i++) {
-                print(array[i].toString());
-            }
+            final ResultSample<Object> sample = ResultSample.of(Arrays.asList((Object[]) result));
+            printRows(sample);
+            jsonResult = sample.getRows();
         } else if (result instanceof JavaRDD) {
-            final List<Element> elements = ((JavaRDD) result).collect();
-            for (final Element e : elements) {
-                print(e.toString());
-            }
+            final ResultSample<?> sample = sample((JavaRDD<?>) result);
+            printRows(sample);
+            jsonResult = sample.getRows();
         } else if (result instanceof Dataset) {
             final Dataset<Row> dataset = ((Dataset) result);
-            final String resultStr = dataset.showString(100, 20, false);
+            final String resultStr = dataset.showString(ResultSample.getMaxRows(), 20, false);
             print(resultStr.substring(0, resultStr.length() - 2));
         } else if (result instanceof Schema) {
             print(DocUtil.getJson(result));
@@ -275,7 +310,7 @@ public abstract class OperationExample extends Example {
         }
 
         try {
-            final String json = DocUtil.getFullJson(result);
+            final String json = DocUtil.getFullJson(jsonResult);
             print(WalkthroughStrSubstitutor.JSON_CODE_MARKER);
             print(json);
         } catch (final Exception e) {
@@ -285,86 +320,57 @@ public abstract class OperationExample extends Example {
         print("{%- endcodetabs %}\n");
     }
 
-    protected Graph createSimpleExampleGraph() {
-        final Graph graph = new Graph.Builder()
-                .config(new GraphConfig.Builder()
-                        .json(StreamUtil.graphConfig(getClass()))
-                        .graphId(getClass().getSimpleName())
-                        .build())
-                .addSchemas(StreamUtil.openStreams(getClass(), "operations/schema"))
-                .storeProperties(StreamUtil.openStream(getClass(), "mockaccumulostore.properties"))
-                .build();
-
-        // Create data generator
-        final ElementGenerator dataGenerator = new ElementGenerator();
-
-        // Load data into memory
-        final List<String> data;
-        try {
-            data = IOUtils.readLines(StreamUtil.openStream(getClass(), "operations/data.txt"));
-        } catch (final IOException e) {
-            throw new RuntimeException(e);
+    private void printRows(final ResultSample<?> sample) {
+        for (final Object item : sample.getRows()) {
+            if (item instanceof Walk) {
+                final Walk walk = (Walk) item;
+                print(Walk.class.getName() + walk.getVerticesOrdered()
+                        .stream()
+                        .map(Object::toString)
+                        .collect(Collectors.joining(" --> ", "[ ", " ]")));
+            } else if (item instanceof Iterable) {
+                print(StreamSupport.stream(((Iterable) item).spliterator(), false)
+                        .map(o -> o == null ? "null" : o.toString())
+                        .collect(Collectors.joining(" --> ", "[ ", " ]")).toString());
+            } else {
+                print(item.toString());
+            }
         }
-
-        //add the edges to the graph using an operation chain consisting of:
-        //generateElements - generating edges from the data (note these are directed edges)
-        //addElements - add the edges to the graph
-        final OperationChain addOpChain = new OperationChain.Builder()
-                .first(new GenerateElements.Builder<String>()
-                        .generator(dataGenerator)
-                        .input(data)
-                        .build())
-                .then(new AddElements())
-                .build();
-
-        try {
-            graph.execute(addOpChain, new User());
-        } catch (final OperationException e) {
-            throw new RuntimeException(e);
+        if (sample.isTruncated()) {
+            print(sample.getFooter());
+            recordTruncatedResult(sample);
         }
+    }
 
-        return graph;
+    private void recordTruncatedResult(final ResultSample<?> sample) {
+        recordTruncatedResult(getExampleMethodName() + " showed " + sample.getRows().size() + " of " + sample.getTotalRows() + " rows");
     }
 
-    protected Graph createComplexExampleGraph() {
-        final Graph graph = new Graph.Builder()
-                .config(new GraphConfig.Builder()
-                        .json(StreamUtil.graphConfig(getClass()))
-                        .graphId(getClass().getSimpleName())
-                        .build())
-                .addSchemas(StreamUtil.openStreams(getClass(), "operations/schema"))
-                .storeProperties(StreamUtil.openStream(getClass(), "mockaccumulostore.properties"))
-                .build();
-
-        // Create data generator
-        final ElementWithVaryingGroupsGenerator dataGenerator = new ElementWithVaryingGroupsGenerator();
-
-        // Load data into memory
-        final List<String> data;
-        try {
-            data = IOUtils.readLines(StreamUtil.openStream(getClass(), "operations/complexData.txt"));
-        } catch (final IOException e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * Takes a sample of an RDD on the driver, rather than collecting all of
+     * it. The RDD is only counted if it has more rows than are shown.
+     */
+    private static <T> ResultSample<T> sample(final JavaRDD<T> rdd) {
+        final int maxRows = ResultSample.getMaxRows();
+        final List<T> rows = ResultSample.isReservoirSampling()
+                ? rdd.takeSample(false, maxRows, ResultSample.SEED)
+                : rdd.take(maxRows);
+        return ResultSample.of(rows, rows.size() < maxRows ? rows.size() : rdd.count());
+    }
 
-        //add the edges to the graph using an operation chain consisting of:
-        //generateElements - generating edges from the data (note these are directed edges)
-        //addElements - add the edges to the graph
-        final OperationChain addOpChain = new OperationChain.Builder()
-                .first(new GenerateElements.Builder<String>()
-                        .generator(dataGenerator)
-                        .input(data)
-                        .build())
-                .then(new AddElements())
-                .build();
+    protected Graph createSimpleExampleGraph() {
+        return createExampleGraph(SIMPLE_GRAPH);
+    }
 
-        try {
-            graph.execute(addOpChain, new User());
-        } catch (final OperationException e) {
-            throw new RuntimeException(e);
-        }
+    protected Graph createComplexExampleGraph() {
+        return createExampleGraph(COMPLEX_GRAPH);
+    }
 
-        return graph;
+    private Graph createExampleGraph(final GraphFixtures.Key fixture) {
+        return GraphFixtures.createGraph(fixture, new GraphConfig.Builder()
+                .json(StreamUtil.graphConfig(getClass()))
+                .graphId(getClass().getSimpleName())
+                .build());
     }
 
     protected void simpleGraphAsImage() {
@@ -429,6 +435,26 @@ public abstract class OperationExample extends Example {
         print("\n");
     }
 
+    private void execute(final Operation operation) {
+        try (final BuildProfile.Timer timer = BuildProfile.phase(BuildProfile.Phase.OPERATION_EXECUTION);
+             final DocEvents.Span event = DocEvents.operation(getClass().getSimpleName(), operation.getClass())) {
+            getGraph().execute(operation, createContext());
+        } catch (final OperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private <RESULT_TYPE> RESULT_TYPE execute(final Output<RESULT_TYPE> operation) {
+        try (final BuildProfile.Timer timer = BuildProfile.phase(BuildProfile.Phase.OPERATION_EXECUTION);
+             final DocEvents.Span event = DocEvents.operation(getClass().getSimpleName(), operation.getClass())) {
+            final RESULT_TYPE result = getGraph().execute(operation, createContext());
+            event.setResult(result);
+            return result;
+        } catch (final OperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     protected Context createContext() {
         return new Context(new User("user01"));
     }
@@ -15,18 +15,24 @@
  */
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
 import uk.gov.gchq.gaffer.doc.util.ExampleDocRunner;
 
 /**
  * This runner will run all operation examples.
  */
 public class OperationExamplesRunner extends ExampleDocRunner {
+    public static final String TITLE = "Operations";
+
     public OperationExamplesRunner() {
-        super("Operations", OperationExample.class);
+        super(TITLE, OperationExample.class);
     }
 
     public static void main(final String[] args) throws Exception {
+        DocFilter.applyArgs(args);
         new OperationExamplesRunner().generate();
+        DocManifest.getInstance().save();
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -36,11 +37,7 @@ public class ReduceExample extends OperationExample {
         new ReduceExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        reduceExample();
-    }
-
+    @ExampleMethod(order = 1)
     public Object reduceExample() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<?>> opChain = new OperationChain.Builder()
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.named.operation.AddNamedOperation;
 import uk.gov.gchq.gaffer.named.operation.DeleteNamedOperation;
 import uk.gov.gchq.gaffer.named.operation.NamedOperation;
@@ -53,8 +54,7 @@ public class ScoreOperationChainExample extends OperationExample {
             throw new RuntimeException(e);
         }
 
-        scoreOperationChain();
-        scoreOperationChainWithCustomNamedScore();
+        runExampleMethods();
 
         try {
             getGraph().execute(new DeleteNamedOperation.Builder()
@@ -65,6 +65,7 @@ public class ScoreOperationChainExample extends OperationExample {
         }
     }
 
+    @ExampleMethod(order = 1)
     public void scoreOperationChain() {
         // ---------------------------------------------------------
         final ScoreOperationChain scoreOpChain = new ScoreOperationChain.Builder()
@@ -81,6 +82,7 @@ public class ScoreOperationChainExample extends OperationExample {
                 "ScoreOperationChain, with Operations and a NamedOperation.");
     }
 
+    @ExampleMethod(order = 2)
     public void scoreOperationChainWithCustomNamedScore() {
         // ---------------------------------------------------------
         final ScoreOperationChain scoreOperationChain = new ScoreOperationChain.Builder()
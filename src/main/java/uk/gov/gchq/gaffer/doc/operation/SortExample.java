@@ -21,6 +21,7 @@ import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.doc.operation.function.ExampleScoreFunction;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -36,13 +37,7 @@ public class SortExample extends OperationExample {
         new SortExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        sortOnCount();
-        sortOnCountWithoutDeduplicating();
-        sortOnCountAndTransientProperty();
-    }
-
+    @ExampleMethod(order = 1)
     public Iterable<? extends Element> sortOnCount() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends Element>> opChain = new OperationChain.Builder()
@@ -63,6 +58,7 @@ public class SortExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 2)
     public Iterable<? extends Element> sortOnCountWithoutDeduplicating() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends Element>> opChain = new OperationChain.Builder()
@@ -84,6 +80,7 @@ public class SortExample extends OperationExample {
         return runExample(opChain, "Deduplication is true by default.");
     }
 
+    @ExampleMethod(order = 3)
     public Iterable<? extends Element> sortOnCountAndTransientProperty() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends Element>> opChain = new OperationChain.Builder()
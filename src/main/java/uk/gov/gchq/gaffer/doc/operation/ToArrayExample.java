@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -31,11 +32,7 @@ public class ToArrayExample extends OperationExample {
         new ToArrayExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        toArrayExample();
-    }
-
+    @ExampleMethod(order = 1)
     public Element[] toArrayExample() {
         // ---------------------------------------------------------
         final OperationChain<? extends Element[]> opChain = new OperationChain.Builder()
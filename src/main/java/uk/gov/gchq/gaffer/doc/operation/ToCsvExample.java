@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.generator.CsvGenerator;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationChain.Builder;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -32,11 +33,7 @@ public class ToCsvExample extends OperationExample {
         new ToCsvExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        toCsvExample();
-    }
-
+    @ExampleMethod(order = 1)
     public Iterable<? extends String> toCsvExample() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends String>> opChain = new Builder()
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -30,11 +31,7 @@ public class ToEntitySeedsExample extends OperationExample {
         new ToEntitySeedsExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        toStreamExample();
-    }
-
+    @ExampleMethod(order = 1)
     public Iterable<? extends EntitySeed> toStreamExample() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends EntitySeed>> opChain = new OperationChain.Builder()
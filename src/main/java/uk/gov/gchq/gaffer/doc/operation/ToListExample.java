@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -33,11 +34,7 @@ public class ToListExample extends OperationExample {
         new ToListExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        toListExample();
-    }
-
+    @ExampleMethod(order = 1)
     public List<? extends Element> toListExample() {
         // ---------------------------------------------------------
         final OperationChain<List<? extends Element>> opChain = new OperationChain.Builder()
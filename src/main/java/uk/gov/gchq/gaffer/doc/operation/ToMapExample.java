@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.generator.MapGenerator;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationChain.Builder;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -34,11 +35,7 @@ public class ToMapExample extends OperationExample {
         new ToMapExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        toMapExample();
-    }
-
+    @ExampleMethod(order = 1)
     public Iterable<? extends Map<String, Object>> toMapExample() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<? extends Map<String, Object>>> opChain = new Builder()
@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -34,12 +35,7 @@ public class ToSetExample extends OperationExample {
         new ToSetExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        withoutToSetOperation();
-        withToSetOperation();
-    }
-
+    @ExampleMethod(order = 1)
     public CloseableIterable<? extends Element> withoutToSetOperation() {
         // ---------------------------------------------------------
         final GetElements operation = new GetElements.Builder()
@@ -50,6 +46,7 @@ public class ToSetExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public Set<? extends Element> withToSetOperation() {
         // ---------------------------------------------------------
         final OperationChain<Set<? extends Element>> opChain = new OperationChain.Builder()
@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.doc.operation;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -35,12 +36,7 @@ public class ToSingletonListExample extends OperationExample {
         new ToSingletonListExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        toSingletonListExample();
-        toSingletonListInChainExample();
-    }
-
+    @ExampleMethod(order = 1)
     public List<? extends Integer> toSingletonListExample() {
         // ---------------------------------------------------------
         final ToSingletonList<Integer> opChain = new ToSingletonList.Builder<Integer>()
@@ -51,6 +47,7 @@ public class ToSingletonListExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 2)
     public Iterable<?> toSingletonListInChainExample() {
         // ---------------------------------------------------------
         final OperationChain<Iterable<?>> opChain = new OperationChain.Builder()
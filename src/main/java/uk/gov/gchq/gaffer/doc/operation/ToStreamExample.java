@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationChain.Builder;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -34,11 +35,7 @@ public class ToStreamExample extends OperationExample {
         new ToStreamExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        toStreamExample();
-    }
-
+    @ExampleMethod(order = 1)
     public Stream<? extends Element> toStreamExample() {
         // ---------------------------------------------------------
         final OperationChain<Stream<? extends Element>> opChain = new Builder()
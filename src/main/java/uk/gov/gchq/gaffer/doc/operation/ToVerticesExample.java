@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationChain.Builder;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -36,15 +37,7 @@ public class ToVerticesExample extends OperationExample {
         new ToVerticesExample().runAndPrint();
     }
 
-    @Override
-    public void runExamples() {
-        extractEntityVertices();
-        extractDestinationVertex();
-        extractBothSourceAndDestinationVertices();
-        extractMatchedVertices();
-        extractOppositeMatchedVertices();
-    }
-
+    @ExampleMethod(order = 1)
     public Iterable<?> extractEntityVertices() {
         // ---------------------------------------------------------
         final OperationChain<Set<?>> opChain = new Builder()
@@ -64,6 +57,7 @@ public class ToVerticesExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 2)
     public Iterable<?> extractDestinationVertex() {
         // ---------------------------------------------------------
         final OperationChain<Set<?>> opChain = new Builder()
@@ -84,6 +78,7 @@ public class ToVerticesExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 3)
     public Iterable<?> extractBothSourceAndDestinationVertices() {
         // ---------------------------------------------------------
         final OperationChain<Set<?>> opChain = new Builder()
@@ -105,6 +100,7 @@ public class ToVerticesExample extends OperationExample {
     }
 
 
+    @ExampleMethod(order = 4)
     public Iterable<?> extractMatchedVertices() {
         // ---------------------------------------------------------
         final OperationChain<Set<?>> opChain = new Builder()
@@ -125,6 +121,7 @@ public class ToVerticesExample extends OperationExample {
         return runExample(opChain, null);
     }
 
+    @ExampleMethod(order = 5)
     public Iterable<?> extractOppositeMatchedVertices() {
         // ---------------------------------------------------------
         final OperationChain<Set<?>> opChain = new Builder()
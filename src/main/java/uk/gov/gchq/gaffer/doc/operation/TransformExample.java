@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation;
 
 import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.impl.function.Transform;
 import uk.gov.gchq.koryphe.impl.function.ToString;
 
@@ -29,11 +30,7 @@ public class TransformExample extends OperationExample {
         super(Transform.class, "The Transform operation would normally be used in an Operation Chain to transform the results of a previous operation.");
     }
 
-    @Override
-    public void runExamples() {
-        transformACountPropertyIntoACountStringPropertyOnlyForEdgesOfTypeEdge();
-    }
-
+    @ExampleMethod(order = 1)
     public void transformACountPropertyIntoACountStringPropertyOnlyForEdgesOfTypeEdge() {
         // ---------------------------------------------------------
         final Transform transform = new Transform.Builder()
@@ -20,6 +20,7 @@ import com.beust.jcommander.internal.Lists;
 
 import uk.gov.gchq.gaffer.commonutil.iterable.CloseableIterable;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.operation.graph.SeededGraphFilters.IncludeIncomingOutgoingType;
 import uk.gov.gchq.gaffer.operation.impl.GetWalks;
@@ -42,16 +43,7 @@ public class WhileExample extends OperationExample {
                 "These examples use a modified, more complex graph.", true);
     }
 
-    @Override
-    protected void runExamples() {
-        run3Times();
-        runAWhileOperationWithinAGetWalks();
-        runUntilAnEndResultIsFound();
-
-        // TODO: run this example when the bug has been fixed
-//        runGetWalksUntilAnEndResultIsFound();
-    }
-
+    @ExampleMethod(order = 1)
     public void run3Times() {
         // ---------------------------------------------------------
         final While<Iterable<EntityId>, CloseableIterable<? extends EntityId>> operation = new While.Builder<Iterable<EntityId>, CloseableIterable<? extends EntityId>>()
@@ -67,6 +59,7 @@ public class WhileExample extends OperationExample {
         runExample(operation, "This example will run the GetAdjacentIds operation 3 times");
     }
 
+    @ExampleMethod(order = 2)
     public void runAWhileOperationWithinAGetWalks() {
         // ---------------------------------------------------------
         final GetWalks operation = new Builder()
@@ -84,6 +77,7 @@ public class WhileExample extends OperationExample {
         runExample(operation, "This example will run a GetWalks operation with 3 hops");
     }
 
+    @ExampleMethod(order = 3)
     public void runUntilAnEndResultIsFound() {
         // ---------------------------------------------------------
         final While<Iterable<EntityId>, CloseableIterable<? extends EntityId>> operation = new While.Builder<Iterable<EntityId>, CloseableIterable<? extends EntityId>>()
@@ -99,6 +93,7 @@ public class WhileExample extends OperationExample {
         runExample(operation, "This example will keep running GetAdjacentIds until the results contain a vertex with value 7");
     }
 
+    // TODO: make this an example method when the bug has been fixed
     public void runGetWalksUntilAnEndResultIsFound() {
         // ---------------------------------------------------------
         final GetWalks operation = new Builder()
@@ -16,18 +16,24 @@
 package uk.gov.gchq.gaffer.doc.operation.accumulo;
 
 import uk.gov.gchq.gaffer.doc.operation.OperationExample;
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
 import uk.gov.gchq.gaffer.doc.util.ExampleDocRunner;
 
 /**
  * This runner will run all accumulo operation examples.
  */
 public class AccumuloOperationExamplesRunner extends ExampleDocRunner {
+    public static final String TITLE = "Accumulo Operations";
+
 
     public AccumuloOperationExamplesRunner() {
-        super("Accumulo Operations", OperationExample.class);
+        super(TITLE, OperationExample.class);
     }
 
     public static void main(final String[] args) throws Exception {
+        DocFilter.applyArgs(args);
         new AccumuloOperationExamplesRunner().generate();
+        DocManifest.getInstance().save();
     }
 }
@@ -22,6 +22,7 @@ import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.doc.operation.OperationExample;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
@@ -34,12 +35,7 @@ public class GetElementsBetweenSetsExample extends OperationExample {
         super(GetElementsBetweenSets.class);
     }
 
-    @Override
-    public void runExamples() {
-        getElementsWithinSetOfVertices1And2And4();
-        getElementsWithinSetOfVertices1And2And4WithCountGreaterThan2();
-    }
-
+    @ExampleMethod(order = 1)
     public CloseableIterable<? extends Element> getElementsWithinSetOfVertices1And2And4() {
         // ---------------------------------------------------------
         final GetElementsBetweenSets operation = new GetElementsBetweenSets.Builder()
@@ -51,6 +47,7 @@ public class GetElementsBetweenSetsExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public CloseableIterable<? extends Element> getElementsWithinSetOfVertices1And2And4WithCountGreaterThan2() {
         // ---------------------------------------------------------
         final GetElementsBetweenSets operation = new GetElementsBetweenSets.Builder()
@@ -21,6 +21,7 @@ import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.id.DirectedType;
 import uk.gov.gchq.gaffer.doc.operation.OperationExample;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
@@ -35,12 +36,7 @@ public class GetElementsInRangesExample extends OperationExample {
         super(GetElementsInRanges.class);
     }
 
-    @Override
-    public void runExamples() {
-        getAllElementsInTheRangeFromEntity1toEntity4();
-        getAllElementsInTheRangeFromEntity4ToEdge4_5();
-    }
-
+    @ExampleMethod(order = 1)
     public CloseableIterable<? extends Element> getAllElementsInTheRangeFromEntity1toEntity4() {
         // ---------------------------------------------------------
         final GetElementsInRanges operation = new GetElementsInRanges.Builder()
@@ -51,6 +47,7 @@ public class GetElementsInRangesExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public CloseableIterable<? extends Element> getAllElementsInTheRangeFromEntity4ToEdge4_5() {
         // ---------------------------------------------------------
         final GetElementsInRanges operation = new GetElementsInRanges.Builder()
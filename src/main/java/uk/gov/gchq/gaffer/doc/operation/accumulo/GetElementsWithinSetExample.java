@@ -22,6 +22,7 @@ import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.doc.operation.OperationExample;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
@@ -34,12 +35,7 @@ public class GetElementsWithinSetExample extends OperationExample {
         super(GetElementsWithinSet.class);
     }
 
-    @Override
-    public void runExamples() {
-        getElementsWithinSetOfVertices1And2And3();
-        getElementsWithinSetOfVertices1And2And3WithCountGreaterThan2();
-    }
-
+    @ExampleMethod(order = 1)
     public CloseableIterable<? extends Element> getElementsWithinSetOfVertices1And2And3() {
         // ---------------------------------------------------------
         final GetElementsWithinSet operation = new GetElementsWithinSet.Builder()
@@ -50,6 +46,7 @@ public class GetElementsWithinSetExample extends OperationExample {
         return runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public CloseableIterable<? extends Element> getElementsWithinSetOfVertices1And2And3WithCountGreaterThan2() {
         // ---------------------------------------------------------
         final GetElementsWithinSet operation = new GetElementsWithinSet.Builder()
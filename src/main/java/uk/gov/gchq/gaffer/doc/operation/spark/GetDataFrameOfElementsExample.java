@@ -19,6 +19,7 @@ import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.spark.operation.dataframe.GetDataFrameOfElements;
 
@@ -35,14 +36,7 @@ public class GetDataFrameOfElementsExample extends SparkOperationExample {
         skipEndOfMethodBreaks = true;
     }
 
-    @Override
-    public void _runExamples() {
-        getDataFrameOfElementsWithEntityGroup();
-        endOfMethod();
-        getDataFrameOfElementsWithEdgeGroup();
-        endOfMethod();
-    }
-
+    @ExampleMethod(order = 1)
     public void getDataFrameOfElementsWithEntityGroup() {
         // ---------------------------------------------------------
         final GetDataFrameOfElements operation = new GetDataFrameOfElements.Builder()
@@ -71,8 +65,10 @@ public class GetDataFrameOfElementsExample extends SparkOperationExample {
         print("```");
         print(result.substring(0, result.length() - 2));
         print("```");
+        endOfMethod();
     }
 
+    @ExampleMethod(order = 2)
     public void getDataFrameOfElementsWithEdgeGroup() {
         // ---------------------------------------------------------
         final GetDataFrameOfElements operation = new GetDataFrameOfElements.Builder()
@@ -102,5 +98,6 @@ public class GetDataFrameOfElementsExample extends SparkOperationExample {
         print("```");
         print(result.substring(0, result.length() - 2));
         print("```");
+        endOfMethod();
     }
 }
@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.operation.spark;
 import org.graphframes.GraphFrame;
 
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.spark.operation.graphframe.GetGraphFrameOfElements;
 
 public class GetGraphFrameOfElementsExample extends SparkOperationExample {
@@ -30,11 +31,7 @@ public class GetGraphFrameOfElementsExample extends SparkOperationExample {
         super(GetGraphFrameOfElements.class);
     }
 
-    @Override
-    protected void _runExamples() {
-        getGraphFrameOfElements();
-    }
-
+    @ExampleMethod(order = 1)
     public void getGraphFrameOfElements() {
         // ---------------------------------------------------------
         final GetGraphFrameOfElements operation = new GetGraphFrameOfElements.Builder()
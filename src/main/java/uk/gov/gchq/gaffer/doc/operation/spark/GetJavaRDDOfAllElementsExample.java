@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.operation.spark;
 
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.spark.operation.javardd.GetJavaRDDOfAllElements;
 
@@ -38,12 +39,7 @@ public class GetJavaRDDOfAllElementsExample extends SparkOperationExample {
                 + RFILE_READER_DESCRIPTION;
     }
 
-    @Override
-    protected void _runExamples() {
-        getJavaRddOfAllElements();
-        getJavaRddOfAllElementsReturningEdgesOnly();
-    }
-
+    @ExampleMethod(order = 1)
     public void getJavaRddOfAllElements() {
         // ---------------------------------------------------------
         final GetJavaRDDOfAllElements operation = new GetJavaRDDOfAllElements();
@@ -52,6 +48,7 @@ public class GetJavaRDDOfAllElementsExample extends SparkOperationExample {
         runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public void getJavaRddOfAllElementsReturningEdgesOnly() {
         // ---------------------------------------------------------
         final GetJavaRDDOfAllElements operation = new GetJavaRDDOfAllElements.Builder()
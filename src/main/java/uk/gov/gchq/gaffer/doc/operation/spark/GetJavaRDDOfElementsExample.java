@@ -18,6 +18,7 @@ package uk.gov.gchq.gaffer.doc.operation.spark;
 import org.apache.hadoop.conf.Configuration;
 
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
 import uk.gov.gchq.gaffer.spark.operation.javardd.GetJavaRDDOfElements;
@@ -37,13 +38,7 @@ public class GetJavaRDDOfElementsExample extends SparkOperationExample {
         super(GetJavaRDDOfElements.class);
     }
 
-    @Override
-    protected void _runExamples() throws Exception {
-        getJavaRddOfElements();
-        getJavaRddOfElementsWithHadoopConf();
-        getJavaRddOfElementsReturningEdgesOnly();
-    }
-
+    @ExampleMethod(order = 1)
     public void getJavaRddOfElements() {
         // ---------------------------------------------------------
         final GetJavaRDDOfElements operation = new GetJavaRDDOfElements.Builder()
@@ -54,6 +49,7 @@ public class GetJavaRDDOfElementsExample extends SparkOperationExample {
         runExample(operation, null);
     }
 
+    @ExampleMethod(order = 2)
     public void getJavaRddOfElementsWithHadoopConf() {
         // ---------------------------------------------------------
         final Configuration conf = new Configuration();
@@ -76,6 +72,7 @@ public class GetJavaRDDOfElementsExample extends SparkOperationExample {
         showExample(operation, null);
     }
 
+    @ExampleMethod(order = 3)
     public void getJavaRddOfElementsReturningEdgesOnly() {
         // ---------------------------------------------------------
         final GetJavaRDDOfElements operation = new GetJavaRDDOfElements.Builder()
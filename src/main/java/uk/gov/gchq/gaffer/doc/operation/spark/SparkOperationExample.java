@@ -31,17 +31,21 @@ public abstract class SparkOperationExample extends OperationExample {
                     + "Note, however, that data which has not been minor compacted will not be read if this option is used. "
                     + "This functionality is enabled using the option: \"gaffer.accumulo.spark.directrdd.use_rfile_reader=true\"";
 
+    /**
+     * The number of cores used by the local spark master, e.g. 4 or *.
+     * Defaults to 1.
+     */
+    public static final String LOCAL_CORES_PROPERTY = "gaffer.doc.spark.localCores";
+
+    private static boolean shareSparkSession;
+    private static SparkSession sharedSparkSession;
+
     private SparkConf sparkConf;
     private SparkSession sparkSession;
 
     public SparkOperationExample(final Class<? extends Operation> opClass, final String description) {
         super(opClass, createSparkDescription(description));
-        sparkConf = new SparkConf()
-                .setMaster("local")
-                .setAppName(getClass().getSimpleName())
-                .set(SparkConstants.SERIALIZER, SparkConstants.DEFAULT_SERIALIZER)
-                .set(SparkConstants.KRYO_REGISTRATOR,
-                        SparkConstants.DEFAULT_KRYO_REGISTRATOR);
+        sparkConf = createSparkConf(getClass().getSimpleName());
         skipPython();
     }
 
@@ -65,6 +69,24 @@ public abstract class SparkOperationExample extends OperationExample {
                 "```\n";
     }
 
+    /**
+     * Shares one spark session between all the spark examples until
+     * {@link #stopSharedSparkSession()} is called, rather than each example
+     * starting and stopping its own session. The session is started when the
+     * first example needs it.
+     */
+    static synchronized void startSharedSparkSession() {
+        shareSparkSession = true;
+    }
+
+    static synchronized void stopSharedSparkSession() {
+        shareSparkSession = false;
+        if (null != sharedSparkSession) {
+            sharedSparkSession.stop();
+            sharedSparkSession = null;
+        }
+    }
+
     @Override
     public void runExamples() {
         try {
@@ -72,12 +94,21 @@ public abstract class SparkOperationExample extends OperationExample {
         } catch (final Exception e) {
             throw new RuntimeException(e);
         } finally {
-            sparkSession.stop();
-            sparkSession = null;
+            if (null != sparkSession) {
+                if (sparkSession == sharedSparkSession) {
+                    // Leave the shared session as the next example expects to find it
+                    sparkSession.catalog().clearCache();
+                } else {
+                    sparkSession.stop();
+                }
+                sparkSession = null;
+            }
         }
     }
 
-    protected abstract void _runExamples() throws Exception;
+    protected void _runExamples() throws Exception {
+        runExampleMethods();
+    }
 
     @Override
     protected Context createContext() {
@@ -90,7 +121,30 @@ public abstract class SparkOperationExample extends OperationExample {
     }
 
     protected void createSparkSession() {
-        sparkSession = SparkSession.builder().config(sparkConf).getOrCreate();
-        sparkSession.sparkContext().setLogLevel("OFF");
+        synchronized (SparkOperationExample.class) {
+            if (shareSparkSession) {
+                if (null == sharedSparkSession) {
+                    sharedSparkSession = createSparkSession(createSparkConf(SparkOperationExamplesRunner.class.getSimpleName()));
+                }
+                sparkSession = sharedSparkSession;
+            } else {
+                sparkSession = createSparkSession(sparkConf);
+            }
+        }
+    }
+
+    private static SparkSession createSparkSession(final SparkConf sparkConf) {
+        final SparkSession session = SparkSession.builder().config(sparkConf).getOrCreate();
+        session.sparkContext().setLogLevel("OFF");
+        return session;
+    }
+
+    private static SparkConf createSparkConf(final String appName) {
+        return new SparkConf()
+                .setMaster("local[" + System.getProperty(LOCAL_CORES_PROPERTY, "1") + "]")
+                .setAppName(appName)
+                .set(SparkConstants.SERIALIZER, SparkConstants.DEFAULT_SERIALIZER)
+                .set(SparkConstants.KRYO_REGISTRATOR,
+                        SparkConstants.DEFAULT_KRYO_REGISTRATOR);
     }
 }
@@ -16,17 +16,37 @@
 package uk.gov.gchq.gaffer.doc.operation.spark;
 
 import uk.gov.gchq.gaffer.doc.operation.OperationExample;
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
 import uk.gov.gchq.gaffer.doc.util.ExampleDocRunner;
 
 /**
  * This runner will run all spark operation examples.
  */
 public class SparkOperationExamplesRunner extends ExampleDocRunner {
+    public static final String TITLE = "Spark Operations";
+
     public SparkOperationExamplesRunner() {
-        super("Spark Operations", OperationExample.class);
+        super(TITLE, OperationExample.class);
+    }
+
+    /**
+     * Runs the examples with one spark session, which is stopped once all
+     * the examples have finished.
+     */
+    @Override
+    public void _generate() throws Exception {
+        SparkOperationExample.startSharedSparkSession();
+        try {
+            super._generate();
+        } finally {
+            SparkOperationExample.stopSharedSparkSession();
+        }
     }
 
     public static void main(final String[] args) throws Exception {
+        DocFilter.applyArgs(args);
         new SparkOperationExamplesRunner().generate();
+        DocManifest.getInstance().save();
     }
 }
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.AgeOff;
 
 public class AgeOffExample extends PredicateExample {
@@ -28,11 +29,7 @@ public class AgeOffExample extends PredicateExample {
         super(AgeOff.class);
     }
 
-    @Override
-    public void runExamples() {
-        ageOffInMilliseconds();
-    }
-
+    @ExampleMethod(order = 1)
     public void ageOffInMilliseconds() {
         // ---------------------------------------------------------
         final AgeOff function = new AgeOff(100000L);
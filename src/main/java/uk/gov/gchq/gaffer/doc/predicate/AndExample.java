@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.And;
 import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
@@ -31,12 +32,7 @@ public class AndExample extends PredicateExample {
         super(And.class);
     }
 
-    @Override
-    public void runExamples() {
-        isLessThan3AndIsMoreThan0();
-        firstItemIsLessThan2AndSecondItemIsMoreThan5();
-    }
-
+    @ExampleMethod(order = 1)
     public void isLessThan3AndIsMoreThan0() {
         // ---------------------------------------------------------
         final And function = new And<>(
@@ -50,6 +46,7 @@ public class AndExample extends PredicateExample {
                 0, 1, 2, 3, 1L, 2L);
     }
 
+    @ExampleMethod(order = 2)
     public void firstItemIsLessThan2AndSecondItemIsMoreThan5() {
         // ---------------------------------------------------------
         final And function = new And.Builder()
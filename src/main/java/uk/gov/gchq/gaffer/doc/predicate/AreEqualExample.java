@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.AreEqual;
 import uk.gov.gchq.koryphe.tuple.n.Tuple2;
 
@@ -28,11 +29,7 @@ public class AreEqualExample extends PredicateExample {
         super(AreEqual.class);
     }
 
-    @Override
-    public void runExamples() {
-        areEqual();
-    }
-
+    @ExampleMethod(order = 1)
     public void areEqual() {
         // ---------------------------------------------------------
         final AreEqual function = new AreEqual();
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.AreIn;
 
 import java.util.Collections;
@@ -30,11 +31,7 @@ public class AreInExample extends PredicateExample {
         super(AreIn.class);
     }
 
-    @Override
-    public void runExamples() {
-        areInSet();
-    }
-
+    @ExampleMethod(order = 1)
     public void areInSet() {
         // ---------------------------------------------------------
         final AreIn function = new AreIn(1, 2, 3);
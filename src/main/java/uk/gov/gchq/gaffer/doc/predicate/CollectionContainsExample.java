@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.CollectionContains;
 
 import java.util.Collections;
@@ -30,11 +31,7 @@ public class CollectionContainsExample extends PredicateExample {
         super(CollectionContains.class);
     }
 
-    @Override
-    public void runExamples() {
-        collectionContains();
-    }
-
+    @ExampleMethod(order = 1)
     public void collectionContains() {
         // ---------------------------------------------------------
         final CollectionContains function = new CollectionContains(1);
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.Exists;
 
 public class ExistsExample extends PredicateExample {
@@ -27,11 +28,7 @@ public class ExistsExample extends PredicateExample {
         super(Exists.class);
     }
 
-    @Override
-    public void runExamples() {
-        exists();
-    }
-
+    @ExampleMethod(order = 1)
     public void exists() {
         // ---------------------------------------------------------
         final Exists function = new Exists();
@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.predicate;
 
 import com.clearspring.analytics.stream.cardinality.HyperLogLogPlus;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.sketches.clearspring.cardinality.predicate.HyperLogLogPlusIsLessThan;
 
 public class HyperLogLogPlusIsLessThanExample extends PredicateExample {
@@ -39,12 +40,7 @@ public class HyperLogLogPlusIsLessThanExample extends PredicateExample {
         hllp3.offer(3);
     }
 
-    @Override
-    public void runExamples() {
-        hyperLogLogPlusIsLessThan2();
-        hyperLogLogPlusIsLessThanOrEqualTo2();
-    }
-
+    @ExampleMethod(order = 1)
     public void hyperLogLogPlusIsLessThan2() {
         // ---------------------------------------------------------
         final HyperLogLogPlusIsLessThan function = new HyperLogLogPlusIsLessThan(2);
@@ -55,6 +51,7 @@ public class HyperLogLogPlusIsLessThanExample extends PredicateExample {
                 hllp1, hllp2, hllp3);
     }
 
+    @ExampleMethod(order = 2)
     public void hyperLogLogPlusIsLessThanOrEqualTo2() {
         // ---------------------------------------------------------
         final HyperLogLogPlusIsLessThan function = new HyperLogLogPlusIsLessThan(2, true);
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.If;
 import uk.gov.gchq.koryphe.impl.predicate.IsA;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
@@ -33,11 +34,7 @@ public class IfExample extends PredicateExample {
         super(If.class);
     }
 
-    @Override
-    protected void runExamples() {
-        applyPredicatesToInput();
-    }
-
+    @ExampleMethod(order = 1)
     public void applyPredicatesToInput() {
         // ---------------------------------------------------------
         final If<Comparable> predicate = new If<>(new IsA(Integer.class), new IsMoreThan(3), new Not<>(new IsA(String.class)));
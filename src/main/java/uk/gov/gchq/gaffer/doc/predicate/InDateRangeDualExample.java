@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.range.InDateRangeDual;
 import uk.gov.gchq.koryphe.tuple.n.Tuple2;
 import uk.gov.gchq.koryphe.util.DateUtil;
@@ -41,19 +42,7 @@ public class InDateRangeDualExample extends PredicateExample {
                         "You can use a space, '-', '/', '_', ':', '|', or '.' to separate the parts.");
     }
 
-    @Override
-    public void runExamples() {
-        inDateRangeWithDayPrecision();
-        inDateRangeWithSecondPrecision();
-        inDateRangeWithTimestamps();
-        inDateRangeExclusive();
-        withinTheLastWeek();
-        exactly7HoursAgo();
-        fullyUncontainedRange();
-        startContainedRange();
-        fullyContainedRange();
-    }
-
+    @ExampleMethod(order = 1)
     public void inDateRangeWithDayPrecision() {
         // ---------------------------------------------------------
         final InDateRangeDual function = new InDateRangeDual.Builder()
@@ -73,6 +62,7 @@ public class InDateRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 2)
     public void inDateRangeWithSecondPrecision() {
         // ---------------------------------------------------------
         final InDateRangeDual function = new InDateRangeDual.Builder()
@@ -92,6 +82,7 @@ public class InDateRangeDualExample extends PredicateExample {
     }
 
 
+    @ExampleMethod(order = 3)
     public void inDateRangeWithTimestamps() {
         // ---------------------------------------------------------
         final InDateRangeDual function = new InDateRangeDual.Builder()
@@ -110,6 +101,7 @@ public class InDateRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 4)
     public void inDateRangeExclusive() {
         // ---------------------------------------------------------
         final InDateRangeDual function = new InDateRangeDual.Builder()
@@ -131,6 +123,7 @@ public class InDateRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 5)
     public void withinTheLastWeek() {
         // ---------------------------------------------------------
         final InDateRangeDual function = new InDateRangeDual.Builder()
@@ -149,6 +142,7 @@ public class InDateRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 6)
     public void exactly7HoursAgo() {
         // ---------------------------------------------------------
         final InDateRangeDual function = new InDateRangeDual.Builder()
@@ -170,6 +164,7 @@ public class InDateRangeDualExample extends PredicateExample {
     }
 
 
+    @ExampleMethod(order = 7)
     public void fullyUncontainedRange() {
         // ---------------------------------------------------------
         final InDateRangeDual function = new InDateRangeDual.Builder()
@@ -190,6 +185,7 @@ public class InDateRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 8)
     public void startContainedRange() {
         // ---------------------------------------------------------
         final InDateRangeDual function = new InDateRangeDual.Builder()
@@ -210,6 +206,7 @@ public class InDateRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 9)
     public void fullyContainedRange() {
         // ---------------------------------------------------------
         final InDateRangeDual function = new InDateRangeDual.Builder()
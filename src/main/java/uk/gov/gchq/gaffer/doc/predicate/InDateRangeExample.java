@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.range.InDateRange;
 import uk.gov.gchq.koryphe.util.DateUtil;
 import uk.gov.gchq.koryphe.util.TimeUnit;
@@ -39,16 +40,7 @@ public class InDateRangeExample extends PredicateExample {
                         "You can use a space, '-', '/', '_', ':', '|', or '.' to separate the parts.");
     }
 
-    @Override
-    public void runExamples() {
-        inDateRangeWithDayPrecision();
-        inDateRangeWithSecondPrecision();
-        inDateRangeWithTimestamps();
-        inDateRangeExclusive();
-        withinTheLastWeek();
-        exactly7HoursAgo();
-    }
-
+    @ExampleMethod(order = 1)
     public void inDateRangeWithDayPrecision() {
         // ---------------------------------------------------------
         final InDateRange function = new InDateRange.Builder()
@@ -68,6 +60,7 @@ public class InDateRangeExample extends PredicateExample {
                 null);
     }
 
+    @ExampleMethod(order = 2)
     public void inDateRangeWithSecondPrecision() {
         // ---------------------------------------------------------
         final InDateRange function = new InDateRange.Builder()
@@ -87,6 +80,7 @@ public class InDateRangeExample extends PredicateExample {
     }
 
 
+    @ExampleMethod(order = 3)
     public void inDateRangeWithTimestamps() {
         // ---------------------------------------------------------
         final InDateRange function = new InDateRange.Builder()
@@ -105,6 +99,7 @@ public class InDateRangeExample extends PredicateExample {
                 null);
     }
 
+    @ExampleMethod(order = 4)
     public void inDateRangeExclusive() {
         // ---------------------------------------------------------
         final InDateRange function = new InDateRange.Builder()
@@ -126,6 +121,7 @@ public class InDateRangeExample extends PredicateExample {
                 null);
     }
 
+    @ExampleMethod(order = 5)
     public void withinTheLastWeek() {
         // ---------------------------------------------------------
         final InDateRange function = new InDateRange.Builder()
@@ -144,6 +140,7 @@ public class InDateRangeExample extends PredicateExample {
                 null);
     }
 
+    @ExampleMethod(order = 6)
     public void exactly7HoursAgo() {
         // ---------------------------------------------------------
         final InDateRange function = new InDateRange.Builder()
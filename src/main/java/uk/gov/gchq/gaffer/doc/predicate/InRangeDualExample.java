@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.range.InRangeDual;
 import uk.gov.gchq.koryphe.tuple.n.Tuple2;
 
@@ -28,18 +29,7 @@ public class InRangeDualExample extends PredicateExample {
         super(InRangeDual.class, "The predicate tests 2 inputs (a start and an end) are within a defined range.");
     }
 
-    @Override
-    public void runExamples() {
-        inLongRange5To10();
-        inLongRange5To10Exclusive();
-        inLongOverlappingRange();
-        inLongEndOverlappingRange();
-        inLongNonOverlappingRange();
-        inLongRangeLessThan10();
-        inIntegerRange5To10();
-        inStringRangeBToD();
-    }
-
+    @ExampleMethod(order = 1)
     public void inLongRange5To10() {
         // ---------------------------------------------------------
         final InRangeDual function = new InRangeDual.Builder<Long>()
@@ -61,6 +51,7 @@ public class InRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 2)
     public void inLongRange5To10Exclusive() {
         // ---------------------------------------------------------
         final InRangeDual function = new InRangeDual.Builder<Long>()
@@ -84,6 +75,7 @@ public class InRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 3)
     public void inLongOverlappingRange() {
         // ---------------------------------------------------------
         final InRangeDual function = new InRangeDual.Builder<Long>()
@@ -104,6 +96,7 @@ public class InRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 4)
     public void inLongEndOverlappingRange() {
         // ---------------------------------------------------------
         final InRangeDual function = new InRangeDual.Builder<Long>()
@@ -124,6 +117,7 @@ public class InRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 5)
     public void inLongNonOverlappingRange() {
         // ---------------------------------------------------------
         final InRangeDual function = new InRangeDual.Builder<Long>()
@@ -144,6 +138,7 @@ public class InRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 6)
     public void inLongRangeLessThan10() {
         // ---------------------------------------------------------
         final InRangeDual function = new InRangeDual.Builder<Long>()
@@ -165,6 +160,7 @@ public class InRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 7)
     public void inIntegerRange5To10() {
         // ---------------------------------------------------------
         final InRangeDual function = new InRangeDual.Builder<Integer>()
@@ -186,6 +182,7 @@ public class InRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 8)
     public void inStringRangeBToD() {
         // ---------------------------------------------------------
         final InRangeDual function = new InRangeDual.Builder<String>()
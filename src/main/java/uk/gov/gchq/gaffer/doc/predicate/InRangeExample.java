@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.range.InRange;
 
 public class InRangeExample extends PredicateExample {
@@ -27,15 +28,7 @@ public class InRangeExample extends PredicateExample {
         super(InRange.class);
     }
 
-    @Override
-    public void runExamples() {
-        inLongRange5To10();
-        inLongRange5To10Exclusive();
-        inLongRangeLessThan10();
-        inIntegerRange5To10();
-        inStringRangeBToD();
-    }
-
+    @ExampleMethod(order = 1)
     public void inLongRange5To10() {
         // ---------------------------------------------------------
         final InRange function = new InRange.Builder<Long>()
@@ -49,6 +42,7 @@ public class InRangeExample extends PredicateExample {
                 -5L, 1L, 5L, 7L, 10L, 20L, 7, "7", null);
     }
 
+    @ExampleMethod(order = 2)
     public void inLongRange5To10Exclusive() {
         // ---------------------------------------------------------
         final InRange function = new InRange.Builder<Long>()
@@ -64,6 +58,7 @@ public class InRangeExample extends PredicateExample {
                 -5L, 1L, 5L, 7L, 10L, 20L, 7, "7", null);
     }
 
+    @ExampleMethod(order = 3)
     public void inLongRangeLessThan10() {
         // ---------------------------------------------------------
         final InRange function = new InRange.Builder<Long>()
@@ -77,6 +72,7 @@ public class InRangeExample extends PredicateExample {
                 -5L, 1L, 5L, 7L, 10L, 20L, 7, "7", null);
     }
 
+    @ExampleMethod(order = 4)
     public void inIntegerRange5To10() {
         // ---------------------------------------------------------
         final InRange function = new InRange.Builder<Integer>()
@@ -90,6 +86,7 @@ public class InRangeExample extends PredicateExample {
                 -5, 1, 5, 7, 10, 20, 7L, "7", null);
     }
 
+    @ExampleMethod(order = 5)
     public void inStringRangeBToD() {
         // ---------------------------------------------------------
         final InRange function = new InRange.Builder<String>()
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.range.InTimeRangeDual;
 import uk.gov.gchq.koryphe.tuple.n.Tuple2;
 import uk.gov.gchq.koryphe.util.DateUtil;
@@ -39,20 +40,7 @@ public class InTimeRangeDualExample extends PredicateExample {
                         "You can use a space, '-', '/', '_', ':', '|', or '.' to separate the parts.");
     }
 
-    @Override
-    public void runExamples() {
-        inTimeRangeWithDayPrecision();
-        inTimeRangeWithSecondPrecision();
-        inTimeRangeWithTimestamps();
-        inTimeRangeExclusive();
-        withinTheLastWeek();
-        exactly7HoursAgo();
-        inDateRangeWithTimeUnitMicroseconds();
-        fullyUncontainedRange();
-        startContainedRange();
-        fullyContainedRange();
-    }
-
+    @ExampleMethod(order = 1)
     public void inTimeRangeWithDayPrecision() {
         // ---------------------------------------------------------
         final InTimeRangeDual function = new InTimeRangeDual.Builder()
@@ -72,6 +60,7 @@ public class InTimeRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 2)
     public void inTimeRangeWithSecondPrecision() {
         // ---------------------------------------------------------
         final InTimeRangeDual function = new InTimeRangeDual.Builder()
@@ -91,6 +80,7 @@ public class InTimeRangeDualExample extends PredicateExample {
     }
 
 
+    @ExampleMethod(order = 3)
     public void inTimeRangeWithTimestamps() {
         // ---------------------------------------------------------
         final InTimeRangeDual function = new InTimeRangeDual.Builder()
@@ -109,6 +99,7 @@ public class InTimeRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 4)
     public void inTimeRangeExclusive() {
         // ---------------------------------------------------------
         final InTimeRangeDual function = new InTimeRangeDual.Builder()
@@ -130,6 +121,7 @@ public class InTimeRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 5)
     public void withinTheLastWeek() {
         // ---------------------------------------------------------
         final InTimeRangeDual function = new InTimeRangeDual.Builder()
@@ -148,6 +140,7 @@ public class InTimeRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 6)
     public void exactly7HoursAgo() {
         // ---------------------------------------------------------
         final InTimeRangeDual function = new InTimeRangeDual.Builder()
@@ -168,6 +161,7 @@ public class InTimeRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 7)
     public void inDateRangeWithTimeUnitMicroseconds() {
         // ---------------------------------------------------------
         final InTimeRangeDual function = new InTimeRangeDual.Builder()
@@ -188,6 +182,7 @@ public class InTimeRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 8)
     public void fullyUncontainedRange() {
         // ---------------------------------------------------------
         final InTimeRangeDual function = new InTimeRangeDual.Builder()
@@ -208,6 +203,7 @@ public class InTimeRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 9)
     public void startContainedRange() {
         // ---------------------------------------------------------
         final InTimeRangeDual function = new InTimeRangeDual.Builder()
@@ -228,6 +224,7 @@ public class InTimeRangeDualExample extends PredicateExample {
                 new Tuple2<>(null, null));
     }
 
+    @ExampleMethod(order = 10)
     public void fullyContainedRange() {
         // ---------------------------------------------------------
         final InTimeRangeDual function = new InTimeRangeDual.Builder()
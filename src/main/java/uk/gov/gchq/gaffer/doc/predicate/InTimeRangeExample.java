@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.range.InTimeRange;
 import uk.gov.gchq.koryphe.util.DateUtil;
 import uk.gov.gchq.koryphe.util.TimeUnit;
@@ -37,17 +38,7 @@ public class InTimeRangeExample extends PredicateExample {
                         "You can use a space, '-', '/', '_', ':', '|', or '.' to separate the parts.");
     }
 
-    @Override
-    public void runExamples() {
-        inTimeRangeWithDayPrecision();
-        inTimeRangeWithSecondPrecision();
-        inTimeRangeWithTimestamps();
-        inTimeRangeExclusive();
-        withinTheLastWeek();
-        exactly7HoursAgo();
-        inDateRangeWithTimeUnitMicroseconds();
-    }
-
+    @ExampleMethod(order = 1)
     public void inTimeRangeWithDayPrecision() {
         // ---------------------------------------------------------
         final InTimeRange function = new InTimeRange.Builder()
@@ -67,6 +58,7 @@ public class InTimeRangeExample extends PredicateExample {
                 null);
     }
 
+    @ExampleMethod(order = 2)
     public void inTimeRangeWithSecondPrecision() {
         // ---------------------------------------------------------
         final InTimeRange function = new InTimeRange.Builder()
@@ -86,6 +78,7 @@ public class InTimeRangeExample extends PredicateExample {
     }
 
 
+    @ExampleMethod(order = 3)
     public void inTimeRangeWithTimestamps() {
         // ---------------------------------------------------------
         final InTimeRange function = new InTimeRange.Builder()
@@ -104,6 +97,7 @@ public class InTimeRangeExample extends PredicateExample {
                 null);
     }
 
+    @ExampleMethod(order = 4)
     public void inTimeRangeExclusive() {
         // ---------------------------------------------------------
         final InTimeRange function = new InTimeRange.Builder()
@@ -125,6 +119,7 @@ public class InTimeRangeExample extends PredicateExample {
                 null);
     }
 
+    @ExampleMethod(order = 5)
     public void withinTheLastWeek() {
         // ---------------------------------------------------------
         final InTimeRange function = new InTimeRange.Builder()
@@ -143,6 +138,7 @@ public class InTimeRangeExample extends PredicateExample {
                 null);
     }
 
+    @ExampleMethod(order = 6)
     public void exactly7HoursAgo() {
         // ---------------------------------------------------------
         final InTimeRange function = new InTimeRange.Builder()
@@ -163,6 +159,7 @@ public class InTimeRangeExample extends PredicateExample {
                 null);
     }
 
+    @ExampleMethod(order = 7)
     public void inDateRangeWithTimeUnitMicroseconds() {
         // ---------------------------------------------------------
         final InTimeRange function = new InTimeRange.Builder()
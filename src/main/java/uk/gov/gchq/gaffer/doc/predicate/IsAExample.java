@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsA;
 
 public class IsAExample extends PredicateExample {
@@ -26,12 +27,7 @@ public class IsAExample extends PredicateExample {
         super(IsA.class);
     }
 
-    @Override
-    public void runExamples() {
-        isAString();
-        isANumber();
-    }
-
+    @ExampleMethod(order = 1)
     public void isAString() {
         // ---------------------------------------------------------
         final IsA function = new IsA(String.class);
@@ -42,6 +38,7 @@ public class IsAExample extends PredicateExample {
                 1, 2.5, "abc");
     }
 
+    @ExampleMethod(order = 2)
     public void isANumber() {
         // ---------------------------------------------------------
         final IsA function = new IsA(Number.class);
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsEqual;
 
 public class IsEqualExample extends PredicateExample {
@@ -26,13 +27,7 @@ public class IsEqualExample extends PredicateExample {
         super(IsEqual.class);
     }
 
-    @Override
-    public void runExamples() {
-        isEqualTo5();
-        isEqualToString5();
-        isEqualLong5();
-    }
-
+    @ExampleMethod(order = 1)
     public void isEqualTo5() {
         // ---------------------------------------------------------
         final IsEqual function = new IsEqual(5);
@@ -43,6 +38,7 @@ public class IsEqualExample extends PredicateExample {
                 5, 5L, "5", '5');
     }
 
+    @ExampleMethod(order = 2)
     public void isEqualToString5() {
         // ---------------------------------------------------------
         final IsEqual function = new IsEqual("5");
@@ -53,6 +49,7 @@ public class IsEqualExample extends PredicateExample {
                 5, 5L, "5", '5');
     }
 
+    @ExampleMethod(order = 3)
     public void isEqualLong5() {
         // ---------------------------------------------------------
         final IsEqual function = new IsEqual(5L);
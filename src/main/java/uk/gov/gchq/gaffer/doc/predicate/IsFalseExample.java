@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsFalse;
 
 public class IsFalseExample extends PredicateExample {
@@ -27,11 +28,7 @@ public class IsFalseExample extends PredicateExample {
         super(IsFalse.class);
     }
 
-    @Override
-    public void runExamples() {
-        isFalse();
-    }
-
+    @ExampleMethod(order = 1)
     public void isFalse() {
         // ---------------------------------------------------------
         final IsFalse function = new IsFalse();
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsIn;
 
 public class IsInExample extends PredicateExample {
@@ -26,11 +27,7 @@ public class IsInExample extends PredicateExample {
         super(IsIn.class);
     }
 
-    @Override
-    public void runExamples() {
-        isInSet();
-    }
-
+    @ExampleMethod(order = 1)
     public void isInSet() {
         // ---------------------------------------------------------
         final IsIn function = new IsIn(5, 5L, "5", '5');
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
 
 public class IsLessThanExample extends PredicateExample {
@@ -26,14 +27,7 @@ public class IsLessThanExample extends PredicateExample {
         super(IsLessThan.class);
     }
 
-    @Override
-    public void runExamples() {
-        isLessThan5();
-        isLessThanOrEqualTo5();
-        isLessThanALong5();
-        isLessThanAString();
-    }
-
+    @ExampleMethod(order = 1)
     public void isLessThan5() {
         // ---------------------------------------------------------
         final IsLessThan function = new IsLessThan(5);
@@ -44,6 +38,7 @@ public class IsLessThanExample extends PredicateExample {
                 1, 1L, 5, 5L, 10, 10L, "1");
     }
 
+    @ExampleMethod(order = 2)
     public void isLessThanOrEqualTo5() {
         // ---------------------------------------------------------
         final IsLessThan function = new IsLessThan(5, true);
@@ -54,6 +49,7 @@ public class IsLessThanExample extends PredicateExample {
                 1, 1L, 5, 5L, 10, 10L, "1");
     }
 
+    @ExampleMethod(order = 3)
     public void isLessThanALong5() {
         // ---------------------------------------------------------
         final IsLessThan function = new IsLessThan(5L);
@@ -64,6 +60,7 @@ public class IsLessThanExample extends PredicateExample {
                 1, 1L, 5, 5L, 10, 10L, "1");
     }
 
+    @ExampleMethod(order = 4)
     public void isLessThanAString() {
         // ---------------------------------------------------------
         final IsLessThan function = new IsLessThan("B");
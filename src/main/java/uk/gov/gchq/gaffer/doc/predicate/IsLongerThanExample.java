@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsLongerThan;
 
 import java.util.Arrays;
@@ -29,12 +30,7 @@ public class IsLongerThanExample extends PredicateExample {
         new IsLongerThanExample().runAndPrint();
     }
 
-    @Override
-    protected void runExamples() {
-        testInputs();
-        testInputsWithEqualToSet();
-    }
-
+    @ExampleMethod(order = 1)
     public void testInputs() {
         // ---------------------------------------------------------
         final IsLongerThan predicate = new IsLongerThan(5);
@@ -49,6 +45,7 @@ public class IsLongerThanExample extends PredicateExample {
                 Arrays.asList(0, 1, 2, 3, 4, 5));
     }
 
+    @ExampleMethod(order = 2)
     public void testInputsWithEqualToSet() {
         // ---------------------------------------------------------
         final IsLongerThan predicate = new IsLongerThan(5, true);
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
 public class IsMoreThanExample extends PredicateExample {
@@ -26,14 +27,7 @@ public class IsMoreThanExample extends PredicateExample {
         super(IsMoreThan.class);
     }
 
-    @Override
-    public void runExamples() {
-        isMoreThan5();
-        isMoreThanOrEqualTo5();
-        isMoreThanALong5();
-        isMoreThanAString();
-    }
-
+    @ExampleMethod(order = 1)
     public void isMoreThan5() {
         // ---------------------------------------------------------
         final IsMoreThan function = new IsMoreThan(5);
@@ -44,6 +38,7 @@ public class IsMoreThanExample extends PredicateExample {
                 1, 5, 10);
     }
 
+    @ExampleMethod(order = 2)
     public void isMoreThanOrEqualTo5() {
         // ---------------------------------------------------------
         final IsMoreThan function = new IsMoreThan(5, true);
@@ -54,6 +49,7 @@ public class IsMoreThanExample extends PredicateExample {
                 1, 5, 10);
     }
 
+    @ExampleMethod(order = 3)
     public void isMoreThanALong5() {
         // ---------------------------------------------------------
         final IsMoreThan function = new IsMoreThan(5L);
@@ -64,6 +60,7 @@ public class IsMoreThanExample extends PredicateExample {
                 1, 1L, 5, 5L, 10, 10L, "abc");
     }
 
+    @ExampleMethod(order = 4)
     public void isMoreThanAString() {
         // ---------------------------------------------------------
         final IsMoreThan function = new IsMoreThan("B");
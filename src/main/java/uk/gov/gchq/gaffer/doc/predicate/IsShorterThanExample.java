@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.predicate;
 
 import com.google.common.collect.Lists;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsShorterThan;
 
 import java.util.HashMap;
@@ -38,11 +39,7 @@ public class IsShorterThanExample extends PredicateExample {
         bigMap.put("4", "d");
     }
 
-    @Override
-    public void runExamples() {
-        isShorterThan4();
-    }
-
+    @ExampleMethod(order = 1)
     public void isShorterThan4() {
         // ---------------------------------------------------------
         final IsShorterThan function = new IsShorterThan(4);
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsTrue;
 
 public class IsTrueExample extends PredicateExample {
@@ -27,11 +28,7 @@ public class IsTrueExample extends PredicateExample {
         super(IsTrue.class);
     }
 
-    @Override
-    public void runExamples() {
-        isTrue();
-    }
-
+    @ExampleMethod(order = 1)
     public void isTrue() {
         // ---------------------------------------------------------
         final IsTrue function = new IsTrue();
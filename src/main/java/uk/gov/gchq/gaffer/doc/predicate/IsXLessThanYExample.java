@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsXLessThanY;
 import uk.gov.gchq.koryphe.tuple.n.Tuple2;
 
@@ -27,11 +28,7 @@ public class IsXLessThanYExample extends PredicateExample {
         super(IsXLessThanY.class);
     }
 
-    @Override
-    public void runExamples() {
-        isXLessThanY();
-    }
-
+    @ExampleMethod(order = 1)
     public void isXLessThanY() {
         // ---------------------------------------------------------
         final IsXLessThanY function = new IsXLessThanY();
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsXMoreThanY;
 import uk.gov.gchq.koryphe.tuple.n.Tuple2;
 
@@ -27,11 +28,7 @@ public class IsXMoreThanYExample extends PredicateExample {
         super(IsXMoreThanY.class);
     }
 
-    @Override
-    public void runExamples() {
-        isXMoreThanY();
-    }
-
+    @ExampleMethod(order = 1)
     public void isXMoreThanY() {
         // ---------------------------------------------------------
         final IsXMoreThanY function = new IsXMoreThanY();
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.MapContains;
 
 import java.util.HashMap;
@@ -44,11 +45,7 @@ public class MapContainsExample extends PredicateExample {
         mapNullA.put("c", "3");
     }
 
-    @Override
-    public void runExamples() {
-        mapContains();
-    }
-
+    @ExampleMethod(order = 1)
     public void mapContains() {
         // ---------------------------------------------------------
         final MapContains function = new MapContains("a");
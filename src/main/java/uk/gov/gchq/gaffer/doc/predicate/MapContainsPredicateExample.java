@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.MapContainsPredicate;
 import uk.gov.gchq.koryphe.impl.predicate.Regex;
 
@@ -46,11 +47,7 @@ public class MapContainsPredicateExample extends PredicateExample {
         mapNullA.put("c", "3");
     }
 
-    @Override
-    public void runExamples() {
-        mapContainsPredicate();
-    }
-
+    @ExampleMethod(order = 1)
     public void mapContainsPredicate() {
         // ---------------------------------------------------------
         final MapContainsPredicate function = new MapContainsPredicate(new Regex("a.*"));
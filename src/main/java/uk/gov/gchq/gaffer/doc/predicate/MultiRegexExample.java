@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.MultiRegex;
 
 import java.util.regex.Pattern;
@@ -28,11 +29,7 @@ public class MultiRegexExample extends PredicateExample {
         super(MultiRegex.class);
     }
 
-    @Override
-    public void runExamples() {
-        multiRegexWithPattern();
-    }
-
+    @ExampleMethod(order = 1)
     public void multiRegexWithPattern() {
         // ---------------------------------------------------------
         final MultiRegex function = new MultiRegex(new Pattern[]{Pattern.compile("[a-d]"), Pattern.compile("[0-4]")});
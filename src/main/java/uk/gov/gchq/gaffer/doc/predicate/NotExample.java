@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.AreEqual;
 import uk.gov.gchq.koryphe.impl.predicate.Exists;
 import uk.gov.gchq.koryphe.impl.predicate.Not;
@@ -30,12 +31,7 @@ public class NotExample extends PredicateExample {
         super(Not.class);
     }
 
-    @Override
-    public void runExamples() {
-        doesNotExist();
-        areNotEqual();
-    }
-
+    @ExampleMethod(order = 1)
     public void doesNotExist() {
         // ---------------------------------------------------------
         final Not function = new Not<>(new Exists());
@@ -44,6 +40,7 @@ public class NotExample extends PredicateExample {
         runExample(function, null, 1, null, "", "abc");
     }
 
+    @ExampleMethod(order = 2)
     public void areNotEqual() {
         // ---------------------------------------------------------
         final Not function = new Not<>(new AreEqual());
@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.IsEqual;
 import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
@@ -32,13 +33,7 @@ public class OrExample extends PredicateExample {
         super(Or.class);
     }
 
-    @Override
-    public void runExamples() {
-        isLessThan2EqualTo5OrIsMoreThan10();
-        isLessThan2EqualTo5OrIsMoreThan10();
-        firstItemIsLessThan2OrSecondItemIsMoreThan10();
-    }
-
+    @ExampleMethod(order = 1)
     public void isLessThan2EqualTo5OrIsMoreThan10() {
         // ---------------------------------------------------------
         final Or function = new Or<>(
@@ -53,6 +48,7 @@ public class OrExample extends PredicateExample {
                 1, 2, 3, 5, 15, 1L, 3L, 5L);
     }
 
+    @ExampleMethod(order = 2)
     public void firstItemIsLessThan2OrSecondItemIsMoreThan10() {
         // ---------------------------------------------------------
         final Or function = new Or.Builder()
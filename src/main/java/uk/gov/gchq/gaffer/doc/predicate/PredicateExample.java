@@ -34,12 +34,12 @@ public abstract class PredicateExample extends Example {
     }
 
     public void runExample(final Predicate predicate, final String description, final Object... inputs) {
-        print("### " + getMethodNameAsSentence(1) + "\n");
+        print("### " + getExampleMethodTitle() + "\n");
         if (StringUtils.isNotBlank(description)) {
             print(description + "\n");
         }
 
-        printJavaJsonPython(predicate, 3);
+        printJavaJsonPython(predicate);
 
         print("Input type:");
         print("\n```");
@@ -15,17 +15,28 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
 import uk.gov.gchq.gaffer.doc.util.ExampleDocRunner;
 
 /**
  * This runner will run all predicate examples.
  */
 public class PredicateExamplesRunner extends ExampleDocRunner {
+    public static final String TITLE = "Predicates";
+
     public PredicateExamplesRunner() {
-        super("Predicates", PredicateExample.class);
+        super(TITLE, PredicateExample.class);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
     }
 
     public static void main(final String[] args) throws Exception {
+        DocFilter.applyArgs(args);
         new PredicateExamplesRunner().generate();
+        DocManifest.getInstance().save();
     }
 }
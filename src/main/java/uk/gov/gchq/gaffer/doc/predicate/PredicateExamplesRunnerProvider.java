@@ -0,0 +1,27 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.predicate;
+
+import uk.gov.gchq.gaffer.doc.DocGeneratorProvider;
+
+/**
+ * Provides the {@link PredicateExamplesRunner}, which generates the predicate examples.
+ */
+public class PredicateExamplesRunnerProvider extends DocGeneratorProvider {
+    public PredicateExamplesRunnerProvider() {
+        super(PredicateExamplesRunner.TITLE, "uk.gov.gchq.gaffer.doc.predicate.PredicateExamplesRunner", 70, Stack.CORE);
+    }
+}
@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.gaffer.types.FreqMap;
 import uk.gov.gchq.koryphe.impl.predicate.Exists;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
@@ -33,13 +34,7 @@ public class PredicateMapExample extends PredicateExample {
         super(PredicateMap.class);
     }
 
-    @Override
-    public void runExamples() {
-        freqMapIsMoreThan2();
-        freqMapIsMoreThanOrEqualTo2();
-        mapWithDateKeyHasAValueThatExists();
-    }
-
+    @ExampleMethod(order = 1)
     public void freqMapIsMoreThan2() {
         // ---------------------------------------------------------
         final PredicateMap function = new PredicateMap("key1", new IsMoreThan(2L));
@@ -66,6 +61,7 @@ public class PredicateMapExample extends PredicateExample {
                 map1, map2, map3, map4, map5);
     }
 
+    @ExampleMethod(order = 2)
     public void freqMapIsMoreThanOrEqualTo2() {
         // ---------------------------------------------------------
         final PredicateMap function = new PredicateMap("key1", new IsMoreThan(2L, true));
@@ -92,6 +88,7 @@ public class PredicateMapExample extends PredicateExample {
                 map1, map2, map3, map4, map5);
     }
 
+    @ExampleMethod(order = 3)
     public void mapWithDateKeyHasAValueThatExists() {
         // ---------------------------------------------------------
         final PredicateMap function = new PredicateMap(new Date(0L), new Exists());
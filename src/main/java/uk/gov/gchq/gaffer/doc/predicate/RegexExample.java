@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.doc.predicate;
 
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.Regex;
 
 public class RegexExample extends PredicateExample {
@@ -27,11 +28,7 @@ public class RegexExample extends PredicateExample {
         super(Regex.class);
     }
 
-    @Override
-    public void runExamples() {
-        regexWithPattern();
-    }
-
+    @ExampleMethod(order = 1)
     public void regexWithPattern() {
         // ---------------------------------------------------------
         final Regex function = new Regex("[a-d0-4]");
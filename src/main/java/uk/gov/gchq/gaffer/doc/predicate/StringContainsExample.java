@@ -15,6 +15,7 @@
  */
 package uk.gov.gchq.gaffer.doc.predicate;
 
+import uk.gov.gchq.gaffer.doc.util.ExampleMethod;
 import uk.gov.gchq.koryphe.impl.predicate.StringContains;
 
 public class StringContainsExample extends PredicateExample {
@@ -27,12 +28,7 @@ public class StringContainsExample extends PredicateExample {
         super(StringContains.class);
     }
 
-    @Override
-    protected void runExamples() {
-        stringContainsValue();
-        stringContainsValueIgnoreCase();
-    }
-
+    @ExampleMethod(order = 1)
     public void stringContainsValue() {
         // ---------------------------------------------------------
         final StringContains function = new StringContains("test");
@@ -44,6 +40,7 @@ public class StringContainsExample extends PredicateExample {
 
     }
 
+    @ExampleMethod(order = 2)
     public void stringContainsValueIgnoreCase() {
         // ---------------------------------------------------------
         final StringContains function = new StringContains("test", true);
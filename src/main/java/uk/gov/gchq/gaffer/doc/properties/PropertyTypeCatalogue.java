@@ -0,0 +1,312 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.properties;
+
+import com.google.common.collect.Sets;
+import org.apache.commons.io.FileUtils;
+import org.reflections.Reflections;
+import org.reflections.util.ClasspathHelper;
+
+import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.serialisation.Serialiser;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.koryphe.binaryoperator.AdaptedBinaryOperator;
+import uk.gov.gchq.koryphe.binaryoperator.BinaryOperatorComposite;
+import uk.gov.gchq.koryphe.predicate.AdaptedPredicate;
+import uk.gov.gchq.koryphe.predicate.PredicateComposite;
+import uk.gov.gchq.koryphe.signature.Signature;
+import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator;
+import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperatorComposite;
+import uk.gov.gchq.koryphe.tuple.predicate.IntegerTupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
+import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicateComposite;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * A catalogue of the predicates, aggregators and serialisers that are
+ * compatible with each property type.
+ * <p>
+ * The functions and serialisers are found with a single classpath scan, which
+ * is only done when a property type is not already in the catalogue. The
+ * compatibility of each property type is worked out once and saved to
+ * {@value #CATALOGUE_PATH}, so later builds answer each property type with a
+ * lookup. The saved catalogue is discarded if the Gaffer or Koryphe version
+ * changes, or if the shared java source of this project changes, as the scan
+ * also finds the functions and serialisers written here.
+ */
+public final class PropertyTypeCatalogue {
+    public static final String CATALOGUE_PATH = "target/property-type-catalogue.json";
+    private static final String VERSIONS_KEY = "versions";
+    private static final String PROPERTY_TYPES_KEY = "propertyTypes";
+    private static final String PREDICATES_KEY = "predicates";
+    private static final String AGGREGATORS_KEY = "aggregators";
+    private static final String TO_BYTES_SERIALISERS_KEY = "toBytesSerialisers";
+    private static final String OTHER_SERIALISERS_KEY = "otherSerialisers";
+
+    private static final Set<Class<?>> SYSTEM_CLASSES = Sets.newHashSet(
+            AdaptedPredicate.class,
+            PredicateComposite.class,
+            IntegerTupleAdaptedPredicate.class,
+            TupleAdaptedPredicate.class,
+            TupleAdaptedPredicateComposite.class,
+            ElementAggregator.class,
+            AdaptedBinaryOperator.class,
+            BinaryOperatorComposite.class,
+            TupleAdaptedBinaryOperator.class,
+            TupleAdaptedBinaryOperatorComposite.class,
+            ElementFilter.class
+    );
+
+    private static PropertyTypeCatalogue instance;
+
+    private final File catalogueFile;
+    private final String versions;
+    private final Map<String, Map<String, List<String>>> propertyTypes;
+    private Candidates candidates;
+    private boolean modified;
+
+    private PropertyTypeCatalogue(final File catalogueFile) {
+        this.catalogueFile = catalogueFile;
+        this.versions = DocManifest.getLibraryVersions() + "," + DocManifest.getInstance().getSharedSourceHash();
+        this.propertyTypes = load(catalogueFile, versions);
+    }
+
+    public static synchronized PropertyTypeCatalogue getInstance() {
+        if (null == instance) {
+            instance = new PropertyTypeCatalogue(new File(CATALOGUE_PATH));
+        }
+        return instance;
+    }
+
+    /**
+     * @param propertyType the property type
+     * @return the predicates that accept the property type, sorted by class name
+     */
+    public List<Class<?>> getPredicates(final Class<?> propertyType) {
+        return getCompatibleClasses(propertyType, PREDICATES_KEY);
+    }
+
+    /**
+     * @param propertyType the property type
+     * @return the aggregators that accept the property type, sorted by class name
+     */
+    public List<Class<?>> getAggregators(final Class<?> propertyType) {
+        return getCompatibleClasses(propertyType, AGGREGATORS_KEY);
+    }
+
+    /**
+     * @param propertyType the property type
+     * @return the {@link ToBytesSerialiser}s that can handle the property type, sorted by class name
+     */
+    public List<Class<?>> getToBytesSerialisers(final Class<?> propertyType) {
+        return getCompatibleClasses(propertyType, TO_BYTES_SERIALISERS_KEY);
+    }
+
+    /**
+     * @param propertyType the property type
+     * @return the other {@link Serialiser}s that can handle the property type, sorted by class name
+     */
+    public List<Class<?>> getOtherSerialisers(final Class<?> propertyType) {
+        return getCompatibleClasses(propertyType, OTHER_SERIALISERS_KEY);
+    }
+
+    /**
+     * Saves the catalogue if any property types have been added to it.
+     */
+    public synchronized void save() {
+        if (!modified) {
+            return;
+        }
+
+        final Map<String, Object> catalogue = new TreeMap<>();
+        catalogue.put(VERSIONS_KEY, versions);
+        catalogue.put(PROPERTY_TYPES_KEY, new TreeMap<>(propertyTypes));
+        try {
+            FileUtils.writeByteArrayToFile(catalogueFile, JSONSerialiser.serialise(catalogue, true));
+        } catch (final IOException | SerialisationException e) {
+            throw new RuntimeException("Unable to save the property type catalogue: " + catalogueFile.getPath(), e);
+        }
+        modified = false;
+    }
+
+    private List<Class<?>> getCompatibleClasses(final Class<?> propertyType, final String key) {
+        final List<Class<?>> classes = new ArrayList<>();
+        for (final String className : getPropertyType(propertyType).get(key)) {
+            try {
+                classes.add(Class.forName(className));
+            } catch (final ClassNotFoundException e) {
+                throw new RuntimeException("Unable to load class from the property type catalogue: " + className, e);
+            }
+        }
+        return classes;
+    }
+
+    private synchronized Map<String, List<String>> getPropertyType(final Class<?> propertyType) {
+        Map<String, List<String>> compatibleClasses = propertyTypes.get(propertyType.getName());
+        if (null == compatibleClasses) {
+            compatibleClasses = getCandidates().getCompatibleClasses(propertyType);
+            propertyTypes.put(propertyType.getName(), compatibleClasses);
+            modified = true;
+        }
+        return compatibleClasses;
+    }
+
+    private Candidates getCandidates() {
+        if (null == candidates) {
+            candidates = new Candidates();
+        }
+        return candidates;
+    }
+
+    private static Map<String, Map<String, List<String>>> load(final File catalogueFile, final String versions) {
+        if (catalogueFile.exists()) {
+            try {
+                final Map<String, Object> catalogue = JSONSerialiser.deserialise(FileUtils.readFileToByteArray(catalogueFile), Map.class);
+                if (versions.equals(catalogue.get(VERSIONS_KEY)) && catalogue.get(PROPERTY_TYPES_KEY) instanceof Map) {
+                    return new HashMap<>((Map<String, Map<String, List<String>>>) catalogue.get(PROPERTY_TYPES_KEY));
+                }
+            } catch (final IOException | SerialisationException e) {
+                // An unreadable catalogue is just rebuilt
+            }
+        }
+        return new HashMap<>();
+    }
+
+    /**
+     * The functions and serialisers that property types are checked against.
+     */
+    private static final class Candidates {
+        private final List<Predicate> predicates;
+        private final List<BinaryOperator> aggregators;
+        private final List<ToBytesSerialiser> toBytesSerialisers;
+        private final List<Serialiser> otherSerialisers;
+
+        private Candidates() {
+            final Reflections reflections = new Reflections(ClasspathHelper.forPackage("uk.gov.gchq"));
+            predicates = getSubClassInstances(reflections, Predicate.class);
+            aggregators = getSubClassInstances(reflections, BinaryOperator.class);
+            toBytesSerialisers = getSubClassInstances(reflections, ToBytesSerialiser.class);
+            otherSerialisers = getSubClassInstances(reflections, Serialiser.class);
+            otherSerialisers.removeIf(c -> {
+                boolean contains = false;
+                for (final ToBytesSerialiser serialiser : toBytesSerialisers) {
+                    if (serialiser.getClass().equals(c.getClass())) {
+                        contains = true;
+                        break;
+                    }
+                }
+                return contains;
+            });
+        }
+
+        private Map<String, List<String>> getCompatibleClasses(final Class<?> propertyType) {
+            final Map<String, List<String>> compatibleClasses = new HashMap<>();
+
+            final List<String> compatiblePredicates = new ArrayList<>();
+            for (final Predicate function : predicates) {
+                try {
+                    final Signature signature = Signature.getInputSignature(function);
+                    if (signature.assignable(propertyType).isValid()) {
+                        compatiblePredicates.add(function.getClass().getName());
+                    }
+                } catch (final Exception e) {
+                    // just add the function.
+                    compatiblePredicates.add(function.getClass().getName());
+                }
+            }
+            compatibleClasses.put(PREDICATES_KEY, compatiblePredicates);
+
+            final List<String> compatibleAggregators = new ArrayList<>();
+            for (final BinaryOperator function : aggregators) {
+                final Signature signature = Signature.getInputSignature(function);
+                if (signature.assignable(propertyType).isValid()) {
+                    compatibleAggregators.add(function.getClass().getName());
+                }
+            }
+            compatibleClasses.put(AGGREGATORS_KEY, compatibleAggregators);
+
+            compatibleClasses.put(TO_BYTES_SERIALISERS_KEY, getHandlingSerialisers(toBytesSerialisers, propertyType));
+            compatibleClasses.put(OTHER_SERIALISERS_KEY, getHandlingSerialisers(otherSerialisers, propertyType));
+            return compatibleClasses;
+        }
+
+        private static List<String> getHandlingSerialisers(final List<? extends Serialiser> serialisers, final Class<?> propertyType) {
+            final List<String> handlingSerialisers = new ArrayList<>();
+            for (final Serialiser serialiser : serialisers) {
+                if (serialiser.canHandle(propertyType)) {
+                    handlingSerialisers.add(serialiser.getClass().getName());
+                }
+            }
+            return handlingSerialisers;
+        }
+
+        private static <T> List<T> getSubClassInstances(final Reflections reflections, final Class<T> clazz) {
+            final List<T> instances = new ArrayList<>();
+            for (final Class aClass : getSubClasses(reflections, clazz)) {
+                try {
+                    instances.add(((Class<T>) aClass).newInstance());
+                } catch (final InstantiationException | IllegalAccessException e) {
+                    // ignore errors
+                }
+            }
+
+            return instances;
+        }
+
+        private static List<Class> getSubClasses(final Reflections reflections, final Class<?> clazz) {
+            final List<Class> classes = new ArrayList<Class>(reflections.getSubTypesOf(clazz));
+            keepPublicConcreteClasses(classes);
+            classes.removeIf(c -> c.getName().contains("uk.gov.gchq.gaffer.doc"));
+            classes.removeAll(SYSTEM_CLASSES);
+            classes.sort(Comparator.comparing(Class::getName));
+
+            return classes;
+        }
+
+        private static void keepPublicConcreteClasses(final Collection<Class> classes) {
+            if (null != classes) {
+                final Iterator<Class> itr = classes.iterator();
+                while (itr.hasNext()) {
+                    final Class clazz = itr.next();
+                    if (null != clazz) {
+                        final int modifiers = clazz.getModifiers();
+                        if (Modifier.isAbstract(modifiers) || Modifier.isInterface(modifiers) || Modifier.isPrivate(modifiers) || Modifier.isProtected(modifiers)) {
+                            itr.remove();
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
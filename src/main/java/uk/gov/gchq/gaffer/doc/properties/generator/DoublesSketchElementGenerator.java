@@ -28,14 +28,14 @@ import java.util.Random;
 
 public class DoublesSketchElementGenerator implements OneToManyElementGenerator<String> {
     // Fix the seed so that the results are consistent
-    private static final Random RANDOM = new Random(123456789L);
+    private final Random random = new Random(123456789L);
 
     @Override
     public Iterable<Element> _apply(final String line) {
         final List<Element> elements = new ArrayList<>();
         for (int i = 0; i < 1000; i++) {
             final UpdateDoublesSketch doublesSketch = DoublesSketch.builder().build();
-            doublesSketch.update(RANDOM.nextGaussian());
+            doublesSketch.update(random.nextGaussian());
             final Edge edge = new Edge.Builder()
                     .group("red")
                     .source("A")
@@ -27,14 +27,14 @@ import java.util.Random;
 
 public class LongsSketchElementGenerator implements OneToManyElementGenerator<String> {
     // Fix the seed so that the results are consistent
-    private static final Random RANDOM = new Random(123456789L);
+    private final Random random = new Random(123456789L);
 
     @Override
     public Iterable<Element> _apply(final String line) {
         final List<Element> elements = new ArrayList<>();
         for (int i = 0; i < 1000; i++) {
             final LongsSketch longsSketch = new LongsSketch(32);
-            longsSketch.update((long) (RANDOM.nextDouble() * 10));
+            longsSketch.update((long) (random.nextDouble() * 10));
             final Edge edge = new Edge.Builder()
                     .group("red")
                     .source("A")
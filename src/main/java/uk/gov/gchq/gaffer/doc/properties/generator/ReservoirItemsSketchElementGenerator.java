@@ -29,7 +29,7 @@ import java.util.Random;
 public class ReservoirItemsSketchElementGenerator implements OneToManyElementGenerator<String> {
     private static final char[] CHARS = new char[]{'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J'};
     // Fix the seed so that the results are consistent
-    private static final Random RANDOM = new Random(123456789L);
+    private final Random random = new Random(123456789L);
 
     @Override
     public Iterable<Element> _apply(final String line) {
@@ -72,10 +72,10 @@ public class ReservoirItemsSketchElementGenerator implements OneToManyElementGen
         return elements;
     }
 
-    private static String getRandomString() {
+    private String getRandomString() {
         final StringBuilder builder = new StringBuilder();
         for (int i = 0; i < 10; i++) {
-            builder.append(CHARS[RANDOM.nextInt(10)]);
+            builder.append(CHARS[random.nextInt(10)]);
         }
         return builder.toString();
     }
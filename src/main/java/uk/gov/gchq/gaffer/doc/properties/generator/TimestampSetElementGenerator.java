@@ -30,17 +30,18 @@ import java.util.Random;
 import java.util.Set;
 
 public class TimestampSetElementGenerator implements OneToManyElementGenerator<String> {
-    // Fix the seed so that the results are consistent
-    private static final Random RANDOM = new Random(123456789L);
     private static final Instant START_OF_2017 = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC")).toInstant();
     private static final int SECONDS_IN_YEAR = 365 * 24 * 60 * 60;
 
+    // Fix the seed so that the results are consistent
+    private final Random random = new Random(123456789L);
+
     @Override
     public Iterable<Element> _apply(final String line) {
         final Set<Element> elements = new HashSet<>();
         for (int i = 0; i < 25; i++) {
             final TimestampSet timestampSet = new RBMBackedTimestampSet(CommonTimeUtil.TimeBucket.MINUTE);
-            timestampSet.add(START_OF_2017.plusSeconds(RANDOM.nextInt(SECONDS_IN_YEAR)));
+            timestampSet.add(START_OF_2017.plusSeconds(random.nextInt(SECONDS_IN_YEAR)));
             final Edge edge = new Edge.Builder()
                     .group("red")
                     .source("A")
@@ -15,83 +15,24 @@
  */
 package uk.gov.gchq.gaffer.doc.properties.walkthrough;
 
-import com.google.common.collect.Sets;
 import org.apache.commons.lang.StringUtils;
-import org.reflections.Reflections;
-import org.reflections.util.ClasspathHelper;
 
-import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
-import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.generator.ElementGenerator;
+import uk.gov.gchq.gaffer.doc.properties.PropertyTypeCatalogue;
 import uk.gov.gchq.gaffer.doc.walkthrough.AbstractWalkthrough;
 import uk.gov.gchq.gaffer.doc.walkthrough.WalkthroughStrSubstitutor;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.serialisation.AvroSerialiser;
-import uk.gov.gchq.gaffer.serialisation.Serialiser;
-import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 import uk.gov.gchq.gaffer.serialisation.implementation.JavaSerialiser;
-import uk.gov.gchq.koryphe.binaryoperator.AdaptedBinaryOperator;
-import uk.gov.gchq.koryphe.binaryoperator.BinaryOperatorComposite;
-import uk.gov.gchq.koryphe.predicate.AdaptedPredicate;
-import uk.gov.gchq.koryphe.predicate.PredicateComposite;
-import uk.gov.gchq.koryphe.signature.Signature;
-import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator;
-import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperatorComposite;
-import uk.gov.gchq.koryphe.tuple.predicate.IntegerTupleAdaptedPredicate;
-import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicate;
-import uk.gov.gchq.koryphe.tuple.predicate.TupleAdaptedPredicateComposite;
 
-import java.lang.reflect.Modifier;
-import java.net.URL;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
-import java.util.function.BinaryOperator;
-import java.util.function.Predicate;
 
 public abstract class PropertiesWalkthrough extends AbstractWalkthrough {
-    private static final Set<Class<?>> SYSTEM_CLASSES = Sets.newHashSet(
-            AdaptedPredicate.class,
-            PredicateComposite.class,
-            IntegerTupleAdaptedPredicate.class,
-            TupleAdaptedPredicate.class,
-            TupleAdaptedPredicateComposite.class,
-            ElementAggregator.class,
-            AdaptedBinaryOperator.class,
-            BinaryOperatorComposite.class,
-            TupleAdaptedBinaryOperator.class,
-            TupleAdaptedBinaryOperatorComposite.class,
-            ElementFilter.class
-    );
-
-    protected static final List<Predicate> PREDICATES = Collections.unmodifiableList(getSubClassInstances(Predicate.class));
-    protected static final List<BinaryOperator> AGGREGATE_FUNCTIONS = Collections.unmodifiableList(getSubClassInstances(BinaryOperator.class));
-    protected static final List<ToBytesSerialiser> TO_BYTES_SERIALISERS = Collections.unmodifiableList(getSubClassInstances(ToBytesSerialiser.class));
-    protected static final List<Serialiser> SERIALISERS = Collections.unmodifiableList(getSerialisers());
     protected static final String AGGREGATORS_KEY = "AGGREGATORS";
     protected static final String PREDICATES_KEY = "PREDICATES";
     protected static final String SERIALISERS_KEY = "SERIALISERS";
 
-    private static List<Serialiser> getSerialisers() {
-        final List<Serialiser> serialisers = getSubClassInstances(Serialiser.class);
-        serialisers.removeIf(c -> {
-            boolean contains = false;
-            for (final ToBytesSerialiser serialiser : TO_BYTES_SERIALISERS) {
-                if (serialiser.getClass().equals(c.getClass())) {
-                    contains = true;
-                    break;
-                }
-            }
-            return contains;
-        });
-        return serialisers;
-    }
-
     private Class<?> propertyType;
 
 
@@ -114,16 +55,8 @@ public abstract class PropertiesWalkthrough extends AbstractWalkthrough {
 
     protected boolean listPredicates(final Class<?> clazz) {
         final List<String> validateClasses = new ArrayList<>();
-        for (final Predicate function : PREDICATES) {
-            try {
-                final Signature signature = Signature.getInputSignature(function);
-                if (signature.assignable(clazz).isValid()) {
-                    validateClasses.add(WalkthroughStrSubstitutor.getJavaDocLink(function.getClass(), false, 3));
-                }
-            } catch (final Exception e) {
-                // just add the function.
-                validateClasses.add(WalkthroughStrSubstitutor.getJavaDocLink(function.getClass(), false, 3));
-            }
+        for (final Class<?> predicateClass : PropertyTypeCatalogue.getInstance().getPredicates(clazz)) {
+            validateClasses.add(WalkthroughStrSubstitutor.getJavaDocLink(predicateClass, false, 3));
         }
         if (!validateClasses.isEmpty()) {
             print(PREDICATES_KEY, "\nPredicates:");
@@ -134,11 +67,8 @@ public abstract class PropertiesWalkthrough extends AbstractWalkthrough {
 
     protected boolean listAggregators(final Class<?> clazz) {
         final List<String> aggregateClasses = new ArrayList<>();
-        for (final BinaryOperator function : AGGREGATE_FUNCTIONS) {
-            final Signature signature = Signature.getInputSignature(function);
-            if (signature.assignable(clazz).isValid()) {
-                aggregateClasses.add(WalkthroughStrSubstitutor.getJavaDocLink(function.getClass(), false, 3));
-            }
+        for (final Class<?> aggregatorClass : PropertyTypeCatalogue.getInstance().getAggregators(clazz)) {
+            aggregateClasses.add(WalkthroughStrSubstitutor.getJavaDocLink(aggregatorClass, false, 3));
         }
         if (!aggregateClasses.isEmpty()) {
             print(AGGREGATORS_KEY, "\nAggregators:");
@@ -153,12 +83,7 @@ public abstract class PropertiesWalkthrough extends AbstractWalkthrough {
     }
 
     protected boolean listToBytesSerialisers(final Class<?> clazz) {
-        final List<Class> toBytesSerialiserClasses = new ArrayList<>();
-        for (final Serialiser serialise : TO_BYTES_SERIALISERS) {
-            if (serialise.canHandle(clazz)) {
-                toBytesSerialiserClasses.add(serialise.getClass());
-            }
-        }
+        final List<Class> toBytesSerialiserClasses = new ArrayList<>(PropertyTypeCatalogue.getInstance().getToBytesSerialisers(clazz));
         if (toBytesSerialiserClasses.contains(JavaSerialiser.class)) {
             if (toBytesSerialiserClasses.contains(AvroSerialiser.class)) {
                 if (toBytesSerialiserClasses.size() > 2) {
@@ -189,10 +114,8 @@ public abstract class PropertiesWalkthrough extends AbstractWalkthrough {
 
     protected boolean listOtherSerialisers(final Class<?> clazz) {
         final List<String> serialiserClasses = new ArrayList<>();
-        for (final Serialiser serialise : SERIALISERS) {
-            if (serialise.canHandle(clazz)) {
-                serialiserClasses.add(WalkthroughStrSubstitutor.getJavaDocLink(serialise.getClass(), false, 3));
-            }
+        for (final Class<?> serialiserClass : PropertyTypeCatalogue.getInstance().getOtherSerialisers(clazz)) {
+            serialiserClasses.add(WalkthroughStrSubstitutor.getJavaDocLink(serialiserClass, false, 3));
         }
         if (!serialiserClasses.isEmpty()) {
             print(SERIALISERS_KEY, "\nOther Serialisers:");
@@ -200,45 +123,4 @@ public abstract class PropertiesWalkthrough extends AbstractWalkthrough {
         }
         return !serialiserClasses.isEmpty();
     }
-
-    private static <T> List<T> getSubClassInstances(final Class<T> clazz) {
-        final List<T> instances = new ArrayList<>();
-        for (final Class aClass : getSubClasses(clazz)) {
-            try {
-                instances.add(((Class<T>) aClass).newInstance());
-            } catch (final InstantiationException | IllegalAccessException e) {
-                // ignore errors
-            }
-        }
-
-        return instances;
-    }
-
-    private static List<Class> getSubClasses(final Class<?> clazz) {
-        final Set<URL> urls = new HashSet<>();
-        urls.addAll(ClasspathHelper.forPackage("uk.gov.gchq"));
-
-        final List<Class> classes = new ArrayList<Class>(new Reflections(urls).getSubTypesOf(clazz));
-        keepPublicConcreteClasses(classes);
-        classes.removeIf(c -> c.getName().contains("uk.gov.gchq.gaffer.doc"));
-        classes.removeAll(SYSTEM_CLASSES);
-        classes.sort(Comparator.comparing(Class::getName));
-
-        return classes;
-
-    }
-
-    private static void keepPublicConcreteClasses(final Collection<Class> classes) {
-        if (null != classes) {
-            final Iterator<Class> itr = classes.iterator();
-            for (Class clazz = null; itr.hasNext(); clazz = itr.next()) {
-                if (null != clazz) {
-                    final int modifiers = clazz.getModifiers();
-                    if (Modifier.isAbstract(modifiers) || Modifier.isInterface(modifiers) || Modifier.isPrivate(modifiers) || Modifier.isProtected(modifiers)) {
-                        itr.remove();
-                    }
-                }
-            }
-        }
-    }
 }
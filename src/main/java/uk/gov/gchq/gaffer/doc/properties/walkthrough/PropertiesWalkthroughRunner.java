@@ -23,7 +23,11 @@ import com.yahoo.sketches.sampling.ReservoirItemsSketch;
 import com.yahoo.sketches.theta.Sketch;
 import org.apache.commons.io.FileUtils;
 
+import uk.gov.gchq.gaffer.doc.properties.PropertyTypeCatalogue;
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
 import uk.gov.gchq.gaffer.doc.util.DocUtil;
+import uk.gov.gchq.gaffer.doc.util.PythonBatch;
 import uk.gov.gchq.gaffer.doc.walkthrough.AbstractWalkthrough;
 import uk.gov.gchq.gaffer.doc.walkthrough.AbstractWalkthroughRunner;
 import uk.gov.gchq.gaffer.time.BoundedTimestampSet;
@@ -38,13 +42,16 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 import static uk.gov.gchq.gaffer.doc.util.DocUtil.toFolderName;
 import static uk.gov.gchq.gaffer.doc.util.DocUtil.toMdFileName;
 
 public class PropertiesWalkthroughRunner extends AbstractWalkthroughRunner {
+    public static final String TITLE = "Properties Guide";
     private static final String SIMPLE_PROPERTIES_TITLE = "Simple Properties";
     private static final String WALKTHROUGHS_TITLE = "Walkthroughs";
 
@@ -113,11 +120,18 @@ public class PropertiesWalkthroughRunner extends AbstractWalkthroughRunner {
     }
 
     public static void main(final String[] args) throws Exception {
+        DocFilter.applyArgs(args);
         new PropertiesWalkthroughRunner().generate();
+        DocManifest.getInstance().save();
     }
 
     public PropertiesWalkthroughRunner() {
-        super("Properties Guide", null, null, "properties");
+        super(TITLE, null, null, "properties");
+    }
+
+    @Override
+    public boolean isAffectedBy(final String sourcePath) {
+        return sourcePath.startsWith("uk/gov/gchq/gaffer/doc/properties/") || sourcePath.startsWith(resourcePrefix + "/");
     }
 
     @Override
@@ -143,8 +157,11 @@ public class PropertiesWalkthroughRunner extends AbstractWalkthroughRunner {
                 getTimestamps()
         );
 
-        generateWalkthroughs();
-        generateSimpleProperties();
+        final Map<File, AbstractWalkthrough> walkthroughs = new LinkedHashMap<>();
+        addWalkthroughs(walkthroughs);
+        addSimpleProperties(walkthroughs);
+        generateWalkthroughs(walkthroughs, new PythonBatch());
+        PropertyTypeCatalogue.getInstance().save();
     }
 
     @Override
@@ -229,28 +246,21 @@ public class PropertiesWalkthroughRunner extends AbstractWalkthroughRunner {
         return loadFile("Timestamps.md");
     }
 
-    private void generateWalkthroughs() throws Exception {
-        generateWalkthroughs(CLEARSPRING_SKETCHES_WALKTHROUGHS);
-        generateWalkthroughs(DATA_SKETCHES_WALKTHROUGHS);
-        generateWalkthroughs(TIMESTAMP_WALKTHROUGHS);
+    private void addWalkthroughs(final Map<File, AbstractWalkthrough> walkthroughs) {
+        addWalkthroughs(CLEARSPRING_SKETCHES_WALKTHROUGHS, walkthroughs);
+        addWalkthroughs(DATA_SKETCHES_WALKTHROUGHS, walkthroughs);
+        addWalkthroughs(TIMESTAMP_WALKTHROUGHS, walkthroughs);
     }
 
-    private void generateWalkthroughs(final List<AbstractWalkthrough> examples) throws Exception {
+    private void addWalkthroughs(final List<AbstractWalkthrough> examples, final Map<File, AbstractWalkthrough> walkthroughs) {
         for (final AbstractWalkthrough example : examples) {
-            DocUtil.clearCache();
-            FileUtils.writeStringToFile(
-                    new File(outputPath + toFolderName(WALKTHROUGHS_TITLE) + toMdFileName(example.getHeader())),
-                    example.walkthrough());
+            walkthroughs.put(new File(outputPath + toFolderName(WALKTHROUGHS_TITLE) + toMdFileName(example.getHeader())), example);
         }
     }
 
-    private void generateSimpleProperties() throws Exception {
+    private void addSimpleProperties(final Map<File, AbstractWalkthrough> walkthroughs) {
         for (final AbstractWalkthrough example : EXAMPLES) {
-            // Clear the caches so the output is not dependent on what's been run before
-            DocUtil.clearCache();
-            FileUtils.writeStringToFile(
-                    new File(outputPath + toFolderName(SIMPLE_PROPERTIES_TITLE) + toMdFileName(example.getHeader())),
-                    example.walkthrough());
+            walkthroughs.put(new File(outputPath + toFolderName(SIMPLE_PROPERTIES_TITLE) + toMdFileName(example.getHeader())), example);
         }
     }
 }
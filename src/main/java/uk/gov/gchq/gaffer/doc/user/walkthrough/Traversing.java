@@ -43,6 +43,7 @@ import uk.gov.gchq.gaffer.user.User;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -52,6 +53,12 @@ public class Traversing extends UserWalkthrough {
         super("Traversing", "ComplexExample", RoadAndRoadUseElementGenerator.class);
     }
 
+    @Override
+    public List<String> getResourcePaths() {
+        // The graph is built from the operation examples data
+        return Collections.singletonList("operations");
+    }
+
     @Override
     public CloseableIterable<? extends Element> run() throws OperationException {
         // [generate] Create some edges from the complex data file
@@ -15,6 +15,8 @@
  */
 package uk.gov.gchq.gaffer.doc.user.walkthrough;
 
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
 import uk.gov.gchq.gaffer.doc.walkthrough.AbstractWalkthrough;
 import uk.gov.gchq.gaffer.doc.walkthrough.AbstractWalkthroughRunner;
 
@@ -22,6 +24,7 @@ import java.util.Arrays;
 import java.util.List;
 
 public class UserWalkthroughRunner extends AbstractWalkthroughRunner {
+    public static final String TITLE = "User Guide";
     private static final List<AbstractWalkthrough> EXAMPLES = Arrays.asList(
             new TheBasics(),
             new MultipleEdges(),
@@ -37,10 +40,12 @@ public class UserWalkthroughRunner extends AbstractWalkthroughRunner {
     );
 
     public UserWalkthroughRunner() {
-        super("User Guide", EXAMPLES, null, "user");
+        super(TITLE, EXAMPLES, null, "user");
     }
 
     public static void main(final String[] args) throws Exception {
+        DocFilter.applyArgs(args);
         new UserWalkthroughRunner().generate();
+        DocManifest.getInstance().save();
     }
 }
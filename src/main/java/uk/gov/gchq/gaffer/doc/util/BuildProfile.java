@@ -0,0 +1,253 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.io.FileUtils;
+
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the wall time and allocated bytes of each example and walkthrough
+ * in the docs build, split into the phases of the build. It is enabled with
+ * the {@value #PROFILE_PROPERTY} system property.
+ * <p>
+ * Time is only charged to the innermost phase being timed, so the phases of
+ * a subject add up to its total. Allocations are read from the
+ * {@link ThreadMXBean} counters of the thread doing the work, so work handed
+ * to other threads, such as the python workers, is only charged as the time
+ * spent waiting for it.
+ */
+public final class BuildProfile {
+    public static final String PROFILE_PROPERTY = "gaffer.doc.profile";
+    public static final String TOP_PROPERTY = "gaffer.doc.profile.top";
+    public static final String REPORT_FILE = "target/doc-profile.json";
+    private static final int DEFAULT_TOP = 10;
+    private static final String NO_SUBJECT = "(build)";
+    private static final Timer NO_OP = () -> {
+    };
+
+    private static final boolean ENABLED = Boolean.getBoolean(PROFILE_PROPERTY);
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final Map<String, Map<Phase, long[]>> TOTALS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Deque<Frame>> FRAMES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public enum Phase {
+        CLASS_DISCOVERY,
+        GRAPH_FIXTURE,
+        PYTHON_TRANSLATION,
+        JSON_SERIALISATION,
+        OPERATION_EXECUTION,
+        SNIPPET_EXTRACTION,
+        TEMPLATE_SUBSTITUTION,
+        FILE_WRITE,
+        OTHER
+    }
+
+    /**
+     * A timer that stops when it is closed.
+     */
+    @FunctionalInterface
+    public interface Timer extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private BuildProfile() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts timing the work done for an example or walkthrough. Work that
+     * is not inside a more specific phase is charged to {@link Phase#OTHER}.
+     *
+     * @param subject the name of the example or walkthrough
+     * @return the timer
+     */
+    public static Timer subject(final String subject) {
+        return start(subject, Phase.OTHER);
+    }
+
+    /**
+     * Starts timing a phase of the current subject.
+     *
+     * @param phase the phase
+     * @return the timer
+     */
+    public static Timer phase(final Phase phase) {
+        if (!ENABLED) {
+            return NO_OP;
+        }
+        final Frame parent = FRAMES.get().peek();
+        return start(null != parent ? parent.subject : NO_SUBJECT, phase);
+    }
+
+    /**
+     * Writes the report to {@value #REPORT_FILE} and returns a summary of the
+     * slowest subjects.
+     *
+     * @return the summary, or null if profiling is disabled
+     */
+    public static String report() {
+        if (!ENABLED) {
+            return null;
+        }
+
+        final Map<String, Map<String, Object>> subjects = new LinkedHashMap<>();
+        final Map<Phase, long[]> phaseTotals = new EnumMap<>(Phase.class);
+        for (final String subject : getSubjectsByTime()) {
+            final Map<String, Object> subjectReport = new LinkedHashMap<>();
+            final long[] total = getTotal(TOTALS.get(subject));
+            subjectReport.put("wallNanos", total[0]);
+            subjectReport.put("allocatedBytes", total[1]);
+            final Map<String, Map<String, Long>> phases = new LinkedHashMap<>();
+            for (final Phase phase : Phase.values()) {
+                final long[] phaseTotal = TOTALS.get(subject).get(phase);
+                if (null != phaseTotal) {
+                    final Map<String, Long> phaseReport = new LinkedHashMap<>();
+                    phaseReport.put("wallNanos", phaseTotal[0]);
+                    phaseReport.put("allocatedBytes", phaseTotal[1]);
+                    phases.put(phase.name(), phaseReport);
+                    add(phaseTotals.computeIfAbsent(phase, p -> new long[2]), phaseTotal[0], phaseTotal[1]);
+                }
+            }
+            subjectReport.put("phases", phases);
+            subjects.put(subject, subjectReport);
+        }
+
+        final File reportFile = new File(REPORT_FILE);
+        try {
+            FileUtils.writeByteArrayToFile(reportFile, JSONSerialiser.serialise(subjects, true));
+        } catch (final IOException | SerialisationException e) {
+            throw new RuntimeException("Unable to write the build profile: " + reportFile.getPath(), e);
+        }
+
+        final StringBuilder summary = new StringBuilder("Build profile (written to " + REPORT_FILE + "):\n");
+        for (final Map.Entry<Phase, long[]> entry : phaseTotals.entrySet()) {
+            summary.append(format(entry.getKey().name(), entry.getValue()));
+        }
+        summary.append("Slowest examples and walkthroughs:\n");
+        int remaining = Integer.getInteger(TOP_PROPERTY, DEFAULT_TOP);
+        for (final String subject : subjects.keySet()) {
+            if (remaining-- <= 0) {
+                break;
+            }
+            summary.append(format(subject, getTotal(TOTALS.get(subject))));
+        }
+        return summary.toString();
+    }
+
+    private static Timer start(final String subject, final Phase phase) {
+        if (!ENABLED) {
+            return NO_OP;
+        }
+        final Deque<Frame> frames = FRAMES.get();
+        final long now = System.nanoTime();
+        final long allocated = getAllocatedBytes();
+        final Frame parent = frames.peek();
+        if (null != parent) {
+            parent.charge(now, allocated);
+        }
+        final Frame frame = new Frame(subject, phase, now, allocated);
+        frames.push(frame);
+        return () -> {
+            final long end = System.nanoTime();
+            final long endAllocated = getAllocatedBytes();
+            frame.charge(end, endAllocated);
+            frames.remove(frame);
+            final Frame resumed = frames.peek();
+            if (null != resumed) {
+                resumed.restart(end, endAllocated);
+            }
+        };
+    }
+
+    private static long getAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            final long bytes = ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+            if (bytes >= 0) {
+                return bytes;
+            }
+        }
+        return 0;
+    }
+
+    private static List<String> getSubjectsByTime() {
+        final List<String> subjects = new ArrayList<>(TOTALS.keySet());
+        subjects.sort((a, b) -> Long.compare(getTotal(TOTALS.get(b))[0], getTotal(TOTALS.get(a))[0]));
+        return subjects;
+    }
+
+    private static long[] getTotal(final Map<Phase, long[]> phases) {
+        final long[] total = new long[2];
+        for (final long[] phase : phases.values()) {
+            add(total, phase[0], phase[1]);
+        }
+        return total;
+    }
+
+    private static void add(final long[] total, final long nanos, final long bytes) {
+        synchronized (total) {
+            total[0] += nanos;
+            total[1] += bytes;
+        }
+    }
+
+    private static String format(final String name, final long[] total) {
+        return String.format("  %-50s %10d ms %12d KB%n", name, total[0] / 1000000, total[1] / 1024);
+    }
+
+    private static final class Frame {
+        private final String subject;
+        private final Phase phase;
+        private long start;
+        private long startAllocated;
+
+        private Frame(final String subject, final Phase phase, final long start, final long startAllocated) {
+            this.subject = subject;
+            this.phase = phase;
+            this.start = start;
+            this.startAllocated = startAllocated;
+        }
+
+        private void charge(final long now, final long allocated) {
+            final Map<Phase, long[]> phases = TOTALS.computeIfAbsent(subject, s -> new ConcurrentHashMap<>());
+            add(phases.computeIfAbsent(phase, p -> new long[2]), now - start, allocated - startAllocated);
+            restart(now, allocated);
+        }
+
+        private void restart(final long now, final long allocated) {
+            start = now;
+            startAllocated = allocated;
+        }
+    }
+}
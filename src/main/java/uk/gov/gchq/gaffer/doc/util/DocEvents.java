@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.BaseStream;
+
+/**
+ * Java Flight Recorder events for the docs build, so a recording shows which
+ * runner, example, operation or python translation was running alongside
+ * the GC and thread activity. The events are only created when the
+ * {@value #JFR_PROPERTY} system property is true, otherwise the JFR classes
+ * are never loaded.
+ * <p>
+ * e.g. {@code -Dgaffer.doc.jfr=true -XX:StartFlightRecording=filename=target/docs.jfr}
+ */
+public final class DocEvents {
+    public static final String JFR_PROPERTY = "gaffer.doc.jfr";
+    public static final long UNKNOWN_RESULT_COUNT = -1;
+
+    private static final boolean ENABLED = Boolean.getBoolean(JFR_PROPERTY);
+    private static final Span NO_OP = () -> {
+    };
+
+    /**
+     * An event that is committed when it is closed.
+     */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+        /**
+         * Records the number of results of an operation.
+         *
+         * @param result the operation result
+         */
+        default void setResult(final Object result) {
+        }
+
+        @Override
+        void close();
+    }
+
+    private DocEvents() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static Span runner(final String runner) {
+        return ENABLED ? JfrEvents.runner(runner) : NO_OP;
+    }
+
+    public static Span example(final String example) {
+        return ENABLED ? JfrEvents.example(example) : NO_OP;
+    }
+
+    /**
+     * Starts an event for an operation executed by an example. The result
+     * count is recorded when the result is set.
+     *
+     * @param example   the name of the example
+     * @param operation the operation class
+     * @return the event
+     */
+    public static Span operation(final String example, final Class<?> operation) {
+        return ENABLED ? JfrEvents.operation(example, operation) : NO_OP;
+    }
+
+    public static Span pythonTranslation(final int objects) {
+        return ENABLED ? JfrEvents.pythonTranslation(objects) : NO_OP;
+    }
+
+    /**
+     * Counts the results of an operation without consuming them. Lazy
+     * results, such as iterables, streams and spark datasets, are not
+     * counted as they may only be read once.
+     *
+     * @param result the operation result
+     * @return the result count, or {@value #UNKNOWN_RESULT_COUNT} if the results are lazy
+     */
+    static long countResults(final Object result) {
+        if (null == result) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+        if (result instanceof Object[]) {
+            return ((Object[]) result).length;
+        }
+        if (result instanceof Iterable || result instanceof BaseStream
+                || result.getClass().getName().startsWith("org.apache.spark.")) {
+            return UNKNOWN_RESULT_COUNT;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Selects the runners and examples to generate, so a single page can be
+ * regenerated without running everything else.
+ * <p>
+ * Filters are lists of {@code RUNNER[:EXAMPLE,EXAMPLE...]} globs separated
+ * by {@code ;}, e.g. {@code Operations:GetWalks*,Join*;Predicates}. Runners
+ * are matched by their title and examples by their simple class name. The
+ * filters are read from the {@value #ONLY_PROPERTY} and
+ * {@value #SKIP_PROPERTY} system properties, which can be set with the
+ * {@value #ONLY_ARG} and {@value #SKIP_ARG} command line arguments.
+ */
+public final class DocFilter {
+    public static final String ONLY_PROPERTY = "gaffer.doc.only";
+    public static final String SKIP_PROPERTY = "gaffer.doc.skip";
+    public static final String ONLY_ARG = "--only";
+    public static final String SKIP_ARG = "--skip";
+    private static final String SPEC_SEPARATOR = ";";
+
+    private final List<Spec> only;
+    private final List<Spec> skip;
+
+    private DocFilter(final String only, final String skip) {
+        this.only = parse(only);
+        this.skip = parse(skip);
+    }
+
+    public static DocFilter getInstance() {
+        return new DocFilter(System.getProperty(ONLY_PROPERTY), System.getProperty(SKIP_PROPERTY));
+    }
+
+    /**
+     * Sets the filter system properties from the {@value #ONLY_ARG} and
+     * {@value #SKIP_ARG} command line arguments. Each argument may be
+     * repeated.
+     *
+     * @param args the command line arguments
+     * @throws IllegalArgumentException if {@value #ONLY_ARG} or {@value #SKIP_ARG} is not followed by a filter
+     */
+    public static void applyArgs(final String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (ONLY_ARG.equals(args[i])) {
+                append(ONLY_PROPERTY, getValue(args, ++i));
+            } else if (SKIP_ARG.equals(args[i])) {
+                append(SKIP_PROPERTY, getValue(args, ++i));
+            }
+        }
+    }
+
+    /**
+     * @return true if some runners or examples are being left out
+     */
+    public boolean isActive() {
+        return !only.isEmpty() || !skip.isEmpty();
+    }
+
+    public boolean includesRunner(final String runner) {
+        for (final Spec spec : skip) {
+            if (spec.examples.isEmpty() && spec.matchesRunner(runner)) {
+                return false;
+            }
+        }
+        if (only.isEmpty()) {
+            return true;
+        }
+        for (final Spec spec : only) {
+            if (spec.matchesRunner(runner)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean includesExample(final String runner, final String example) {
+        if (!includesRunner(runner)) {
+            return false;
+        }
+        for (final Spec spec : skip) {
+            if (spec.matchesRunner(runner) && spec.matchesExample(example)) {
+                return false;
+            }
+        }
+        if (only.isEmpty()) {
+            return true;
+        }
+        for (final Spec spec : only) {
+            if (spec.matchesRunner(runner) && (spec.examples.isEmpty() || spec.matchesExample(example))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getValue(final String[] args, final int index) {
+        if (index >= args.length || args[index].startsWith("--")) {
+            throw new IllegalArgumentException(args[index - 1] + " must be followed by a filter, e.g. "
+                    + args[index - 1] + " \"Operations:GetWalks*,Join*;Predicates\"");
+        }
+        return args[index];
+    }
+
+    private static void append(final String property, final String specs) {
+        final String current = System.getProperty(property);
+        System.setProperty(property, StringUtils.isEmpty(current) ? specs : current + SPEC_SEPARATOR + specs);
+    }
+
+    private static List<Spec> parse(final String specs) {
+        if (StringUtils.isBlank(specs)) {
+            return Collections.emptyList();
+        }
+        final List<Spec> parsed = new ArrayList<>();
+        for (final String spec : specs.split(SPEC_SEPARATOR)) {
+            if (StringUtils.isNotBlank(spec)) {
+                parsed.add(new Spec(spec.trim()));
+            }
+        }
+        return parsed;
+    }
+
+    private static Pattern toPattern(final String glob) {
+        final String[] parts = glob.trim().split("\\*", -1);
+        final StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                regex.append(".*");
+            }
+            if (!parts[i].isEmpty()) {
+                regex.append(Pattern.quote(parts[i]));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static final class Spec {
+        private final Pattern runner;
+        private final List<Pattern> examples = new ArrayList<>();
+
+        private Spec(final String spec) {
+            final int separator = spec.indexOf(':');
+            if (separator < 0) {
+                this.runner = toPattern(spec);
+            } else {
+                this.runner = toPattern(spec.substring(0, separator));
+                for (final String example : spec.substring(separator + 1).split(",")) {
+                    if (StringUtils.isNotBlank(example)) {
+                        examples.add(toPattern(example));
+                    }
+                }
+            }
+        }
+
+        private boolean matchesRunner(final String title) {
+            return runner.matcher(title).matches();
+        }
+
+        private boolean matchesExample(final String example) {
+            for (final Pattern pattern : examples) {
+                if (pattern.matcher(example).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
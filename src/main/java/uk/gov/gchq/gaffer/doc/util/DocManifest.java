@@ -0,0 +1,313 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.io.FileUtils;
+
+import uk.gov.gchq.gaffer.doc.walkthrough.AbstractWalkthrough;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.koryphe.signature.Signature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records a hash of the inputs used to generate each documentation file, so
+ * examples whose inputs have not changed since the last build can be skipped
+ * and their previous output reused.
+ * <p>
+ * The inputs of an example are the java source of the example class and its
+ * super classes, and the resources of its runner and of the example itself,
+ * given as paths relative to the resources folder. The other java source,
+ * the resource files that are not in a folder, the python worker script, the
+ * Gaffer and Koryphe versions, the python shell version and sources and the
+ * python and result sampling settings are shared by every example, so
+ * changing any of them regenerates everything.
+ * <p>
+ * The source and resource folders are found in the project base directory,
+ * which is set by the {@value #BASE_DIR_PROPERTY} property. If the property
+ * is not set, the first directory above the compiled classes that contains a
+ * {@code pom.xml} is used, or the working directory if there is none.
+ * <p>
+ * The manifest is ignored if the {@value #FORCE_PROPERTY} property is true.
+ */
+public final class DocManifest {
+    public static final String MANIFEST_PATH = "target/doc-manifest.json";
+    public static final String FORCE_PROPERTY = "gaffer.doc.force";
+    public static final String GAFFER_VERSION_PROPERTY = "gaffer.doc.gafferVersion";
+    public static final String KORYPHE_VERSION_PROPERTY = "gaffer.doc.korypheVersion";
+    public static final String BASE_DIR_PROPERTY = "gaffer.doc.baseDir";
+    private static final String JAVA_SRC_PATH = "src/main/java/";
+    private static final String RESOURCES_PATH = "src/main/resources/";
+    private static final String PYTHON_RESOURCES_PATH = "python";
+
+    private static DocManifest instance;
+
+    private final File baseDir;
+    private final File manifestFile;
+    private final boolean force;
+    private final Map<String, String> previousHashes;
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+    private final Map<String, String> sourceHashes = new ConcurrentHashMap<>();
+    private final Map<String, String> resourceHashes = new ConcurrentHashMap<>();
+    private String sharedHash;
+    private String sharedSourceHash;
+
+    DocManifest(final File baseDir, final File manifestFile, final boolean force) {
+        this.baseDir = baseDir;
+        this.manifestFile = manifestFile;
+        this.force = force;
+        this.previousHashes = load(manifestFile);
+        this.hashes.putAll(previousHashes);
+    }
+
+    public static synchronized DocManifest getInstance() {
+        if (null == instance) {
+            instance = new DocManifest(getBaseDir(), new File(MANIFEST_PATH), Boolean.parseBoolean(System.getProperty(FORCE_PROPERTY)));
+        }
+        return instance;
+    }
+
+    /**
+     * Checks whether the output file was generated from the same inputs in a
+     * previous build.
+     *
+     * @param output        the generated documentation file
+     * @param source        the example or walkthrough class that generates the file
+     * @param resourcePaths the resource files and folders used to generate the file
+     * @return true if the output file exists and its inputs have not changed
+     */
+    public boolean isUpToDate(final File output, final Class<?> source, final Collection<String> resourcePaths) {
+        return !force
+                && output.exists()
+                && getHash(source, resourcePaths).equals(previousHashes.get(output.getPath()));
+    }
+
+    public void update(final File output, final Class<?> source, final Collection<String> resourcePaths) {
+        hashes.put(output.getPath(), getHash(source, resourcePaths));
+    }
+
+    public synchronized void save() {
+        try {
+            FileUtils.writeByteArrayToFile(manifestFile, JSONSerialiser.serialise(new TreeMap<>(hashes), true));
+        } catch (final IOException | SerialisationException e) {
+            throw new RuntimeException("Unable to save the documentation manifest: " + manifestFile.getPath(), e);
+        }
+    }
+
+    private String getHash(final Class<?> source, final Collection<String> resourcePaths) {
+        final List<String> sortedPaths = new ArrayList<>(new TreeSet<>(resourcePaths));
+        return sourceHashes.computeIfAbsent(source.getName() + sortedPaths, key -> {
+            final MessageDigest digest = createDigest();
+            updateDigest(digest, getSharedHash());
+            for (Class<?> superClass = source; null != superClass; superClass = superClass.getSuperclass()) {
+                updateDigest(digest, getSourceFile(superClass));
+            }
+            for (final String resourcePath : sortedPaths) {
+                updateDigest(digest, getResourceHash(resourcePath));
+            }
+            return toHex(digest.digest());
+        });
+    }
+
+    private String getResourceHash(final String resourcePath) {
+        return resourceHashes.computeIfAbsent(resourcePath, path -> {
+            final MessageDigest digest = createDigest();
+            updateDigest(digest, path);
+            final File resource = new File(new File(baseDir, RESOURCES_PATH), path);
+            for (final File file : resource.isDirectory() ? listFiles(resource) : Collections.singletonList(resource)) {
+                updateDigest(digest, file);
+            }
+            return toHex(digest.digest());
+        });
+    }
+
+    private synchronized String getSharedHash() {
+        if (null == sharedHash) {
+            final MessageDigest digest = createDigest();
+            updateDigest(digest, getLibraryVersions());
+            updateDigest(digest, String.valueOf(PythonCache.getInstance().getPythonShellKey()));
+            updateDigest(digest, String.valueOf(System.getProperty(DocUtil.SKIP_PYTHON_PROPERTY)));
+            updateDigest(digest, ResultSample.getMaxRows() + "," + ResultSample.isReservoirSampling());
+            // Resources in folders belong to a runner or an example, apart from the python worker script
+            final File resourcesDir = new File(baseDir, RESOURCES_PATH);
+            for (final File file : listFiles(resourcesDir)) {
+                if (resourcesDir.equals(file.getParentFile())) {
+                    updateDigest(digest, file);
+                }
+            }
+            updateDigest(digest, getResourceHash(PYTHON_RESOURCES_PATH));
+            updateDigest(digest, getSharedSourceHash());
+            sharedHash = toHex(digest.digest());
+        }
+        return sharedHash;
+    }
+
+    /**
+     * Gets a hash of the java source that is not an example or a walkthrough,
+     * such as the runners, the utilities and the functions and serialisers
+     * that the examples document.
+     *
+     * @return the hash of the shared java source
+     */
+    public synchronized String getSharedSourceHash() {
+        if (null == sharedSourceHash) {
+            final MessageDigest digest = createDigest();
+            final File javaSrcDir = new File(baseDir, JAVA_SRC_PATH);
+            for (final File file : listFiles(javaSrcDir)) {
+                if (!isExampleSource(javaSrcDir, file)) {
+                    updateDigest(digest, file);
+                }
+            }
+            sharedSourceHash = toHex(digest.digest());
+        }
+        return sharedSourceHash;
+    }
+
+    /**
+     * Gets the Gaffer and Koryphe versions. If the versions have not been set
+     * as properties, the locations of the jars are used instead.
+     *
+     * @return the library versions
+     */
+    public static String getLibraryVersions() {
+        return getProperty(GAFFER_VERSION_PROPERTY, Graph.class) + "," + getProperty(KORYPHE_VERSION_PROPERTY, Signature.class);
+    }
+
+    private static boolean isExampleSource(final File javaSrcDir, final File file) {
+        final String path = getRelativePath(javaSrcDir, file);
+        if (!path.endsWith(".java")) {
+            return false;
+        }
+        final String className = path.substring(0, path.length() - ".java".length()).replace('/', '.');
+        try {
+            final Class<?> clazz = Class.forName(className, false, DocManifest.class.getClassLoader());
+            return Example.class.isAssignableFrom(clazz) || AbstractWalkthrough.class.isAssignableFrom(clazz);
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private File getSourceFile(final Class<?> clazz) {
+        return new File(new File(baseDir, JAVA_SRC_PATH), clazz.getName().replace(".", "/") + ".java");
+    }
+
+    private static File getBaseDir() {
+        final String baseDir = System.getProperty(BASE_DIR_PROPERTY);
+        if (null != baseDir) {
+            return new File(baseDir);
+        }
+
+        // The classes are normally in target/classes, below the project
+        final CodeSource codeSource = DocManifest.class.getProtectionDomain().getCodeSource();
+        if (null != codeSource) {
+            try {
+                for (File dir = new File(codeSource.getLocation().toURI()); null != dir; dir = dir.getParentFile()) {
+                    if (new File(dir, "pom.xml").isFile()) {
+                        return dir;
+                    }
+                }
+            } catch (final URISyntaxException | IllegalArgumentException e) {
+                // The classes are not in a directory, so the working directory is used
+            }
+        }
+        return new File(System.getProperty("user.dir"));
+    }
+
+    private static String getRelativePath(final File dir, final File file) {
+        return dir.toURI().relativize(file.toURI()).getPath();
+    }
+
+    private static String getProperty(final String property, final Class<?> libraryClass) {
+        final String value = System.getProperty(property);
+        if (null != value) {
+            return value;
+        }
+
+        // Fall back to the jar the library was loaded from, the jar name includes the version
+        return String.valueOf(libraryClass.getProtectionDomain().getCodeSource());
+    }
+
+    private static List<File> listFiles(final File dir) {
+        if (!dir.isDirectory()) {
+            return Collections.emptyList();
+        }
+        final List<File> files = new ArrayList<>(FileUtils.listFiles(dir, null, true));
+        Collections.sort(files);
+        return files;
+    }
+
+    private void updateDigest(final MessageDigest digest, final File file) {
+        if (!file.isFile()) {
+            return;
+        }
+        // The path is relative so the hash does not depend on where the project is checked out
+        updateDigest(digest, getRelativePath(baseDir, file));
+        try {
+            digest.update(FileUtils.readFileToByteArray(file));
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to read: " + file.getPath(), e);
+        }
+    }
+
+    static void updateDigest(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static String toHex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static Map<String, String> load(final File manifestFile) {
+        if (!manifestFile.exists()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return JSONSerialiser.deserialise(FileUtils.readFileToByteArray(manifestFile), Map.class);
+        } catch (final IOException | SerialisationException e) {
+            // An unreadable manifest just means everything is regenerated
+            return Collections.emptyMap();
+        }
+    }
+}
@@ -15,22 +15,25 @@
  */
 package uk.gov.gchq.gaffer.doc.util;
 
-import org.apache.commons.io.IOUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import uk.gov.gchq.gaffer.cache.CacheServiceLoader;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
-import uk.gov.gchq.gaffer.commonutil.CommonConstants;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.koryphe.serialisation.json.SimpleClassNameCache;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.io.StringWriter;
 import java.util.Locale;
 
 public final class DocUtil {
     public static final String SKIP_PYTHON_PROPERTY = "gaffer.doc.skipPython";
 
+    // The simple class name flag is global, so objects are serialised by one thread at a time
+    private static final Object JSON_LOCK = new Object();
+
     private DocUtil() {
     }
 
@@ -79,41 +82,70 @@ public final class DocUtil {
     }
 
     public static String getJson(final Object object) {
-        JSONSerialiser.getInstance();
-        final boolean fullNameOrig = SimpleClassNameCache.isUseFullNameForSerialisation();
-        SimpleClassNameCache.setUseFullNameForSerialisation(false);
-        try {
-            return new String(JSONSerialiser.serialise(object, true), CommonConstants.UTF_8);
-        } catch (final SerialisationException | UnsupportedEncodingException e) {
-            throw new RuntimeException(e);
-        } finally {
-            SimpleClassNameCache.setUseFullNameForSerialisation(fullNameOrig);
-        }
+        return write(serialise(object, false), true);
     }
 
     public static String getFullJson(final Object object) {
-        JSONSerialiser.getInstance();
-        final boolean fullNameOrig = SimpleClassNameCache.isUseFullNameForSerialisation();
-        SimpleClassNameCache.setUseFullNameForSerialisation(true);
-        try {
-            return new String(JSONSerialiser.serialise(object, true), CommonConstants.UTF_8);
-        } catch (final SerialisationException | UnsupportedEncodingException e) {
-            throw new RuntimeException(e);
-        } finally {
-            SimpleClassNameCache.setUseFullNameForSerialisation(fullNameOrig);
-        }
+        return write(serialise(object, true), true);
     }
 
     public static String getRawJson(final Object object) {
-        final boolean fullNameOrig = SimpleClassNameCache.isUseFullNameForSerialisation();
-        SimpleClassNameCache.setUseFullNameForSerialisation(true);
-        try {
-            return new String(JSONSerialiser.serialise(object), CommonConstants.UTF_8);
-        } catch (final SerialisationException | UnsupportedEncodingException e) {
+        return write(serialise(object, true), false);
+    }
+
+    /**
+     * Renders the json, full json and raw json of an object. The full and raw
+     * json are both written from a single serialisation of the object.
+     *
+     * @param object the object to render
+     * @return the rendered json
+     */
+    public static RenderedJson renderJson(final Object object) {
+        final TokenBuffer fullTokens = serialise(object, true);
+        return new RenderedJson(write(serialise(object, false), true), write(fullTokens, true), write(fullTokens, false));
+    }
+
+    /**
+     * Serialises an object into a token buffer, using either the simple or
+     * the full class names. The tokens can then be written with or without
+     * pretty printing without serialising the object again. Only this step
+     * depends on the simple class name flag, so only this step holds the
+     * json lock.
+     */
+    private static TokenBuffer serialise(final Object object, final boolean useFullClassNames) {
+        synchronized (JSON_LOCK) {
+            JSONSerialiser.getInstance();
+            final boolean fullNameOrig = SimpleClassNameCache.isUseFullNameForSerialisation();
+            SimpleClassNameCache.setUseFullNameForSerialisation(useFullClassNames);
+            try (final BuildProfile.Timer timer = BuildProfile.phase(BuildProfile.Phase.JSON_SERIALISATION)) {
+                final TokenBuffer tokens = new TokenBuffer(JSONSerialiser.getMapper(), false);
+                JSONSerialiser.serialise(object, tokens, false);
+                return tokens;
+            } catch (final SerialisationException e) {
+                throw new RuntimeException(e);
+            } finally {
+                SimpleClassNameCache.setUseFullNameForSerialisation(fullNameOrig);
+            }
+        }
+    }
+
+    /**
+     * Writes the tokens to a string with a generator from the
+     * {@link JSONSerialiser} mapper, so embedded objects in the tokens are
+     * written with the mapper's codec and generator settings.
+     */
+    private static String write(final TokenBuffer tokens, final boolean prettyPrint) {
+        final StringWriter writer = new StringWriter();
+        try (final BuildProfile.Timer timer = BuildProfile.phase(BuildProfile.Phase.JSON_SERIALISATION);
+             final JsonGenerator generator = JSONSerialiser.getMapper().getFactory().createGenerator(writer)) {
+            if (prettyPrint) {
+                generator.useDefaultPrettyPrinter();
+            }
+            tokens.serialize(generator);
+        } catch (final IOException e) {
             throw new RuntimeException(e);
-        } finally {
-            SimpleClassNameCache.setUseFullNameForSerialisation(fullNameOrig);
         }
+        return writer.toString();
     }
 
     public static String getPython(final Object object) {
@@ -129,53 +161,19 @@ public final class DocUtil {
     }
 
     public static String getPython(final Object object, final Class<?> clazz, final Boolean skipPythonErrors) {
-        final boolean skipPythonOnError = null != skipPythonErrors ? skipPythonErrors : Boolean.parseBoolean(System.getProperty(SKIP_PYTHON_PROPERTY));
-        final String json = getRawJson(object);
-
-
-        final ProcessBuilder pb;
-        if (null == clazz) {
-            pb = new ProcessBuilder("python3", "-u", "gaffer-python-shell/src/fromJson.py", json);
-        } else {
-            pb = new ProcessBuilder("python3", "-u", "gaffer-python-shell/src/fromJson.py", json, clazz.getName());
-        }
-
-        final Process p;
-        try {
-            p = pb.start();
-        } catch (final IOException e) {
-            if (skipPythonOnError) {
-                return "";
-            }
-            throw new RuntimeException("Unable to run python3", e);
-        }
-
-        try {
-            p.waitFor();
-        } catch (final InterruptedException e) {
-            if (skipPythonOnError) {
-                return "";
-            }
-            throw new RuntimeException("Python failed to complete", e);
-        }
+        return getPythonFromJson(getRawJson(object), clazz, skipPythonErrors);
+    }
 
-        if (p.exitValue() > 0) {
-            if (skipPythonOnError) {
-                return "";
-            }
-            try {
-                throw new RuntimeException("Error in python: " + IOUtils.toString(p.getErrorStream()) + "\nUnable to convert json: " + json);
-            } catch (final IOException e) {
-                throw new RuntimeException("Unable to read error from Python", e);
-            }
-        }
-        try {
-            return IOUtils.toString(p.getInputStream());
-        } catch (final IOException e) {
+    public static String getPythonFromJson(final String json, final Class<?> clazz, final Boolean skipPythonErrors) {
+        final boolean skipPythonOnError = null != skipPythonErrors ? skipPythonErrors : Boolean.parseBoolean(System.getProperty(SKIP_PYTHON_PROPERTY));
+        try (final BuildProfile.Timer timer = BuildProfile.phase(BuildProfile.Phase.PYTHON_TRANSLATION);
+             final DocEvents.Span event = DocEvents.pythonTranslation(1)) {
+            return PythonWorkerPool.getInstance().translate(json, null != clazz ? clazz.getName() : null);
+        } catch (final RuntimeException e) {
             if (skipPythonOnError) {
                 return "";
             }
-            throw new RuntimeException("Unable to read result from python", e);
+            throw e;
         }
     }
 }
@@ -26,8 +26,17 @@ import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.tuple.MapTuple;
 import uk.gov.gchq.koryphe.tuple.Tuple;
 
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static java.util.Objects.isNull;
 
@@ -37,8 +46,11 @@ public abstract class Example {
     public static final String METHOD_DIVIDER = DIVIDER + "\n";
     private final Class<?> classForExample;
     private final String description;
-    private StringBuilder output = new StringBuilder();
+    private final List<String> truncatedResults = new ArrayList<>();
+    private PageSpool output;
     private Boolean skipPythonErrors;
+    private PythonBatch pythonBatch = new PythonBatch();
+    private Method exampleMethod;
 
     public Example(final Class<?> classForExample) {
         this(classForExample, null);
@@ -55,6 +67,7 @@ public abstract class Example {
     }
 
     public void run() {
+        truncatedResults.clear();
         print("# " + classForExample.getSimpleName());
         printJavaDocLink();
         printSince();
@@ -92,8 +105,77 @@ public abstract class Example {
         }
     }
 
+    /**
+     * Gets the output of the example. Any python placeholders are resolved
+     * first, which converts all of the pending objects in the python batch.
+     *
+     * @return the example output
+     */
     public String getOutput() {
-        return output.toString();
+        return null == output ? "" : pythonBatch.resolve(output.getContents());
+    }
+
+    /**
+     * Streams the output of the example into a file, resolving the python
+     * placeholders, and then discards the output.
+     *
+     * @param file the output file
+     */
+    public void writeOutput(final File file) {
+        if (null == output) {
+            output = new PageSpool();
+        }
+        try {
+            output.writeTo(file, pythonBatch);
+        } finally {
+            output.close();
+            output = null;
+        }
+    }
+
+    /**
+     * Releases any resources held for running the example, such as its
+     * graph. This is called once the example has run, or straight away if
+     * the example does not need to be run.
+     */
+    public void release() {
+    }
+
+    /**
+     * Gets the resources the example uses, other than those of its runner,
+     * so the example is regenerated when they change.
+     *
+     * @return the resource files and folders, relative to the resources folder
+     */
+    public List<String> getResourcePaths() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Sets the python batch used to convert the example objects into python.
+     * This allows a runner to share a batch between all of its examples.
+     *
+     * @param pythonBatch the python batch
+     */
+    public void setPythonBatch(final PythonBatch pythonBatch) {
+        this.pythonBatch = pythonBatch;
+    }
+
+    /**
+     * @return the results from the last run that had more rows than could be shown
+     */
+    public List<String> getTruncatedResults() {
+        return Collections.unmodifiableList(truncatedResults);
+    }
+
+    /**
+     * Records that a result had more rows than could be shown, so the runner
+     * can report it.
+     *
+     * @param description a description of the result
+     */
+    protected void recordTruncatedResult(final String description) {
+        truncatedResults.add(description);
     }
 
     public Class<?> getClassForExample() {
@@ -104,14 +186,101 @@ public abstract class Example {
         this.skipPythonErrors = true;
     }
 
-    protected abstract void runExamples();
+    /**
+     * Runs the examples. By default all of the {@link ExampleMethod}s are
+     * run in their {@link ExampleMethod#order()}.
+     */
+    protected void runExamples() {
+        runExampleMethods();
+    }
+
+    /**
+     * Runs all of the {@link ExampleMethod}s in their {@link ExampleMethod#order()}.
+     * Examples that need to do some set up or clean up can override
+     * {@link #runExamples()} and call this in between.
+     */
+    protected void runExampleMethods() {
+        for (final Method method : getExampleMethods()) {
+            runExampleMethod(method);
+        }
+    }
+
+    /**
+     * Gets the {@link ExampleMethod}s of this example and the classes it
+     * extends, sorted by their {@link ExampleMethod#order()}. Methods are
+     * read with getDeclaredMethods so private example methods are included,
+     * and an overriding method replaces the method it overrides.
+     *
+     * @return the example methods
+     * @throws IllegalArgumentException if two example methods have the same order
+     */
+    private List<Method> getExampleMethods() {
+        final Map<String, Method> methodsByName = new HashMap<>();
+        for (Class<?> clazz = getClass(); null != clazz && Example.class.isAssignableFrom(clazz); clazz = clazz.getSuperclass()) {
+            for (final Method method : clazz.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(ExampleMethod.class) && !method.isBridge()) {
+                    methodsByName.putIfAbsent(method.getName(), method);
+                }
+            }
+        }
+
+        final Map<Integer, Method> methodsByOrder = new TreeMap<>();
+        for (final Method method : methodsByName.values()) {
+            final Method duplicate = methodsByOrder.put(method.getAnnotation(ExampleMethod.class).order(), method);
+            if (null != duplicate) {
+                throw new IllegalArgumentException("Example methods " + duplicate.getName() + " and " + method.getName()
+                        + " of " + getClass().getName() + " have the same order: " + method.getAnnotation(ExampleMethod.class).order());
+            }
+        }
+        return new ArrayList<>(methodsByOrder.values());
+    }
+
+    private void runExampleMethod(final Method method) {
+        if (0 != method.getParameterCount()) {
+            throw new IllegalArgumentException("Example methods must not have any parameters: " + method);
+        }
+
+        final Method previousMethod = exampleMethod;
+        exampleMethod = method;
+        try {
+            method.setAccessible(true);
+            method.invoke(this);
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException("Unable to run example method: " + method, e);
+        } catch (final InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Unable to run example method: " + method, e.getCause());
+        } finally {
+            exampleMethod = previousMethod;
+        }
+    }
 
-    protected String getMethodName(final int parentMethod) {
-        return Thread.currentThread().getStackTrace()[parentMethod + 2].getMethodName();
+    /**
+     * @return the name of the {@link ExampleMethod} that is running
+     * @throws IllegalStateException if no example method is running
+     */
+    protected String getExampleMethodName() {
+        if (null == exampleMethod) {
+            throw new IllegalStateException("Examples must be run from a method annotated with @"
+                    + ExampleMethod.class.getSimpleName() + ": " + getClass().getName());
+        }
+        return exampleMethod.getName();
     }
 
-    protected String getMethodNameAsSentence(final int parentMethod) {
-        final String[] words = getMethodName(parentMethod + 1).split(CAPITALS_AND_NUMBERS_REGEX);
+    /**
+     * @return the heading of the {@link ExampleMethod} that is running,
+     * either its title or its method name as a sentence
+     */
+    protected String getExampleMethodTitle() {
+        final String methodName = getExampleMethodName();
+        final String title = exampleMethod.getAnnotation(ExampleMethod.class).value();
+        if (StringUtils.isNotBlank(title)) {
+            return title;
+        }
+
+        final String[] words = methodName.split(CAPITALS_AND_NUMBERS_REGEX);
         final StringBuilder sentence = new StringBuilder();
         for (final String word : words) {
             String adaptedWord = word.toLowerCase(Locale.getDefault());
@@ -198,26 +367,29 @@ public abstract class Example {
     protected void printJavaJsonPython(final Object obj, final String java) {
         print(WalkthroughStrSubstitutor.START_JAVA_CODE_MARKER);
         print(java);
+        final RenderedJson json = DocUtil.renderJson(obj);
         print(WalkthroughStrSubstitutor.JSON_CODE_MARKER);
-        print(DocUtil.getJson(obj));
+        print(json.getJson());
         print(WalkthroughStrSubstitutor.FULL_JSON_CODE_MARKER);
-        print(DocUtil.getFullJson(obj));
+        print(json.getFullJson());
 
-        final String python = DocUtil.getPython(obj, skipPythonErrors);
-        if (StringUtils.isNoneBlank(python)) {
-            print(WalkthroughStrSubstitutor.PYTHON_CODE_MARKER);
-            print(python);
-        }
+        append(pythonBatch.deferJson(json.getRawJson(), null, skipPythonErrors, python -> {
+            if (StringUtils.isNoneBlank(python)) {
+                return WalkthroughStrSubstitutor.PYTHON_CODE_MARKER + "\n" + python + "\n";
+            }
+            return "";
+        }));
 
         print(WalkthroughStrSubstitutor.END_MARKER_MARKER);
     }
 
-    protected void printJavaJsonPython(final Object obj, final int parentMethodIndex) {
-        printJavaJsonPython(obj, getJavaSnippet(parentMethodIndex));
+    protected void printJavaJsonPython(final Object obj) {
+        printJavaJsonPython(obj, getJavaSnippet());
     }
 
-    protected String getJavaSnippet(final int parentMethodIndex) {
-        return JavaSourceUtil.getRawJavaSnippet(getClass(), null, " " + getMethodName(parentMethodIndex) + "() {", String.format("---%n"), "// ----");
+    protected String getJavaSnippet() {
+        final String methodName = getExampleMethodName();
+        return JavaSourceUtil.getMethodSnippet(exampleMethod.getDeclaringClass(), null, methodName);
     }
 
     protected void printJava(final String java) {
@@ -227,6 +399,14 @@ public abstract class Example {
     }
 
     protected void print(final String message) {
-        output.append(message).append("\n");
+        append(message);
+        append("\n");
+    }
+
+    private void append(final String text) {
+        if (null == output) {
+            output = new PageSpool();
+        }
+        output.append(text);
     }
 }
@@ -57,11 +57,29 @@ public abstract class ExampleDocRunner implements DocGenerator {
         this.outputPath = toFolderName(GETTING_STARTED_FOLDER + title);
         this.resourcePrefix = toFileName(title);
 
-        this.examples = getSubClassInstances(exampleParentClass);
+        // Examples left out by the filter are never created, so they do not load their graphs
+        final DocFilter filter = DocFilter.getInstance();
+        if (!filter.includesRunner(title)) {
+            this.examples = new LinkedHashSet<>();
+            return;
+        }
+        try (final BuildProfile.Timer timer = BuildProfile.subject(title);
+             final BuildProfile.Timer discovery = BuildProfile.phase(BuildProfile.Phase.CLASS_DISCOVERY)) {
+            this.examples = getSubClassInstances(exampleParentClass, filter);
+        }
+    }
+
+    @Override
+    public boolean isIncluded() {
+        return DocFilter.getInstance().includesRunner(title);
     }
 
     @Override
     public void generate() {
+        if (!isIncluded()) {
+            return;
+        }
+        StartupTimer.record();
         try {
             _generate();
         } catch (final Exception e) {
@@ -70,19 +88,82 @@ public abstract class ExampleDocRunner implements DocGenerator {
     }
 
     public void _generate() throws Exception {
-        FileUtils.writeStringToFile(
-                new File(outputPath + toMdFileName("contents")),
-                getTableOfContents()
-        );
-        for (final Example example : examples) {
-            DocUtil.clearCache();
-            example.run();
+        // The contents would only list the filtered examples, so the previous contents are kept
+        if (!DocFilter.getInstance().isActive()) {
             FileUtils.writeStringToFile(
-                    new File(outputPath + toMdFileName(example.getClass().getSimpleName().replace("Example", ""))),
-                    example.getOutput());
+                    new File(outputPath + toMdFileName("contents")),
+                    getTableOfContents()
+            );
+        }
+
+        // Examples whose inputs have not changed since the last build are skipped and their previous output is kept
+        final DocManifest manifest = DocManifest.getInstance();
+        final List<Example> outOfDateExamples = new ArrayList<>();
+        for (final Example example : examples) {
+            if (!manifest.isUpToDate(getOutputFile(example), example.getClass(), getResourcePaths(example))) {
+                outOfDateExamples.add(example);
+            } else {
+                example.release();
+            }
+        }
+
+        // The python for all of the examples is converted in one batch when the first output is fetched
+        final PythonBatch pythonBatch = new PythonBatch();
+        if (isThreadSafe()) {
+            // The examples do not share any state so the output is the same as running them in order
+            outOfDateExamples.parallelStream().forEach(example -> {
+                example.setPythonBatch(pythonBatch);
+                try (final BuildProfile.Timer timer = BuildProfile.subject(example.getClass().getSimpleName());
+                     final DocEvents.Span event = DocEvents.example(example.getClass().getSimpleName())) {
+                    example.run();
+                } finally {
+                    example.release();
+                }
+            });
+        } else {
+            for (final Example example : outOfDateExamples) {
+                DocUtil.clearCache();
+                example.setPythonBatch(pythonBatch);
+                try (final BuildProfile.Timer timer = BuildProfile.subject(example.getClass().getSimpleName());
+                     final DocEvents.Span event = DocEvents.example(example.getClass().getSimpleName())) {
+                    example.run();
+                } finally {
+                    example.release();
+                }
+            }
+        }
+        for (final Example example : outOfDateExamples) {
+            final File outputFile = getOutputFile(example);
+            try (final BuildProfile.Timer timer = BuildProfile.subject(example.getClass().getSimpleName());
+                 final BuildProfile.Timer write = BuildProfile.phase(BuildProfile.Phase.FILE_WRITE)) {
+                example.writeOutput(outputFile);
+            }
+            manifest.update(outputFile, example.getClass(), getResourcePaths(example));
+            for (final String truncatedResult : example.getTruncatedResults()) {
+                System.out.println("Truncated result in " + example.getClass().getSimpleName() + "." + truncatedResult
+                        + ", set " + ResultSample.MAX_ROWS_PROPERTY + " to show more");
+            }
         }
     }
 
+    @Override
+    public boolean isAffectedBy(final String sourcePath) {
+        // Examples are only discovered in the runner's own package, not in sub packages
+        final String packagePath = getClass().getPackage().getName().replace('.', '/') + "/";
+        return (sourcePath.startsWith(packagePath) && sourcePath.indexOf('/', packagePath.length()) < 0)
+                || (sourcePath.startsWith(toFolderName(resourcePrefix)) && sourcePath.endsWith(".md"));
+    }
+
+    private List<String> getResourcePaths(final Example example) {
+        final List<String> resourcePaths = new ArrayList<>(example.getResourcePaths());
+        resourcePaths.add(resourcePrefix);
+        return resourcePaths;
+    }
+
+    private File getOutputFile(final Example example) {
+        return new File(outputPath + toMdFileName(example.getClass().getSimpleName().replace("Example", "")));
+    }
+
     protected String getIntro() {
         return loadFile("Intro.md");
     }
@@ -135,9 +216,12 @@ public abstract class ExampleDocRunner implements DocGenerator {
         return summary.toString();
     }
 
-    private <CLASS> LinkedHashSet<CLASS> getSubClassInstances(final Class<?> exampleParentClass) {
+    private <CLASS> LinkedHashSet<CLASS> getSubClassInstances(final Class<?> exampleParentClass, final DocFilter filter) {
         final LinkedHashSet<CLASS> instances = new LinkedHashSet<>();
         for (final Class<?> exampleClass : getSubClasses(exampleParentClass, getClass().getPackage().getName())) {
+            if (!filter.includesExample(title, exampleClass.getSimpleName())) {
+                continue;
+            }
             try {
                 instances.add((CLASS) exampleClass.newInstance());
             } catch (final InstantiationException | IllegalAccessException e) {
@@ -148,9 +232,15 @@ public abstract class ExampleDocRunner implements DocGenerator {
     }
 
     private <CLASS> LinkedHashSet<Class<? extends CLASS>> getSubClasses(final Class<?> clazz, final String packageName) {
-        final Set<URL> urls = new HashSet<>(ClasspathHelper.forPackage("gaffer"));
-
-        final List<Class<? extends CLASS>> classes = new ArrayList(new Reflections(urls).getSubTypesOf(clazz));
+        final List<Class<? extends CLASS>> classes;
+        final List<String> indexedClassNames = ExampleIndex.getExampleClassNames();
+        if (null != indexedClassNames) {
+            classes = getIndexedSubClasses(clazz, indexedClassNames);
+        } else {
+            // The example index is only generated by the maven build, so fall back to scanning the classpath
+            final Set<URL> urls = new HashSet<>(ClasspathHelper.forPackage("gaffer"));
+            classes = new ArrayList(new Reflections(urls).getSubTypesOf(clazz));
+        }
         keepPublicConcreteClasses(classes);
         keepClassesInPackage(classes, packageName);
         Collections.sort(classes, new Comparator<Class>() {
@@ -163,6 +253,22 @@ public abstract class ExampleDocRunner implements DocGenerator {
         return Sets.newLinkedHashSet((Iterable) classes);
     }
 
+    private static <CLASS> List<Class<? extends CLASS>> getIndexedSubClasses(final Class<?> clazz, final List<String> classNames) {
+        final List<Class<? extends CLASS>> classes = new ArrayList<>();
+        for (final String className : classNames) {
+            final Class<?> indexedClass;
+            try {
+                indexedClass = Class.forName(className);
+            } catch (final ClassNotFoundException e) {
+                throw new RuntimeException("Unable to load indexed example: " + className, e);
+            }
+            if (clazz.isAssignableFrom(indexedClass) && !clazz.equals(indexedClass)) {
+                classes.add((Class<? extends CLASS>) indexedClass);
+            }
+        }
+        return classes;
+    }
+
     private static void keepClassesInPackage(final List classes, final String packageName) {
         if (null != classes && null != packageName) {
             final Iterator<Class> itr = classes.iterator();
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+
+import uk.gov.gchq.gaffer.commonutil.CommonConstants;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An index of all the concrete {@link Example} classes, generated at build time
+ * so the example runners do not need to scan the classpath.
+ * <p>
+ * The index is written to {@value #INDEX_RESOURCE} in the process-classes
+ * phase by running this class with the classes directory as its argument.
+ * It contains the concrete example class names, one per line, sorted
+ * by name.
+ */
+public final class ExampleIndex {
+    public static final String INDEX_RESOURCE = "uk/gov/gchq/gaffer/doc/example-classes.index";
+
+    private static List<String> exampleClassNames;
+
+    private ExampleIndex() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (1 != args.length) {
+            throw new IllegalArgumentException("Usage: " + ExampleIndex.class.getSimpleName() + " <classes directory>");
+        }
+
+        final File classesDir = new File(args[0]);
+        final List<String> classNames = new ArrayList<>();
+        for (final File classFile : FileUtils.listFiles(classesDir, new String[]{"class"}, true)) {
+            final String path = classesDir.toPath().relativize(classFile.toPath()).toString().replace(File.separatorChar, '/');
+            if (path.contains("$")) {
+                continue;
+            }
+
+            final String className = path.substring(0, path.length() - ".class".length()).replace('/', '.');
+            if (isConcreteExample(className)) {
+                classNames.add(className);
+            }
+        }
+        Collections.sort(classNames);
+
+        final File indexFile = new File(classesDir, INDEX_RESOURCE);
+        FileUtils.writeLines(indexFile, CommonConstants.UTF_8, classNames, "\n");
+        System.out.println("Indexed " + classNames.size() + " examples in " + indexFile.getPath());
+    }
+
+    /**
+     * Gets the names of all the concrete example classes in the index.
+     *
+     * @return the sorted example class names, or null if the index has not been generated
+     */
+    public static synchronized List<String> getExampleClassNames() {
+        if (null == exampleClassNames) {
+            try (final InputStream stream = ExampleIndex.class.getClassLoader().getResourceAsStream(INDEX_RESOURCE)) {
+                if (null == stream) {
+                    return null;
+                }
+                final List<String> classNames = new ArrayList<>();
+                for (final String line : IOUtils.readLines(stream, CommonConstants.UTF_8)) {
+                    if (!line.trim().isEmpty()) {
+                        classNames.add(line.trim());
+                    }
+                }
+                exampleClassNames = Collections.unmodifiableList(classNames);
+            } catch (final IOException e) {
+                throw new RuntimeException("Unable to read the example index: " + INDEX_RESOURCE, e);
+            }
+        }
+        return exampleClassNames;
+    }
+
+    private static boolean isConcreteExample(final String className) {
+        final Class<?> clazz;
+        try {
+            clazz = Class.forName(className, false, ExampleIndex.class.getClassLoader());
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+
+        final int modifiers = clazz.getModifiers();
+        return Example.class.isAssignableFrom(clazz)
+                && !Modifier.isAbstract(modifiers)
+                && !Modifier.isInterface(modifiers)
+                && !Modifier.isPrivate(modifiers)
+                && !Modifier.isProtected(modifiers);
+    }
+}
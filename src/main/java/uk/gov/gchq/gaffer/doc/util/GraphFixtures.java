@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.io.IOUtils;
+
+import uk.gov.gchq.gaffer.commonutil.CommonConstants;
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.generator.ElementGenerator;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lazily creates the graphs used by the examples, keyed by the schema, store
+ * properties, data and element generator used to build them.
+ * <p>
+ * The resources of a fixture are read and its elements are generated the
+ * first time a graph is requested, and are then reused by the other examples
+ * with the same key. The store itself is not shared: every call to
+ * {@link #createGraph(Key, GraphConfig)} builds a new store and adds copies
+ * of the generated elements to it, so examples can modify their graph
+ * without affecting each other. Examples register their interest in a
+ * fixture up front and release it once they have finished, and the fixture
+ * is discarded when the last of its examples releases it.
+ */
+public final class GraphFixtures {
+    private static final Map<Key, Integer> USERS = new HashMap<>();
+    private static final Map<Key, Fixture> FIXTURES = new HashMap<>();
+
+    private GraphFixtures() {
+    }
+
+    /**
+     * Registers an example that will use the fixture. This is cheap, the
+     * fixture is not loaded until a graph is created.
+     *
+     * @param key the fixture key
+     */
+    public static synchronized void register(final Key key) {
+        USERS.merge(key, 1, Integer::sum);
+    }
+
+    /**
+     * Releases a fixture registered with {@link #register(Key)}.
+     *
+     * @param key the fixture key
+     */
+    public static synchronized void release(final Key key) {
+        final Integer users = USERS.get(key);
+        if (null == users || users <= 1) {
+            USERS.remove(key);
+            FIXTURES.remove(key);
+        } else {
+            USERS.put(key, users - 1);
+        }
+    }
+
+    /**
+     * Creates a new graph and adds the fixture elements to it.
+     *
+     * @param key    the fixture key
+     * @param config the config of the new graph
+     * @return the graph
+     */
+    public static Graph createGraph(final Key key, final GraphConfig config) {
+        try (final BuildProfile.Timer timer = BuildProfile.phase(BuildProfile.Phase.GRAPH_FIXTURE)) {
+            final Fixture fixture;
+            synchronized (GraphFixtures.class) {
+                fixture = FIXTURES.computeIfAbsent(key, Fixture::new);
+            }
+            return fixture.createGraph(config);
+        }
+    }
+
+    public static final class Key {
+        private final String schemaPath;
+        private final String storePropertiesPath;
+        private final String dataPath;
+        private final Class<? extends ElementGenerator<String>> generatorClass;
+
+        public Key(final String schemaPath, final String storePropertiesPath, final String dataPath, final Class<? extends ElementGenerator<String>> generatorClass) {
+            this.schemaPath = schemaPath;
+            this.storePropertiesPath = storePropertiesPath;
+            this.dataPath = dataPath;
+            this.generatorClass = generatorClass;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (null == obj || getClass() != obj.getClass()) {
+                return false;
+            }
+            final Key key = (Key) obj;
+            return schemaPath.equals(key.schemaPath)
+                    && storePropertiesPath.equals(key.storePropertiesPath)
+                    && dataPath.equals(key.dataPath)
+                    && generatorClass.equals(key.generatorClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(schemaPath, storePropertiesPath, dataPath, generatorClass);
+        }
+
+        @Override
+        public String toString() {
+            return schemaPath + ", " + storePropertiesPath + ", " + dataPath + ", " + generatorClass.getSimpleName();
+        }
+    }
+
+    private static final class Fixture {
+        private final List<byte[]> schemas = new ArrayList<>();
+        private final byte[] storeProperties;
+        private final List<Element> elements = new ArrayList<>();
+
+        private Fixture(final Key key) {
+            try {
+                for (final InputStream schema : StreamUtil.openStreams(GraphFixtures.class, key.schemaPath)) {
+                    try (final InputStream stream = schema) {
+                        schemas.add(IOUtils.toByteArray(stream));
+                    }
+                }
+                try (final InputStream stream = StreamUtil.openStream(GraphFixtures.class, key.storePropertiesPath)) {
+                    storeProperties = IOUtils.toByteArray(stream);
+                }
+
+                final List<String> data;
+                try (final InputStream stream = StreamUtil.openStream(GraphFixtures.class, key.dataPath)) {
+                    data = IOUtils.readLines(stream, CommonConstants.UTF_8);
+                }
+                for (final Element element : key.generatorClass.newInstance().apply(data)) {
+                    elements.add(element);
+                }
+            } catch (final IOException | InstantiationException | IllegalAccessException e) {
+                throw new RuntimeException("Unable to load graph fixture: " + key, e);
+            }
+        }
+
+        private Graph createGraph(final GraphConfig config) {
+            final Graph.Builder builder = new Graph.Builder()
+                    .config(config)
+                    .storeProperties(new ByteArrayInputStream(storeProperties));
+            for (final byte[] schema : schemas) {
+                builder.addSchema(schema);
+            }
+            final Graph graph = builder.build();
+
+            final List<Element> copies = new ArrayList<>(elements.size());
+            for (final Element element : elements) {
+                copies.add(element.shallowClone());
+            }
+            try {
+                graph.execute(new AddElements.Builder()
+                        .input(Collections.unmodifiableList(copies))
+                        .build(), new User());
+            } catch (final OperationException e) {
+                throw new RuntimeException(e);
+            }
+            return graph;
+        }
+    }
+}
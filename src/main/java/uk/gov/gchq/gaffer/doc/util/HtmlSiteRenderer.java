@@ -0,0 +1,448 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.ext.heading.anchor.HeadingAnchorExtension;
+import org.commonmark.node.Link;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+
+import uk.gov.gchq.gaffer.commonutil.CommonConstants;
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Renders the generated markdown into a static HTML site, as a faster
+ * alternative to {@code gitbook build}. The {@code SUMMARY.md} becomes the
+ * navigation of every page and the {@code codetabs} blocks become tabbed
+ * code blocks.
+ * <p>
+ * Pages are rendered in parallel. A hash of each page's markdown, the
+ * summary and the page template is kept in {@value #MANIFEST_PATH}, so only
+ * the pages that have changed since the last render are rendered again.
+ * The renderer is run by {@link uk.gov.gchq.gaffer.doc.DocsGenerator} when
+ * the {@value #HTML_PROPERTY} property is true, writing to the directory in
+ * {@value #OUTPUT_DIR_PROPERTY}.
+ */
+public final class HtmlSiteRenderer {
+    public static final String HTML_PROPERTY = "gaffer.doc.html";
+    public static final String OUTPUT_DIR_PROPERTY = "gaffer.doc.html.dir";
+    public static final String DEFAULT_OUTPUT_DIR = "target/html";
+    public static final String MANIFEST_PATH = "target/html-manifest.json";
+    private static final String SUMMARY_FILE = "SUMMARY.md";
+    private static final String MARKDOWN_SUFFIX = ".md";
+    private static final String HTML_SUFFIX = ".html";
+    private static final String TEMPLATE_PATH = "html/page.html.template";
+    private static final List<String> STATIC_RESOURCES = Arrays.asList("html/gaffer-doc.css", "html/gaffer-doc.js");
+    private static final List<String> IGNORED_DIRS = Arrays.asList("node_modules", "_book");
+    private static final String PLACEHOLDER_PREFIX = "@@CODETABS_";
+    private static final String PLACEHOLDER_SUFFIX = "@@";
+    private static final Pattern CODETABS_PATTERN = Pattern.compile(
+            "\\{%\\s*codetabs\\s+name=\"([^\"]*)\",\\s*type=\"([^\"]*)\"\\s*-?%}(.*?)\\{%-?\\s*endcodetabs\\s*-?%}", Pattern.DOTALL);
+    private static final Pattern LANGUAGE_PATTERN = Pattern.compile(
+            "\\{%-?\\s*language\\s+name=\"([^\"]*)\",\\s*type=\"([^\"]*)\"\\s*-?%}");
+    private static final Pattern SUMMARY_ENTRY_PATTERN = Pattern.compile("^(\\s*)[*-]\\s+(?:\\[(.*?)]\\((.*?)\\)|(.+))$");
+    private static final Pattern HEADING_PATTERN = Pattern.compile("^#+\\s+(.+)$|^(.+)\\n=+\\s*$", Pattern.MULTILINE);
+
+    private final File docsDir;
+    private final File outputDir;
+    private final int parallelism;
+    private final File manifestFile;
+    private final List<Extension> extensions = Arrays.asList(TablesExtension.create(), HeadingAnchorExtension.create());
+    private final Parser parser = Parser.builder().extensions(extensions).build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder()
+            .extensions(extensions)
+            .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                if (node instanceof Link && attributes.containsKey("href")) {
+                    attributes.put("href", toHtmlLink(attributes.get("href")));
+                }
+            })
+            .build();
+
+    public HtmlSiteRenderer(final File docsDir, final File outputDir, final int parallelism) {
+        this(docsDir, outputDir, parallelism, new File(MANIFEST_PATH));
+    }
+
+    /**
+     * @param docsDir      the folder containing the markdown and {@code SUMMARY.md}
+     * @param outputDir    the folder the html is written to
+     * @param parallelism  the number of pages to render at once
+     * @param manifestFile the file the page hashes are kept in, instead of {@value #MANIFEST_PATH}
+     */
+    HtmlSiteRenderer(final File docsDir, final File outputDir, final int parallelism, final File manifestFile) {
+        this.docsDir = docsDir;
+        this.outputDir = outputDir;
+        this.parallelism = parallelism;
+        this.manifestFile = manifestFile;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(HTML_PROPERTY));
+    }
+
+    public static File getOutputDir() {
+        return new File(System.getProperty(OUTPUT_DIR_PROPERTY, DEFAULT_OUTPUT_DIR));
+    }
+
+    /**
+     * Renders the pages that have changed since the last render and copies
+     * the images and other files in the docs folder that have changed.
+     *
+     * @return the number of pages rendered
+     */
+    public int render() {
+        final String template = readResource(TEMPLATE_PATH);
+        final List<SummaryEntry> summary = readSummary();
+        final MessageDigest sharedDigest = DocManifest.createDigest();
+        DocManifest.updateDigest(sharedDigest, template);
+        final File summaryFile = new File(docsDir, SUMMARY_FILE);
+        DocManifest.updateDigest(sharedDigest, summaryFile.isFile() ? readFile(summaryFile) : "");
+        final String sharedHash = DocManifest.toHex(sharedDigest.digest());
+
+        final Map<String, String> previousHashes = loadManifest(manifestFile);
+        final Map<String, String> hashes = new ConcurrentHashMap<>();
+        final AtomicInteger rendered = new AtomicInteger();
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            final List<CompletableFuture<Void>> pages = new ArrayList<>();
+            for (final String page : listFiles()) {
+                pages.add(CompletableFuture.runAsync(() -> {
+                    if (page.endsWith(MARKDOWN_SUFFIX)) {
+                        final String markdown = readFile(new File(docsDir, page));
+                        final MessageDigest digest = DocManifest.createDigest();
+                        DocManifest.updateDigest(digest, sharedHash);
+                        DocManifest.updateDigest(digest, markdown);
+                        final String hash = DocManifest.toHex(digest.digest());
+                        final File output = new File(outputDir, toHtmlPath(page));
+                        if (!output.exists() || !hash.equals(previousHashes.get(page))) {
+                            writeFile(output, renderPage(page, markdown, template, summary));
+                            rendered.incrementAndGet();
+                        }
+                        hashes.put(page, hash);
+                    } else {
+                        copyIfChanged(new File(docsDir, page), new File(outputDir, page));
+                    }
+                }, pool));
+            }
+            CompletableFuture.allOf(pages.toArray(new CompletableFuture[pages.size()])).join();
+        } finally {
+            pool.shutdown();
+        }
+
+        for (final String resource : STATIC_RESOURCES) {
+            writeFile(new File(outputDir, resource), readResource(resource));
+        }
+        try {
+            FileUtils.writeByteArrayToFile(manifestFile, JSONSerialiser.serialise(new TreeMap<>(hashes), true));
+        } catch (final IOException | SerialisationException e) {
+            throw new RuntimeException("Unable to save the html manifest: " + manifestFile.getPath(), e);
+        }
+        return rendered.get();
+    }
+
+    private String renderPage(final String page, final String markdown, final String template, final List<SummaryEntry> summary) {
+        final List<String> codeTabs = new ArrayList<>();
+        final String html = replaceCodeTabs(renderer.render(parser.parse(extractCodeTabs(markdown, codeTabs))), codeTabs);
+        final String root = getRoot(page);
+        return template
+                .replace("${TITLE}", escape(getTitle(page, markdown, summary)))
+                .replace("${ROOT}", root)
+                .replace("${NAVIGATION}", renderNavigation(page, root, summary))
+                .replace("${CONTENT}", html);
+    }
+
+    /**
+     * Replaces each codetabs block with a placeholder paragraph. The code in
+     * the tabs is not markdown, and may contain blank lines that would end
+     * an HTML block, so the tabs are added once the markdown is rendered.
+     */
+    private static String extractCodeTabs(final String markdown, final List<String> codeTabs) {
+        final Matcher matcher = CODETABS_PATTERN.matcher(markdown);
+        final StringBuffer extracted = new StringBuffer(markdown.length());
+        while (matcher.find()) {
+            codeTabs.add(renderCodeTabs(matcher.group(1), matcher.group(2), matcher.group(3)));
+            matcher.appendReplacement(extracted, Matcher.quoteReplacement("\n\n" + PLACEHOLDER_PREFIX + (codeTabs.size() - 1) + PLACEHOLDER_SUFFIX + "\n\n"));
+        }
+        matcher.appendTail(extracted);
+        return extracted.toString();
+    }
+
+    private static String replaceCodeTabs(final String html, final List<String> codeTabs) {
+        String replaced = html;
+        for (int i = 0; i < codeTabs.size(); i++) {
+            replaced = replaced.replace("<p>" + PLACEHOLDER_PREFIX + i + PLACEHOLDER_SUFFIX + "</p>", codeTabs.get(i));
+        }
+        return replaced;
+    }
+
+    private static String renderCodeTabs(final String firstName, final String firstType, final String body) {
+        final List<String[]> tabs = new ArrayList<>();
+        final Matcher matcher = LANGUAGE_PATTERN.matcher(body);
+        String name = firstName;
+        String type = firstType;
+        int start = 0;
+        while (matcher.find()) {
+            tabs.add(new String[]{name, type, body.substring(start, matcher.start())});
+            name = matcher.group(1);
+            type = matcher.group(2);
+            start = matcher.end();
+        }
+        tabs.add(new String[]{name, type, body.substring(start)});
+
+        final StringBuilder header = new StringBuilder("<div class=\"codetabs-header\">");
+        final StringBuilder content = new StringBuilder("<div class=\"codetabs-body\">");
+        for (int i = 0; i < tabs.size(); i++) {
+            final String active = 0 == i ? " active" : "";
+            header.append("<button class=\"codetab").append(active).append("\" data-tab=\"").append(i).append("\">")
+                    .append(escape(tabs.get(i)[0])).append("</button>");
+            content.append("<pre class=\"codetab").append(active).append("\" data-tab=\"").append(i).append("\"><code class=\"language-")
+                    .append(escape(tabs.get(i)[1])).append("\">").append(escape(trimCode(tabs.get(i)[2]))).append("</code></pre>");
+        }
+        return "<div class=\"codetabs\">" + header + "</div>" + content + "</div></div>";
+    }
+
+    private static String trimCode(final String code) {
+        // The gitbook tags trim the new lines next to them
+        int start = 0;
+        int end = code.length();
+        while (start < end && ('\n' == code.charAt(start) || '\r' == code.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(code.charAt(end - 1))) {
+            end--;
+        }
+        return code.substring(start, end);
+    }
+
+    private String renderNavigation(final String page, final String root, final List<SummaryEntry> summary) {
+        final StringBuilder navigation = new StringBuilder();
+        int depth = -1;
+        for (final SummaryEntry entry : summary) {
+            if (entry.depth > depth) {
+                for (int i = depth; i < entry.depth; i++) {
+                    navigation.append("<ul>");
+                }
+            } else {
+                navigation.append("</li>");
+                for (int i = depth; i > entry.depth; i--) {
+                    navigation.append("</ul></li>");
+                }
+            }
+            depth = entry.depth;
+
+            navigation.append(page.equals(entry.path) ? "<li class=\"active\">" : "<li>");
+            if (null == entry.path) {
+                navigation.append("<span>").append(escape(entry.title)).append("</span>");
+            } else {
+                final String href = isExternal(entry.path) ? entry.path : root + toHtmlLink(entry.path);
+                navigation.append("<a href=\"").append(escape(href)).append("\">").append(escape(entry.title)).append("</a>");
+            }
+        }
+        if (depth > -1) {
+            navigation.append("</li>");
+            for (int i = depth; i > 0; i--) {
+                navigation.append("</ul></li>");
+            }
+            navigation.append("</ul>");
+        }
+        return navigation.toString();
+    }
+
+    private List<SummaryEntry> readSummary() {
+        final File summaryFile = new File(docsDir, SUMMARY_FILE);
+        if (!summaryFile.isFile()) {
+            return Collections.emptyList();
+        }
+        final List<SummaryEntry> entries = new ArrayList<>();
+        final List<Integer> indents = new ArrayList<>();
+        for (final String line : readFile(summaryFile).split("\n")) {
+            final Matcher matcher = SUMMARY_ENTRY_PATTERN.matcher(line);
+            if (!matcher.matches()) {
+                continue;
+            }
+            final int indent = matcher.group(1).length();
+            while (!indents.isEmpty() && indents.get(indents.size() - 1) >= indent) {
+                indents.remove(indents.size() - 1);
+            }
+            final int depth = indents.size();
+            indents.add(indent);
+            if (null != matcher.group(2)) {
+                entries.add(new SummaryEntry(depth, matcher.group(2), matcher.group(3).isEmpty() ? null : matcher.group(3)));
+            } else {
+                entries.add(new SummaryEntry(depth, matcher.group(4).trim(), null));
+            }
+        }
+        return entries;
+    }
+
+    private String getTitle(final String page, final String markdown, final List<SummaryEntry> summary) {
+        for (final SummaryEntry entry : summary) {
+            if (page.equals(entry.path)) {
+                return entry.title;
+            }
+        }
+        final Matcher matcher = HEADING_PATTERN.matcher(markdown);
+        if (matcher.find()) {
+            return (null != matcher.group(1) ? matcher.group(1) : matcher.group(2)).trim();
+        }
+        return page;
+    }
+
+    private List<String> listFiles() {
+        final Path root = docsDir.toPath();
+        try (final Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> root.relativize(file).toString().replace(File.separatorChar, '/'))
+                    .filter(path -> !SUMMARY_FILE.equals(path) && !path.startsWith(".") && !path.contains("/.") && !isIgnored(path))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to list the docs: " + docsDir.getPath(), e);
+        }
+    }
+
+    private static boolean isIgnored(final String path) {
+        for (final String dir : IGNORED_DIRS) {
+            if (path.startsWith(dir + "/") || path.contains("/" + dir + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Links to markdown pages are changed to link to the rendered pages. A
+     * README is rendered as the index of its folder, as in gitbook.
+     */
+    static String toHtmlLink(final String href) {
+        if (isExternal(href)) {
+            return href;
+        }
+        final int anchorIndex = href.indexOf('#');
+        final String path = anchorIndex < 0 ? href : href.substring(0, anchorIndex);
+        final String anchor = anchorIndex < 0 ? "" : href.substring(anchorIndex);
+        return path.endsWith(MARKDOWN_SUFFIX) ? toHtmlPath(path) + anchor : href;
+    }
+
+    private static String toHtmlPath(final String page) {
+        final String path = page.substring(0, page.length() - MARKDOWN_SUFFIX.length());
+        if ("README".equals(path) || path.endsWith("/README")) {
+            return path.substring(0, path.length() - "README".length()) + "index" + HTML_SUFFIX;
+        }
+        return path + HTML_SUFFIX;
+    }
+
+    private static boolean isExternal(final String href) {
+        return href.contains("://") || href.startsWith("mailto:") || href.startsWith("#");
+    }
+
+    private static String getRoot(final String page) {
+        final StringBuilder root = new StringBuilder();
+        for (int i = page.indexOf('/'); i > -1; i = page.indexOf('/', i + 1)) {
+            root.append("../");
+        }
+        return root.toString();
+    }
+
+    private static String escape(final String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static void copyIfChanged(final File source, final File target) {
+        if (target.exists() && target.length() == source.length() && target.lastModified() >= source.lastModified()) {
+            return;
+        }
+        try {
+            FileUtils.copyFile(source, target);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to copy: " + source.getPath(), e);
+        }
+    }
+
+    private static String readFile(final File file) {
+        try {
+            return FileUtils.readFileToString(file, CommonConstants.UTF_8);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to read: " + file.getPath(), e);
+        }
+    }
+
+    private static void writeFile(final File file, final String content) {
+        try {
+            FileUtils.writeStringToFile(file, content, CommonConstants.UTF_8);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to write: " + file.getPath(), e);
+        }
+    }
+
+    private static String readResource(final String path) {
+        try (final InputStream stream = StreamUtil.openStream(HtmlSiteRenderer.class, path)) {
+            return IOUtils.toString(stream, CommonConstants.UTF_8);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to read resource: " + path, e);
+        }
+    }
+
+    private static Map<String, String> loadManifest(final File manifestFile) {
+        if (!manifestFile.exists() || Boolean.parseBoolean(System.getProperty(DocManifest.FORCE_PROPERTY))) {
+            return Collections.emptyMap();
+        }
+        try {
+            return JSONSerialiser.deserialise(FileUtils.readFileToByteArray(manifestFile), Map.class);
+        } catch (final IOException | SerialisationException e) {
+            // An unreadable manifest just means every page is rendered
+            return Collections.emptyMap();
+        }
+    }
+
+    private static final class SummaryEntry {
+        private final int depth;
+        private final String title;
+        private final String path;
+
+        private SummaryEntry(final int depth, final String title, final String path) {
+            this.depth = depth;
+            this.title = title;
+            this.path = path;
+        }
+    }
+}
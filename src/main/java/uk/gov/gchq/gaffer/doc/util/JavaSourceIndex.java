@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static uk.gov.gchq.gaffer.doc.util.JavaSourceUtil.NEW_LINE;
+
+/**
+ * An immutable index of the code snippets in a java source file.
+ * <p>
+ * The source is parsed once, recording the snippet following every
+ * {@code // [tag]} marker and every no argument method, so the snippets can
+ * then be looked up without searching the source again.
+ */
+public final class JavaSourceIndex {
+    static final String TAG_START_MARKER = String.format("----%n");
+    static final String TAG_END_MARKER = "// ----";
+    static final String METHOD_START_MARKER = String.format("---%n");
+    static final String METHOD_END_MARKER = "// ----";
+    private static final Pattern TAG_PATTERN = Pattern.compile("// \\[([^\\]\\r\\n]*)\\]");
+    private static final Pattern METHOD_PATTERN = Pattern.compile("(?<= )([A-Za-z_$][A-Za-z0-9_$]*)\\(\\) \\{");
+
+    private final String className;
+    private final String rawJava;
+    private final Map<String, String> tagSnippets;
+    private final Map<String, String> methodSnippets;
+
+    JavaSourceIndex(final String className, final String rawJava) {
+        this.className = className;
+        this.rawJava = rawJava;
+        this.tagSnippets = Collections.unmodifiableMap(index(TAG_PATTERN, 0, TAG_START_MARKER, TAG_END_MARKER));
+        this.methodSnippets = Collections.unmodifiableMap(index(METHOD_PATTERN, 1, METHOD_START_MARKER, METHOD_END_MARKER));
+    }
+
+    public String getRawJava() {
+        return rawJava;
+    }
+
+    /**
+     * @param tag the tag of the snippet, as written in the {@code // [tag]} marker
+     * @return the snippet following the tag
+     * @throws IllegalArgumentException if the tag is not in the source
+     */
+    public String getTagSnippet(final String tag) {
+        return getSnippet(tagSnippets, tag, "// [" + tag + "]");
+    }
+
+    /**
+     * @param methodName the name of a method with no arguments
+     * @return the snippet in the body of the method
+     * @throws IllegalArgumentException if the method is not in the source
+     */
+    public String getMethodSnippet(final String methodName) {
+        return getSnippet(methodSnippets, methodName, " " + methodName + "() {");
+    }
+
+    /**
+     * Extracts a snippet that has not been indexed.
+     *
+     * @param marker the text marking the snippet
+     * @param start  the text after the marker that the snippet starts after
+     * @param end    the text that the snippet ends before
+     * @return the snippet
+     * @throws IllegalArgumentException if the marker is not in the source
+     */
+    public String getSnippet(final String marker, final String start, final String end) {
+        final int markerIndex = rawJava.indexOf(marker);
+        if (markerIndex < 0) {
+            throw new IllegalArgumentException("Cannot find java snippet for: " + className + " " + marker);
+        }
+        return extractSnippet(markerIndex, start, end);
+    }
+
+    private String getSnippet(final Map<String, String> snippets, final String key, final String marker) {
+        final String snippet = snippets.get(key);
+        if (null == snippet) {
+            throw new IllegalArgumentException("Cannot find java snippet for: " + className + " " + marker);
+        }
+        return snippet;
+    }
+
+    private Map<String, String> index(final Pattern pattern, final int markerOffset, final String start, final String end) {
+        final Map<String, String> snippets = new HashMap<>();
+        final Matcher matcher = pattern.matcher(rawJava);
+        while (matcher.find()) {
+            final String key = matcher.group(1);
+            if (!snippets.containsKey(key)) {
+                try {
+                    snippets.put(key, extractSnippet(matcher.start() - markerOffset, start, end));
+                } catch (final StringIndexOutOfBoundsException e) {
+                    // Not every method contains a snippet
+                }
+            }
+        }
+        return snippets;
+    }
+
+    private String extractSnippet(final int markerIndex, final String start, final String end) {
+        final int startIndex = rawJava.indexOf(start, markerIndex) + start.length();
+        final int endIndex = rawJava.indexOf(end, startIndex);
+        if (startIndex < start.length() || endIndex < 0) {
+            throw new StringIndexOutOfBoundsException("Unable to find the start and end of the java snippet in: " + className);
+        }
+
+        String javaCode = StringUtils.stripEnd(rawJava.substring(startIndex, endIndex), " " + NEW_LINE);
+
+        // Remove indentation
+        final String trimmedJavaCode = javaCode.trim();
+        final int leadingSpaces = javaCode.indexOf(trimmedJavaCode);
+        if (leadingSpaces > 0) {
+            final String spacesRegex = NEW_LINE + StringUtils.repeat(" ", leadingSpaces);
+            javaCode = trimmedJavaCode.replace(spacesRegex, NEW_LINE);
+        }
+
+        return javaCode;
+    }
+}
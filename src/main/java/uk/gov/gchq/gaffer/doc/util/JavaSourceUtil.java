@@ -20,12 +20,13 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class JavaSourceUtil {
     private static final String JAVA_SRC_PATH = "src/main/java/";
-    private static final String START_TAG_CODE_SNIPPET_MARKER = String.format("----%n");
-    private static final String TAG_END_CODE_SNIPPET_MARKER = "// ----";
     public static final String NEW_LINE = String.format("%n");
+    private static final Map<String, JavaSourceIndex> INDEXES = new ConcurrentHashMap<>();
 
     private JavaSourceUtil() {
     }
@@ -35,42 +36,52 @@ public final class JavaSourceUtil {
     }
 
     public static String getRawJava(final String className, final String modulePath) {
-        try {
-            String path = JAVA_SRC_PATH + className.replace(".", "/") + ".java";
-            if (!StringUtils.isEmpty(modulePath) && !new File("").getAbsolutePath().endsWith(modulePath)) {
-                path = modulePath + "/" + path;
-            }
-            final String javaCode = FileUtils.readFileToString(new File(path));
-            return javaCode.substring(javaCode.indexOf("public class "));
-        } catch (final IOException e) {
-            throw new RuntimeException("Unable to find the Java source code", e);
-        }
+        return getIndex(className, modulePath).getRawJava();
     }
 
     public static String getRawJavaSnippet(final Class<?> clazz, final String modulePath, final String marker, final String start, final String end) {
-        String javaCode = getRawJava(clazz.getName(), modulePath);
-        final int markerIndex = javaCode.indexOf(marker);
-        if (markerIndex < 0) {
-            throw new IllegalArgumentException("Cannot find java snippet for: " + clazz.getName() + " " + marker);
-        }
+        return getIndex(clazz.getName(), modulePath).getSnippet(marker, start, end);
+    }
 
-        javaCode = javaCode.substring(markerIndex);
-        javaCode = javaCode.substring(javaCode.indexOf(start) + start.length());
-        javaCode = javaCode.substring(0, javaCode.indexOf(end));
-        javaCode = StringUtils.stripEnd(javaCode, " " + NEW_LINE);
+    public static String getJavaSnippet(final Class<?> clazz, final String modulePath, final String tag) {
+        return getIndex(clazz.getName(), modulePath).getTagSnippet(tag);
+    }
 
-        // Remove indentation
-        final String trimmedJavaCode = javaCode.trim();
-        final int leadingSpaces = javaCode.indexOf(trimmedJavaCode);
-        if (leadingSpaces > 0) {
-            final String spacesRegex = NEW_LINE + StringUtils.repeat(" ", leadingSpaces);
-            javaCode = trimmedJavaCode.replace(spacesRegex, NEW_LINE);
-        }
+    public static String getMethodSnippet(final Class<?> clazz, final String modulePath, final String methodName) {
+        return getIndex(clazz.getName(), modulePath).getMethodSnippet(methodName);
+    }
 
-        return javaCode;
+    /**
+     * Gets the snippet index for a class. The source file is only read and
+     * parsed the first time the class is requested.
+     *
+     * @param className  the name of the class
+     * @param modulePath the optional path of the module containing the class
+     * @return the snippet index
+     */
+    public static JavaSourceIndex getIndex(final String className, final String modulePath) {
+        final String path = getPath(className, modulePath);
+        return INDEXES.computeIfAbsent(path, p -> {
+            try (final BuildProfile.Timer timer = BuildProfile.phase(BuildProfile.Phase.SNIPPET_EXTRACTION)) {
+                return new JavaSourceIndex(className, readRawJava(p));
+            }
+        });
     }
 
-    public static String getJavaSnippet(final Class<?> clazz, final String modulePath, final String tag) {
-        return getRawJavaSnippet(clazz, modulePath, "// [" + tag + "]", START_TAG_CODE_SNIPPET_MARKER, TAG_END_CODE_SNIPPET_MARKER);
+    private static String getPath(final String className, final String modulePath) {
+        String path = JAVA_SRC_PATH + className.replace(".", "/") + ".java";
+        if (!StringUtils.isEmpty(modulePath) && !new File("").getAbsolutePath().endsWith(modulePath)) {
+            path = modulePath + "/" + path;
+        }
+        return path;
+    }
+
+    private static String readRawJava(final String path) {
+        try {
+            final String javaCode = FileUtils.readFileToString(new File(path));
+            return javaCode.substring(javaCode.indexOf("public class "));
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to find the Java source code", e);
+        }
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JFR event types behind {@link DocEvents}. This class is only loaded
+ * when the events are enabled.
+ */
+final class JfrEvents {
+    private static final String CATEGORY = "Gaffer Docs";
+
+    private JfrEvents() {
+    }
+
+    static DocEvents.Span runner(final String runner) {
+        final RunnerEvent event = new RunnerEvent();
+        event.runner = runner;
+        event.begin();
+        return event::commit;
+    }
+
+    static DocEvents.Span example(final String example) {
+        final ExampleEvent event = new ExampleEvent();
+        event.example = example;
+        event.begin();
+        return event::commit;
+    }
+
+    static DocEvents.Span operation(final String example, final Class<?> operation) {
+        final OperationEvent event = new OperationEvent();
+        event.example = example;
+        event.operationClass = operation;
+        event.resultCount = DocEvents.UNKNOWN_RESULT_COUNT;
+        event.begin();
+        return new DocEvents.Span() {
+            @Override
+            public void setResult(final Object result) {
+                event.resultCount = DocEvents.countResults(result);
+            }
+
+            @Override
+            public void close() {
+                event.commit();
+            }
+        };
+    }
+
+    static DocEvents.Span pythonTranslation(final int objects) {
+        final PythonTranslationEvent event = new PythonTranslationEvent();
+        event.objects = objects;
+        event.begin();
+        return event::commit;
+    }
+
+    @Name("uk.gov.gchq.gaffer.doc.Runner")
+    @Label("Doc Runner")
+    @Category(CATEGORY)
+    @Description("A documentation runner generating its pages")
+    static class RunnerEvent extends Event {
+        @Label("Runner")
+        String runner;
+    }
+
+    @Name("uk.gov.gchq.gaffer.doc.Example")
+    @Label("Doc Example")
+    @Category(CATEGORY)
+    @Description("An example or walkthrough being run")
+    static class ExampleEvent extends Event {
+        @Label("Example")
+        String example;
+    }
+
+    @Name("uk.gov.gchq.gaffer.doc.Operation")
+    @Label("Example Operation")
+    @Category(CATEGORY)
+    @Description("A graph operation executed by an operation example")
+    static class OperationEvent extends Event {
+        @Label("Example")
+        String example;
+
+        @Label("Operation Class")
+        Class<?> operationClass;
+
+        @Label("Result Count")
+        @Description("The number of results, or -1 if the results are lazy and were not counted")
+        long resultCount;
+    }
+
+    @Name("uk.gov.gchq.gaffer.doc.PythonTranslation")
+    @Label("Python Translation")
+    @Category(CATEGORY)
+    @Description("Objects being translated into python")
+    static class PythonTranslationEvent extends Event {
+        @Label("Objects")
+        int objects;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * A documentation page that is written to a temporary file as it is
+ * generated, rather than being held in memory. Once all the python in the
+ * page has been deferred the page is streamed into its output file,
+ * replacing the python placeholders on the way.
+ */
+public final class PageSpool implements Closeable {
+    public static final String SPOOL_DIR = "target/doc-spool";
+
+    private final Path path;
+    private final BufferedWriter writer;
+    private boolean flushed = true;
+
+    public PageSpool() {
+        this.path = createSpoolFile("page-");
+        try {
+            this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to open page spool: " + path, e);
+        }
+    }
+
+    /**
+     * Creates a temporary file in the {@value #SPOOL_DIR} directory. The file
+     * is deleted when the JVM exits if it has not been deleted already.
+     *
+     * @param prefix the file name prefix
+     * @return the path of the file
+     */
+    public static Path createSpoolFile(final String prefix) {
+        try {
+            final Path dir = Files.createDirectories(Paths.get(SPOOL_DIR));
+            final Path file = Files.createTempFile(dir, prefix, ".tmp");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to create a spool file in: " + SPOOL_DIR, e);
+        }
+    }
+
+    public void append(final String text) {
+        try {
+            writer.write(text);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to write to page spool: " + path, e);
+        }
+        flushed = false;
+    }
+
+    /**
+     * Reads the whole page into memory, without resolving any python
+     * placeholders.
+     *
+     * @return the page contents
+     */
+    public String getContents() {
+        flush();
+        try {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to read page spool: " + path, e);
+        }
+    }
+
+    /**
+     * Streams the page into a file, one line at a time, resolving the python
+     * placeholders in each line.
+     *
+     * @param file        the output file
+     * @param pythonBatch the python batch the page placeholders were deferred to
+     */
+    public void writeTo(final File file, final PythonBatch pythonBatch) {
+        flush();
+        try {
+            final File parent = file.getAbsoluteFile().getParentFile();
+            if (null != parent) {
+                Files.createDirectories(parent.toPath());
+            }
+            try (final BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+                 final Writer output = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+                final StringBuilder line = new StringBuilder();
+                int c;
+                while (-1 != (c = reader.read())) {
+                    line.append((char) c);
+                    if ('\n' == c) {
+                        output.write(pythonBatch.resolve(line.toString()));
+                        line.setLength(0);
+                    }
+                }
+                output.write(pythonBatch.resolve(line.toString()));
+            }
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to write page: " + file.getPath(), e);
+        }
+    }
+
+    /**
+     * Closes and deletes the spool file.
+     */
+    @Override
+    public void close() {
+        try {
+            writer.close();
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to delete page spool: " + path, e);
+        }
+    }
+
+    private void flush() {
+        if (!flushed) {
+            try {
+                writer.flush();
+            } catch (final IOException e) {
+                throw new RuntimeException("Unable to write to page spool: " + path, e);
+            }
+            flushed = true;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Collects objects that need converting into python and hands out a
+ * placeholder for each one. The placeholders are replaced in
+ * {@link #resolve(String)}, at which point all pending objects are sent to
+ * the {@link PythonWorkerPool} in a single batch.
+ * <p>
+ * A batch is normally shared by all the examples in a runner so the python
+ * for a whole section of the documentation is converted in one go.
+ */
+public class PythonBatch {
+    private static final String PLACEHOLDER_PREFIX = "@@PYTHON_";
+    private static final String PLACEHOLDER_SUFFIX = "@@";
+    private static final AtomicInteger BATCH_IDS = new AtomicInteger();
+
+    private final String placeholderPrefix = PLACEHOLDER_PREFIX + BATCH_IDS.incrementAndGet() + "_";
+    private final List<Entry> entries = new ArrayList<>();
+    private final Function<List<Pair<String, String>>, List<Pair<String, String>>> translator;
+    private int translatedEntries;
+
+    public PythonBatch() {
+        this(requests -> PythonWorkerPool.getInstance().translateAll(requests));
+    }
+
+    /**
+     * @param translator converts a batch of json and class name pairs into
+     *                   python and error pairs, see {@link PythonWorkerPool#translateAll(List)}
+     */
+    PythonBatch(final Function<List<Pair<String, String>>, List<Pair<String, String>>> translator) {
+        this.translator = translator;
+    }
+
+    /**
+     * Defers the conversion of an object into python.
+     *
+     * @param object           the object to convert
+     * @param clazz            the optional class of the object
+     * @param skipPythonErrors if true errors will be replaced with an empty string.
+     *                         If null the {@value DocUtil#SKIP_PYTHON_PROPERTY} property is used.
+     * @param formatter        formats the python into the text that replaces the placeholder
+     * @return the placeholder
+     */
+    public String defer(final Object object, final Class<?> clazz, final Boolean skipPythonErrors, final Function<String, String> formatter) {
+        return deferJson(DocUtil.getRawJson(object), clazz, skipPythonErrors, formatter);
+    }
+
+    /**
+     * Defers the conversion of an object that has already been serialised
+     * into raw json.
+     *
+     * @param json             the raw json of the object, see {@link RenderedJson#getRawJson()}
+     * @param clazz            the optional class of the object
+     * @param skipPythonErrors if true errors will be replaced with an empty string.
+     *                         If null the {@value DocUtil#SKIP_PYTHON_PROPERTY} property is used.
+     * @param formatter        formats the python into the text that replaces the placeholder
+     * @return the placeholder
+     */
+    public synchronized String deferJson(final String json, final Class<?> clazz, final Boolean skipPythonErrors, final Function<String, String> formatter) {
+        final boolean skipPythonOnError = null != skipPythonErrors ? skipPythonErrors : Boolean.parseBoolean(System.getProperty(DocUtil.SKIP_PYTHON_PROPERTY));
+        entries.add(new Entry(json, null != clazz ? clazz.getName() : null, skipPythonOnError, formatter));
+        return placeholderPrefix + (entries.size() - 1) + PLACEHOLDER_SUFFIX;
+    }
+
+    public String defer(final Object object, final Class<?> clazz, final Boolean skipPythonErrors) {
+        return defer(object, clazz, skipPythonErrors, Function.identity());
+    }
+
+    /**
+     * Replaces the python placeholders in the text. Any objects that have not
+     * yet been converted are converted first, in a single batch.
+     *
+     * @param text the text containing placeholders
+     * @return the text with the placeholders replaced
+     * @throws RuntimeException if an object in the text could not be converted and errors are not being skipped
+     */
+    public String resolve(final String text) {
+        if (!text.contains(placeholderPrefix)) {
+            return text;
+        }
+
+        translatePending();
+
+        final StringBuilder resolved = new StringBuilder(text.length());
+        int position = 0;
+        int start = text.indexOf(placeholderPrefix);
+        while (start > -1) {
+            final int end = text.indexOf(PLACEHOLDER_SUFFIX, start + placeholderPrefix.length());
+            final int index = Integer.parseInt(text.substring(start + placeholderPrefix.length(), end));
+            resolved.append(text, position, start);
+            resolved.append(getEntry(index).getReplacement());
+            position = end + PLACEHOLDER_SUFFIX.length();
+            start = text.indexOf(placeholderPrefix, position);
+        }
+        resolved.append(text, position, text.length());
+        return resolved.toString();
+    }
+
+    private synchronized Entry getEntry(final int index) {
+        return entries.get(index);
+    }
+
+    private synchronized void translatePending() {
+        if (translatedEntries == entries.size()) {
+            return;
+        }
+
+        final List<Entry> pending = entries.subList(translatedEntries, entries.size());
+        final List<Pair<String, String>> requests = new ArrayList<>(pending.size());
+        for (final Entry entry : pending) {
+            requests.add(new Pair<>(entry.json, entry.className));
+        }
+
+        final List<Pair<String, String>> results;
+        try (final BuildProfile.Timer timer = BuildProfile.phase(BuildProfile.Phase.PYTHON_TRANSLATION);
+             final DocEvents.Span event = DocEvents.pythonTranslation(requests.size())) {
+            results = translator.apply(requests);
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            pending.get(i).setResult(results.get(i));
+        }
+        translatedEntries = entries.size();
+    }
+
+    private static final class Entry {
+        private final String json;
+        private final String className;
+        private final boolean skipPythonOnError;
+        private final Function<String, String> formatter;
+        private String python;
+        private String error;
+
+        private Entry(final String json, final String className, final boolean skipPythonOnError, final Function<String, String> formatter) {
+            this.json = json;
+            this.className = className;
+            this.skipPythonOnError = skipPythonOnError;
+            this.formatter = formatter;
+        }
+
+        private void setResult(final Pair<String, String> result) {
+            this.python = result.getFirst();
+            this.error = result.getSecond();
+        }
+
+        private String getReplacement() {
+            if (null != error) {
+                if (!skipPythonOnError) {
+                    throw new RuntimeException(error);
+                }
+                return formatter.apply("");
+            }
+            return formatter.apply(python);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * A persistent, content addressed cache of json to python conversions.
+ * <p>
+ * Entries are stored under {@value #CACHE_DIR}, keyed by a hash of the raw
+ * json, the optional class name and the python shell. The python shell is
+ * identified by its version, taken from the {@value #PYTHON_SHELL_VERSION_PROPERTY}
+ * property or the version marker written by downloadPythonShell.sh, and a
+ * hash of its python sources. The sources are hashed because a python shell
+ * copied from a local {@code python-shell.path} can change without its
+ * version changing. If the version cannot be found the cache is disabled.
+ * <p>
+ * The least recently used entries are evicted once the cache is larger than
+ * {@value #MAX_BYTES_PROPERTY} bytes.
+ */
+public final class PythonCache {
+    public static final String CACHE_DIR = "target/python-cache";
+    public static final String PYTHON_SHELL_VERSION_PROPERTY = "gaffer.doc.pythonShellVersion";
+    public static final String MAX_BYTES_PROPERTY = "gaffer.doc.pythonCache.maxBytes";
+    private static final String PYTHON_SHELL_DIR = "gaffer-python-shell";
+    private static final String PYTHON_SHELL_SRC_DIR = "src";
+    private static final long DEFAULT_MAX_BYTES = 50L * 1024L * 1024L;
+    private static final String ENTRY_SUFFIX = ".py";
+
+    private static PythonCache instance;
+
+    private final File cacheDir;
+    private final String pythonShellKey;
+    private final long maxBytes;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    PythonCache(final File cacheDir, final String pythonShellKey, final long maxBytes) {
+        this.cacheDir = cacheDir;
+        this.pythonShellKey = pythonShellKey;
+        this.maxBytes = maxBytes;
+    }
+
+    public static synchronized PythonCache getInstance() {
+        if (null == instance) {
+            final String maxBytes = System.getProperty(MAX_BYTES_PROPERTY);
+            instance = new PythonCache(
+                    new File(CACHE_DIR),
+                    readPythonShellKey(new File(PYTHON_SHELL_DIR)),
+                    null != maxBytes ? Long.parseLong(maxBytes) : DEFAULT_MAX_BYTES);
+        }
+        return instance;
+    }
+
+    /**
+     * @return the python shell version and a hash of its sources, or null if the version could not be found
+     */
+    public String getPythonShellKey() {
+        return pythonShellKey;
+    }
+
+    public boolean isEnabled() {
+        return null != pythonShellKey;
+    }
+
+    /**
+     * Gets the cached python for the json.
+     *
+     * @param json      the raw json
+     * @param className the optional class name
+     * @return the cached python, or null if the json has not been converted before
+     */
+    public String get(final String json, final String className) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        final Path entry = getEntry(json, className);
+        try {
+            final String python = new String(Files.readAllBytes(entry), StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            hits.incrementAndGet();
+            return python;
+        } catch (final IOException e) {
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    public void put(final String json, final String className, final String python) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        final Path entry = getEntry(json, className);
+        try {
+            Files.createDirectories(cacheDir.toPath());
+            final Path tmpEntry = Files.createTempFile(cacheDir.toPath(), entry.getFileName().toString(), ".tmp");
+            Files.write(tmpEntry, python.getBytes(StandardCharsets.UTF_8));
+            Files.move(tmpEntry, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            // The cache is only an optimisation so failing to write an entry is ignored
+        }
+    }
+
+    /**
+     * Removes the least recently used entries until the cache is no larger
+     * than the maximum size.
+     */
+    public void evict() {
+        final File[] files = cacheDir.listFiles((dir, name) -> name.endsWith(ENTRY_SUFFIX));
+        if (null == files) {
+            return;
+        }
+
+        final List<File> entries = new ArrayList<>(Arrays.asList(files));
+        long totalBytes = 0;
+        for (final File entry : entries) {
+            totalBytes += entry.length();
+        }
+
+        entries.sort(Comparator.comparingLong(File::lastModified));
+        for (final File entry : entries) {
+            if (totalBytes <= maxBytes) {
+                break;
+            }
+            totalBytes -= entry.length();
+            if (!entry.delete()) {
+                totalBytes += entry.length();
+            }
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public String getReport() {
+        if (!isEnabled()) {
+            return "Python cache disabled - the python shell version could not be found";
+        }
+
+        final long total = hits.get() + misses.get();
+        final long hitRate = 0 == total ? 0 : (100 * hits.get()) / total;
+        return "Python cache: " + hits.get() + " hits, " + misses.get() + " misses (" + hitRate + "% hit rate)";
+    }
+
+    private Path getEntry(final String json, final String className) {
+        return new File(cacheDir, hash(json, className) + ENTRY_SUFFIX).toPath();
+    }
+
+    private String hash(final String json, final String className) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+        digest.update(pythonShellKey.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update((null != className ? className : "").getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(json.getBytes(StandardCharsets.UTF_8));
+
+        return toHex(digest.digest());
+    }
+
+    static String readPythonShellKey(final File pythonShellDir) {
+        final String version = getPythonShellVersion(pythonShellDir);
+        if (null == version) {
+            return null;
+        }
+        return version + "-" + hashPythonSources(new File(pythonShellDir, PYTHON_SHELL_SRC_DIR).toPath());
+    }
+
+    private static String hashPythonSources(final Path srcDir) {
+        if (!Files.isDirectory(srcDir)) {
+            return "";
+        }
+
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+        try (final Stream<Path> files = Files.walk(srcDir)) {
+            for (final Path file : (Iterable<Path>) files
+                    .filter(path -> Files.isRegularFile(path) && path.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                    .sorted()::iterator) {
+                digest.update(srcDir.relativize(file).toString().replace(File.separatorChar, '/').getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(Files.readAllBytes(file));
+                digest.update((byte) 0);
+            }
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to read the python shell sources: " + srcDir, e);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static String getPythonShellVersion(final File pythonShellDir) {
+        final String version = System.getProperty(PYTHON_SHELL_VERSION_PROPERTY);
+        if (null != version && !version.trim().isEmpty()) {
+            return version.trim();
+        }
+
+        // downloadPythonShell.sh adds an empty file named after the version
+        final String[] markers = pythonShellDir.list((dir, name) -> name.matches("\\d+\\.\\d+.*"));
+        if (null != markers && 1 == markers.length) {
+            return markers[0];
+        }
+        return null;
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.io.IOUtils;
+
+import uk.gov.gchq.gaffer.commonutil.CommonConstants;
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A pool of long lived python3 processes that convert json into the python
+ * shell syntax. Each worker wraps {@code gaffer-python-shell/src/fromJson.py}
+ * and reads newline delimited json requests on stdin, so the python
+ * interpreter and the python shell are only loaded once per worker rather
+ * than once per conversion.
+ * <p>
+ * The pool is sized to the number of available processors, this can be
+ * overridden with the {@value #WORKERS_PROPERTY} system property. Workers are
+ * started lazily and are replaced if they crash. A worker that does not
+ * respond within {@value #DEFAULT_TIMEOUT_SECONDS} seconds, or the number of
+ * seconds in the {@value #TIMEOUT_PROPERTY} system property, is stopped and
+ * the request fails.
+ */
+public final class PythonWorkerPool {
+    public static final String WORKERS_PROPERTY = "gaffer.doc.pythonWorkers";
+    public static final String TIMEOUT_PROPERTY = "gaffer.doc.pythonTimeout";
+    public static final int DEFAULT_TIMEOUT_SECONDS = 120;
+    public static final String FROM_JSON_PATH = "gaffer-python-shell/src/fromJson.py";
+    private static final String WORKER_SCRIPT_PATH = "python/fromJsonWorker.py";
+    private static final String JSON_KEY = "json";
+    private static final String CLASS_NAME_KEY = "className";
+    private static final String PYTHON_KEY = "python";
+    private static final String ERROR_KEY = "error";
+    private static final String REQUESTS_KEY = "requests";
+    private static final String RESPONSES_KEY = "responses";
+    private static final long ACQUIRE_POLL_MILLIS = 100L;
+
+    private static PythonWorkerPool instance;
+
+    private final int size;
+    private final long timeoutSeconds;
+    private final String workerScript;
+    private final BlockingQueue<Worker> idleWorkers = new LinkedBlockingQueue<>();
+    private final List<Worker> allWorkers = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor;
+    private final PythonCache cache = PythonCache.getInstance();
+    private int startedWorkers;
+
+    private PythonWorkerPool(final int size) {
+        this.size = size;
+        this.timeoutSeconds = getTimeoutSeconds();
+        this.workerScript = loadWorkerScript();
+        this.executor = Executors.newFixedThreadPool(size, createDaemonThreadFactory("python-worker-client"));
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+    }
+
+    public static synchronized PythonWorkerPool getInstance() {
+        if (null == instance) {
+            instance = new PythonWorkerPool(getPoolSize());
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the workers, so the next call to {@link #getInstance()} starts
+     * new workers with the current worker script.
+     */
+    public static synchronized void reset() {
+        if (null != instance) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Converts the json into python.
+     *
+     * @param json      the raw json to convert
+     * @param className the optional class name of the json object
+     * @return the python code
+     * @throws RuntimeException if python could not be run or the json could not be converted
+     */
+    public String translate(final String json, final String className) {
+        final String cachedPython = cache.get(json, className);
+        if (null != cachedPython) {
+            return cachedPython;
+        }
+
+        final Pair<String, String> result = toResult(execute(createRequest(json, className)), json);
+        if (null != result.getSecond()) {
+            throw new RuntimeException(result.getSecond());
+        }
+        cache.put(json, className, result.getFirst());
+        return result.getFirst();
+    }
+
+    /**
+     * Converts a batch of json objects into python. Objects found in the
+     * {@link PythonCache} are not sent to python, the rest of the batch is split
+     * between the workers in the pool. Errors are isolated to the object that
+     * caused them, so one invalid object does not fail the rest of the batch.
+     *
+     * @param requests pairs of raw json and optional class name
+     * @return pairs of python and error message, in the same order as the requests.
+     * Exactly one of the python or the error message will be set.
+     */
+    public List<Pair<String, String>> translateAll(final List<Pair<String, String>> requests) {
+        final List<Pair<String, String>> results = new ArrayList<>(requests.size());
+        final List<Integer> missIndexes = new ArrayList<>();
+        final List<Pair<String, String>> misses = new ArrayList<>();
+        for (final Pair<String, String> request : requests) {
+            final String cachedPython = cache.get(request.getFirst(), request.getSecond());
+            if (null == cachedPython) {
+                missIndexes.add(results.size());
+                misses.add(request);
+            }
+            results.add(null == cachedPython ? null : new Pair<>(cachedPython, null));
+        }
+
+        final List<Pair<String, String>> missResults = translateAllOnWorkers(misses);
+        for (int i = 0; i < misses.size(); i++) {
+            final Pair<String, String> result = missResults.get(i);
+            if (null == result.getSecond()) {
+                cache.put(misses.get(i).getFirst(), misses.get(i).getSecond(), result.getFirst());
+            }
+            results.set(missIndexes.get(i), result);
+        }
+        return results;
+    }
+
+    public void close() {
+        executor.shutdownNow();
+        for (final Worker worker : allWorkers) {
+            worker.destroy();
+        }
+        allWorkers.clear();
+        idleWorkers.clear();
+        synchronized (this) {
+            startedWorkers = 0;
+        }
+    }
+
+    private List<Pair<String, String>> translateAllOnWorkers(final List<Pair<String, String>> requests) {
+        if (requests.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final int chunkSize = (requests.size() + size - 1) / size;
+        final List<CompletableFuture<List<Pair<String, String>>>> futures = new ArrayList<>();
+        for (int start = 0; start < requests.size(); start += chunkSize) {
+            final List<Pair<String, String>> chunk = requests.subList(start, Math.min(start + chunkSize, requests.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> translateChunk(chunk), executor));
+        }
+
+        final List<Pair<String, String>> results = new ArrayList<>(requests.size());
+        for (final CompletableFuture<List<Pair<String, String>>> future : futures) {
+            results.addAll(future.join());
+        }
+        return results;
+    }
+
+    private List<Pair<String, String>> translateChunk(final List<Pair<String, String>> chunk) {
+        final List<Map<String, String>> requests = new ArrayList<>(chunk.size());
+        for (final Pair<String, String> request : chunk) {
+            requests.add(createRequestMap(request.getFirst(), request.getSecond()));
+        }
+        final Map<String, Object> batchRequest = new HashMap<>();
+        batchRequest.put(REQUESTS_KEY, requests);
+
+        final List<Pair<String, String>> results = new ArrayList<>(chunk.size());
+        final Object responses;
+        try {
+            responses = execute(toJson(batchRequest)).get(RESPONSES_KEY);
+        } catch (final RuntimeException e) {
+            // The batch could not be completed, so convert each object on its own to isolate the failure
+            for (final Pair<String, String> request : chunk) {
+                try {
+                    results.add(toResult(execute(createRequest(request.getFirst(), request.getSecond())), request.getFirst()));
+                } catch (final RuntimeException requestError) {
+                    results.add(new Pair<>(null, requestError.getMessage()));
+                }
+            }
+            return results;
+        }
+
+        if (!(responses instanceof List) || ((List) responses).size() != chunk.size()) {
+            throw new RuntimeException("Unexpected batch response from python: " + responses);
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            results.add(toResult((Map<String, Object>) ((List) responses).get(i), chunk.get(i).getFirst()));
+        }
+        return results;
+    }
+
+    private Map<String, Object> execute(final String request) {
+        try {
+            return executeOnWorker(request);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Python failed to complete", e);
+        }
+    }
+
+    private Map<String, Object> executeOnWorker(final String request) throws InterruptedException {
+        IOException lastError = null;
+
+        // If a worker crashes it is replaced and the request is retried once on the new worker
+        for (int attempt = 0; attempt < 2; attempt++) {
+            final Worker worker;
+            try {
+                worker = acquire();
+            } catch (final IOException e) {
+                throw new RuntimeException("Unable to run python3", e);
+            }
+
+            final String responseLine;
+            try {
+                responseLine = worker.send(request, timeoutSeconds);
+            } catch (final IOException e) {
+                lastError = e;
+                discard(worker);
+                continue;
+            } catch (final TimeoutException e) {
+                // A hung worker is not retried, the same request would most likely hang again
+                discard(worker);
+                throw new RuntimeException("Python did not respond within " + timeoutSeconds + " seconds", e);
+            } catch (final InterruptedException e) {
+                // The response may still arrive, so the worker cannot be reused
+                discard(worker);
+                throw e;
+            }
+            idleWorkers.add(worker);
+            return parseResponse(responseLine);
+        }
+
+        throw new RuntimeException("Unable to read result from python", lastError);
+    }
+
+    private Worker acquire() throws IOException, InterruptedException {
+        Worker idleWorker = idleWorkers.poll();
+        while (null == idleWorker) {
+            // A discarded worker frees a slot without adding an idle worker, so the slots are checked again after each wait
+            synchronized (this) {
+                if (startedWorkers < size) {
+                    final Worker worker = new Worker(workerScript);
+                    startedWorkers++;
+                    allWorkers.add(worker);
+                    return worker;
+                }
+            }
+            idleWorker = idleWorkers.poll(ACQUIRE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return idleWorker;
+    }
+
+    private void discard(final Worker worker) {
+        worker.destroy();
+        allWorkers.remove(worker);
+        synchronized (this) {
+            startedWorkers--;
+        }
+    }
+
+    private static Pair<String, String> toResult(final Map<String, Object> response, final String json) {
+        final Object error = response.get(ERROR_KEY);
+        if (null != error) {
+            return new Pair<>(null, "Error in python: " + error + "\nUnable to convert json: " + json);
+        }
+
+        final Object python = response.get(PYTHON_KEY);
+        return new Pair<>(null == python ? "" : python.toString(), null);
+    }
+
+    private static String createRequest(final String json, final String className) {
+        return toJson(createRequestMap(json, className));
+    }
+
+    private static Map<String, String> createRequestMap(final String json, final String className) {
+        final Map<String, String> request = new HashMap<>();
+        request.put(JSON_KEY, json);
+        if (null != className) {
+            request.put(CLASS_NAME_KEY, className);
+        }
+        return request;
+    }
+
+    private static String toJson(final Object request) {
+        try {
+            return new String(JSONSerialiser.serialise(request), StandardCharsets.UTF_8);
+        } catch (final SerialisationException e) {
+            throw new RuntimeException("Unable to create python request", e);
+        }
+    }
+
+    private static Map<String, Object> parseResponse(final String responseLine) {
+        try {
+            return JSONSerialiser.deserialise(responseLine.getBytes(StandardCharsets.UTF_8), Map.class);
+        } catch (final SerialisationException e) {
+            throw new RuntimeException("Unable to read result from python: " + responseLine, e);
+        }
+    }
+
+    private static int getPoolSize() {
+        final String sizeStr = System.getProperty(WORKERS_PROPERTY);
+        if (null != sizeStr) {
+            return Math.max(1, Integer.parseInt(sizeStr));
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private static long getTimeoutSeconds() {
+        final String timeoutStr = System.getProperty(TIMEOUT_PROPERTY);
+        if (null != timeoutStr) {
+            return Math.max(1, Long.parseLong(timeoutStr));
+        }
+        return DEFAULT_TIMEOUT_SECONDS;
+    }
+
+    private static ThreadFactory createDaemonThreadFactory(final String name) {
+        return r -> {
+            final Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static String loadWorkerScript() {
+        try (final InputStream stream = StreamUtil.openStream(PythonWorkerPool.class, WORKER_SCRIPT_PATH)) {
+            return new String(IOUtils.toByteArray(stream), CommonConstants.UTF_8);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to load python worker script", e);
+        }
+    }
+
+    private static final class Worker {
+        private final Process process;
+        private final BufferedWriter input;
+        private final BufferedReader output;
+        private final ExecutorService reader = Executors.newSingleThreadExecutor(createDaemonThreadFactory("python-worker-reader"));
+
+        private Worker(final String workerScript) throws IOException {
+            final ProcessBuilder pb = new ProcessBuilder("python3", "-u", "-c", workerScript, FROM_JSON_PATH);
+            pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+            this.process = pb.start();
+            this.input = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+            this.output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        private String send(final String request, final long timeoutSeconds) throws IOException, TimeoutException, InterruptedException {
+            if (!process.isAlive()) {
+                throw new IOException("Python worker is no longer running");
+            }
+            input.write(request);
+            input.write('\n');
+            input.flush();
+
+            // The response is read on another thread so a hung python process cannot block the build
+            final Future<String> responseFuture = reader.submit(output::readLine);
+            final String response;
+            try {
+                response = responseFuture.get(timeoutSeconds, TimeUnit.SECONDS);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException("Unable to read result from python", e.getCause());
+            }
+            if (null == response) {
+                throw new IOException("Python worker exited with code " + exitValue());
+            }
+            return response;
+        }
+
+        private String exitValue() {
+            try {
+                return String.valueOf(process.waitFor());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "unknown";
+            }
+        }
+
+        private void destroy() {
+            process.destroyForcibly();
+            reader.shutdownNow();
+            IOUtils.closeQuietly(input);
+            IOUtils.closeQuietly(output);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+/**
+ * The json representations of an object used in the documentation, created
+ * by {@link DocUtil#renderJson(Object)}.
+ */
+public final class RenderedJson {
+    private final String json;
+    private final String fullJson;
+    private final String rawJson;
+
+    RenderedJson(final String json, final String fullJson, final String rawJson) {
+        this.json = json;
+        this.fullJson = fullJson;
+        this.rawJson = rawJson;
+    }
+
+    /**
+     * @return pretty printed json using simple class names
+     */
+    public String getJson() {
+        return json;
+    }
+
+    /**
+     * @return pretty printed json using full class names
+     */
+    public String getFullJson() {
+        return fullJson;
+    }
+
+    /**
+     * @return compact json using full class names, as sent to the python shell
+     */
+    public String getRawJson() {
+        return rawJson;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The rows of an operation result that are shown in the docs. At most
+ * {@value #MAX_ROWS_PROPERTY} rows are kept, either the first rows or, when
+ * {@value #SAMPLING_PROPERTY} is {@value #RESERVOIR_SAMPLING}, a reservoir
+ * sample of all of the rows in their original order. The rest of the rows
+ * are only counted, so a large result is never held in memory.
+ * <p>
+ * The reservoir sample uses a fixed seed so the pages do not change between
+ * builds of the same data.
+ */
+public final class ResultSample<T> {
+    public static final String MAX_ROWS_PROPERTY = "gaffer.doc.result.maxRows";
+    public static final String SAMPLING_PROPERTY = "gaffer.doc.result.sampling";
+    public static final String FIRST_SAMPLING = "first";
+    public static final String RESERVOIR_SAMPLING = "reservoir";
+    public static final int DEFAULT_MAX_ROWS = 100;
+    public static final long SEED = 0L;
+
+    private final List<T> rows;
+    private final long totalRows;
+
+    private ResultSample(final List<T> rows, final long totalRows) {
+        this.rows = Collections.unmodifiableList(rows);
+        this.totalRows = totalRows;
+    }
+
+    public static int getMaxRows() {
+        return Math.max(1, Integer.getInteger(MAX_ROWS_PROPERTY, DEFAULT_MAX_ROWS));
+    }
+
+    public static boolean isReservoirSampling() {
+        return RESERVOIR_SAMPLING.equalsIgnoreCase(System.getProperty(SAMPLING_PROPERTY, FIRST_SAMPLING));
+    }
+
+    public static <T> ResultSample<T> of(final Iterable<? extends T> iterable) {
+        return of(iterable.iterator());
+    }
+
+    /**
+     * Samples the rows of an iterator, reading it to the end so the rows
+     * that are left out can be counted. The iterator is closed if it is
+     * {@link Closeable}.
+     *
+     * @param iterator the rows
+     * @param <T>      the type of the rows
+     * @return the sample
+     */
+    public static <T> ResultSample<T> of(final Iterator<? extends T> iterator) {
+        final int maxRows = getMaxRows();
+        try {
+            return isReservoirSampling() ? reservoirSample(iterator, maxRows) : firstRows(iterator, maxRows);
+        } finally {
+            if (iterator instanceof Closeable) {
+                IOUtils.closeQuietly((Closeable) iterator);
+            }
+        }
+    }
+
+    /**
+     * Creates a sample from rows that have already been taken from a larger
+     * result, such as a spark RDD.
+     *
+     * @param rows      the rows that are shown
+     * @param totalRows the number of rows in the full result
+     * @param <T>       the type of the rows
+     * @return the sample
+     */
+    public static <T> ResultSample<T> of(final List<T> rows, final long totalRows) {
+        return new ResultSample<>(rows, Math.max(rows.size(), totalRows));
+    }
+
+    public List<T> getRows() {
+        return rows;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public boolean isTruncated() {
+        return totalRows > rows.size();
+    }
+
+    /**
+     * @return a line saying how many rows were left out, or null if none were
+     */
+    public String getFooter() {
+        if (!isTruncated()) {
+            return null;
+        }
+        final long omitted = totalRows - rows.size();
+        final String footer = "... " + omitted + " more row" + (1 == omitted ? "" : "s");
+        return isReservoirSampling() ? footer + " (a random sample of " + rows.size() + " of " + totalRows + " rows is shown)" : footer;
+    }
+
+    private static <T> ResultSample<T> firstRows(final Iterator<? extends T> iterator, final int maxRows) {
+        final List<T> rows = new ArrayList<>();
+        long totalRows = 0;
+        while (iterator.hasNext()) {
+            final T row = iterator.next();
+            if (rows.size() < maxRows) {
+                rows.add(row);
+            }
+            totalRows++;
+        }
+        return new ResultSample<>(rows, totalRows);
+    }
+
+    private static <T> ResultSample<T> reservoirSample(final Iterator<? extends T> iterator, final int maxRows) {
+        // The row positions are kept with the rows so the sample can be put back in the original order
+        final List<T> reservoir = new ArrayList<>();
+        final List<Long> positions = new ArrayList<>();
+        final Random random = new Random(SEED);
+        long totalRows = 0;
+        while (iterator.hasNext()) {
+            final T row = iterator.next();
+            if (reservoir.size() < maxRows) {
+                reservoir.add(row);
+                positions.add(totalRows);
+            } else {
+                final long replace = (long) (random.nextDouble() * (totalRows + 1));
+                if (replace < maxRows) {
+                    reservoir.set((int) replace, row);
+                    positions.set((int) replace, totalRows);
+                }
+            }
+            totalRows++;
+        }
+
+        final List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < reservoir.size(); i++) {
+            order.add(i);
+        }
+        order.sort((a, b) -> Long.compare(positions.get(a), positions.get(b)));
+        final List<T> rows = new ArrayList<>(reservoir.size());
+        for (final Integer index : order) {
+            rows.add(reservoir.get(index));
+        }
+        return new ResultSample<>(rows, totalRows);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.util;
+
+import uk.gov.gchq.gaffer.commonutil.CommonConstants;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records how long the JVM took to start generating the first page, for the
+ * {@link uk.gov.gchq.gaffer.doc.DocsLauncher}. It does nothing unless the
+ * {@value #STARTUP_FILE_PROPERTY} system property is set, which the launcher
+ * sets on the JVMs it starts.
+ */
+public final class StartupTimer {
+    public static final String STARTUP_FILE_PROPERTY = "gaffer.doc.startupFile";
+    public static final String BASELINE_PROPERTY = "gaffer.doc.startupBaseline";
+
+    private static final AtomicBoolean RECORDED = new AtomicBoolean();
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Records the JVM uptime the first time a generator starts. Only the
+     * first time is kept, including across the class loaders used by watch
+     * mode, so the time is not overwritten by later builds.
+     */
+    public static void record() {
+        final String startupFile = System.getProperty(STARTUP_FILE_PROPERTY);
+        if (null == startupFile || RECORDED.getAndSet(true)) {
+            return;
+        }
+
+        final long startupMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        try {
+            Files.write(Paths.get(startupFile), Long.toString(startupMillis).getBytes(CommonConstants.UTF_8), StandardOpenOption.CREATE_NEW);
+        } catch (final FileAlreadyExistsException e) {
+            return;
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to record the startup time: " + startupFile, e);
+        }
+
+        final Long baselineMillis = Long.getLong(BASELINE_PROPERTY);
+        if (null == baselineMillis) {
+            System.out.println("Started in " + startupMillis + " ms");
+        } else {
+            System.out.println("Started in " + startupMillis + " ms using the class data archive, "
+                    + (baselineMillis - startupMillis) + " ms faster than the " + baselineMillis + " ms training run");
+        }
+    }
+}
@@ -17,6 +17,7 @@ package uk.gov.gchq.gaffer.doc.walkthrough;
 
 import com.google.common.collect.Sets;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import uk.gov.gchq.gaffer.accumulostore.AccumuloProperties;
 import uk.gov.gchq.gaffer.accumulostore.SingleUseMockAccumuloStore;
@@ -27,6 +28,8 @@ import uk.gov.gchq.gaffer.commonutil.CommonConstants;
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
 import uk.gov.gchq.gaffer.data.generator.ElementGenerator;
 import uk.gov.gchq.gaffer.doc.util.DocUtil;
+import uk.gov.gchq.gaffer.doc.util.PythonBatch;
+import uk.gov.gchq.gaffer.doc.util.RenderedJson;
 import uk.gov.gchq.gaffer.federatedstore.FederatedStoreProperties;
 import uk.gov.gchq.gaffer.graph.GraphConfig;
 import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
@@ -36,8 +39,10 @@ import uk.gov.gchq.gaffer.store.StoreProperties;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 public abstract class AbstractWalkthrough {
     protected static final String DESCRIPTION_LOG_KEY = "description";
@@ -48,17 +53,21 @@ public abstract class AbstractWalkthrough {
     protected final String storePropertiesPath;
     protected final String graphConfigPath;
 
-    private final Map<String, StringBuilder> logCache = new HashMap<>();
     private final String exampleId;
     private final String header;
+    private final String resourcePrefix;
 
     protected boolean cacheLogs;
+    private WalkthroughLogs logs;
+    private PythonBatch pythonBatch = new PythonBatch();
+    private boolean sharedPythonBatch;
 
     public AbstractWalkthrough(final String header,
                                final String resourcePrefix,
                                final Class<? extends ElementGenerator> generatorClass,
                                final String walkthroughId) {
         this.header = header;
+        this.resourcePrefix = resourcePrefix;
         this.dataPath = resourcePrefix + "/data.txt";
         this.schemaPath = resourcePrefix + "/schema";
         this.storePropertiesPath = resourcePrefix + "/store.properties";
@@ -123,28 +132,38 @@ public abstract class AbstractWalkthrough {
         return walkthroughId;
     }
 
+    /**
+     * Gets the resources the walkthrough uses, other than those of its
+     * runner, so the walkthrough is regenerated when they change.
+     *
+     * @return the resource files and folders, relative to the resources folder
+     */
+    public List<String> getResourcePaths() {
+        return StringUtils.isEmpty(resourcePrefix) ? Collections.emptyList() : Collections.singletonList(resourcePrefix);
+    }
+
     public void print(final String message) {
         print(DESCRIPTION_LOG_KEY, message);
     }
 
     public void print(final String key, final String message) {
         if (cacheLogs) {
-            StringBuilder logs = logCache.get(key);
             if (null == logs) {
-                logs = new StringBuilder();
-                logCache.put(key, logs);
-            } else {
-                logs.append("\n");
+                logs = new WalkthroughLogs();
             }
-            logs.append(message);
+            logs.append(key, message);
         } else {
             System.out.println(message);
         }
     }
 
     public void printJson(final String key, final Object obj) {
-        print(key + "_JSON", DocUtil.getJson(obj));
-        print(key + "_FULL_JSON", DocUtil.getFullJson(obj));
+        printJson(key, DocUtil.renderJson(obj));
+    }
+
+    private void printJson(final String key, final RenderedJson json) {
+        print(key + "_JSON", json.getJson());
+        print(key + "_FULL_JSON", json.getFullJson());
     }
 
     public void printJsonAndPython(final String key, final Object obj) {
@@ -152,8 +171,9 @@ public abstract class AbstractWalkthrough {
     }
 
     public void printJsonAndPython(final String key, final Object obj, final Boolean skipPythonErrors) {
-        printJson(key, obj);
-        print(key + "_PYTHON", DocUtil.getPython(obj, skipPythonErrors));
+        final RenderedJson json = DocUtil.renderJson(obj);
+        printJson(key, json);
+        printPython(key, json, null, skipPythonErrors);
     }
 
     public void printJsonAndPythonWithClass(final String key, final Object obj) {
@@ -161,12 +181,48 @@ public abstract class AbstractWalkthrough {
     }
 
     public void printJsonAndPythonWithClass(final String key, final Object obj, final Boolean skipPythonErrors) {
-        printJson(key, obj);
-        print(key + "_PYTHON", DocUtil.getPython(obj, obj.getClass(), skipPythonErrors));
+        final RenderedJson json = DocUtil.renderJson(obj);
+        printJson(key, json);
+        printPython(key, json, obj.getClass(), skipPythonErrors);
     }
 
-    public Map<String, StringBuilder> getLogCache() {
-        return logCache;
+    private void printPython(final String key, final RenderedJson json, final Class<?> clazz, final Boolean skipPythonErrors) {
+        if (cacheLogs) {
+            print(key + "_PYTHON", pythonBatch.deferJson(json.getRawJson(), clazz, skipPythonErrors, Function.identity()));
+        } else {
+            print(key + "_PYTHON", DocUtil.getPythonFromJson(json.getRawJson(), clazz, skipPythonErrors));
+        }
+    }
+
+    /**
+     * Sets a python batch that is shared with other walkthroughs. The python
+     * placeholders in the output of {@link #walkthrough()} are then left for
+     * the owner of the batch to resolve.
+     *
+     * @param pythonBatch the shared python batch
+     */
+    public void setPythonBatch(final PythonBatch pythonBatch) {
+        this.pythonBatch = pythonBatch;
+        this.sharedPythonBatch = true;
+    }
+
+    /**
+     * @return the keys of the logs cached while running the walkthrough
+     */
+    public Set<String> getLogKeys() {
+        return null == logs ? Collections.emptySet() : logs.getKeys();
+    }
+
+    /**
+     * Gets the messages cached for a log key while running the walkthrough.
+     * The messages are read back from a temporary file, so the log is only
+     * held in memory by the caller.
+     *
+     * @param key the log key
+     * @return the messages separated by new lines, or null if nothing was cached for the key
+     */
+    public String getLog(final String key) {
+        return null == logs ? null : logs.get(key);
     }
 
     public String walkthrough() throws OperationException {
@@ -180,10 +236,18 @@ public abstract class AbstractWalkthrough {
         } catch (final IOException e) {
             throw new RuntimeException(e);
         }
-        final String formattedWalkthrough = substituteParameters(walkthrough);
-        cacheLogs = false;
+        final String formattedWalkthrough;
+        try {
+            formattedWalkthrough = substituteParameters(walkthrough);
+        } finally {
+            cacheLogs = false;
+            if (null != logs) {
+                logs.close();
+                logs = null;
+            }
+        }
 
-        return formattedWalkthrough;
+        return sharedPythonBatch ? formattedWalkthrough : pythonBatch.resolve(formattedWalkthrough);
     }
 
     public String getHeader() {
@@ -21,12 +21,22 @@ import org.apache.commons.io.IOUtils;
 import uk.gov.gchq.gaffer.commonutil.CommonConstants;
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
 import uk.gov.gchq.gaffer.doc.DocGenerator;
+import uk.gov.gchq.gaffer.doc.util.BuildProfile;
+import uk.gov.gchq.gaffer.doc.util.DocEvents;
+import uk.gov.gchq.gaffer.doc.util.DocFilter;
+import uk.gov.gchq.gaffer.doc.util.DocManifest;
 import uk.gov.gchq.gaffer.doc.util.DocUtil;
+import uk.gov.gchq.gaffer.doc.util.PageSpool;
+import uk.gov.gchq.gaffer.doc.util.PythonBatch;
+import uk.gov.gchq.gaffer.doc.util.StartupTimer;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static uk.gov.gchq.gaffer.doc.util.DocUtil.toFolderName;
 import static uk.gov.gchq.gaffer.doc.util.DocUtil.toMdFileName;
@@ -46,8 +56,17 @@ public class AbstractWalkthroughRunner implements DocGenerator {
         this.outputPath = toFolderName(GETTING_STARTED_FOLDER) + toFolderName(title);
     }
 
+    @Override
+    public boolean isIncluded() {
+        return DocFilter.getInstance().includesRunner(title);
+    }
+
     @Override
     public void generate() {
+        if (!isIncluded()) {
+            return;
+        }
+        StartupTimer.record();
         try {
             _generate();
         } catch (final Exception e) {
@@ -65,12 +84,82 @@ public class AbstractWalkthroughRunner implements DocGenerator {
                 getIntro()
         );
 
+        final PythonBatch pythonBatch = new PythonBatch();
+        final Map<File, AbstractWalkthrough> walkthroughs = new LinkedHashMap<>();
         for (final AbstractWalkthrough example : examples) {
-            DocUtil.clearCache();
-            FileUtils.writeStringToFile(
-                    new File(outputPath + toMdFileName(example.getHeader())),
-                    example.walkthrough());
+            walkthroughs.put(new File(outputPath + toMdFileName(example.getHeader())), example);
+        }
+        generateWalkthroughs(walkthroughs, pythonBatch);
+    }
+
+    /**
+     * Runs the walkthroughs whose inputs have changed since the last build,
+     * resolves the python placeholders in a single batch and then writes the
+     * walkthroughs to file.
+     *
+     * @param walkthroughs the walkthrough for each output file
+     * @param pythonBatch  the python batch shared by the walkthroughs
+     * @throws Exception if a walkthrough could not be generated or written
+     */
+    protected void generateWalkthroughs(final Map<File, AbstractWalkthrough> walkthroughs, final PythonBatch pythonBatch) throws Exception {
+        final DocManifest manifest = DocManifest.getInstance();
+        final DocFilter filter = DocFilter.getInstance();
+        // The walkthroughs are spooled to disk until their python can be resolved, so only one is held in memory at a time
+        final Map<File, PageSpool> outputs = new LinkedHashMap<>();
+        try {
+            for (final Map.Entry<File, AbstractWalkthrough> entry : walkthroughs.entrySet()) {
+                final AbstractWalkthrough example = entry.getValue();
+                if (filter.includesExample(title, example.getClass().getSimpleName())
+                        && !manifest.isUpToDate(entry.getKey(), example.getClass(), getResourcePaths(example))) {
+                    // Clear the caches so the output is not dependent on what's been run before
+                    DocUtil.clearCache();
+                    example.setPythonBatch(pythonBatch);
+                    final PageSpool output = new PageSpool();
+                    outputs.put(entry.getKey(), output);
+                    try (final BuildProfile.Timer timer = BuildProfile.subject(example.getClass().getSimpleName());
+                         final DocEvents.Span event = DocEvents.example(example.getClass().getSimpleName())) {
+                        output.append(example.walkthrough());
+                    }
+                }
+            }
+
+            for (final Map.Entry<File, PageSpool> entry : outputs.entrySet()) {
+                try (final BuildProfile.Timer timer = BuildProfile.subject(walkthroughs.get(entry.getKey()).getClass().getSimpleName());
+                     final BuildProfile.Timer write = BuildProfile.phase(BuildProfile.Phase.FILE_WRITE)) {
+                    entry.getValue().writeTo(entry.getKey(), pythonBatch);
+                }
+                final AbstractWalkthrough example = walkthroughs.get(entry.getKey());
+                manifest.update(entry.getKey(), example.getClass(), getResourcePaths(example));
+            }
+        } finally {
+            for (final PageSpool output : outputs.values()) {
+                output.close();
+            }
+        }
+    }
+
+    private List<String> getResourcePaths(final AbstractWalkthrough example) {
+        final List<String> resourcePaths = new ArrayList<>(example.getResourcePaths());
+        resourcePaths.add(resourcePrefix);
+        return resourcePaths;
+    }
+
+    @Override
+    public boolean isAffectedBy(final String sourcePath) {
+        if (sourcePath.startsWith(resourcePrefix + "/walkthrough/")) {
+            return true;
+        }
+        if (sourcePath.equals(getClass().getName().replace('.', '/') + ".java")) {
+            return true;
+        }
+        if (null != examples) {
+            for (final AbstractWalkthrough example : examples) {
+                if (sourcePath.equals(example.getClass().getName().replace('.', '/') + ".java")) {
+                    return true;
+                }
+            }
         }
+        return false;
     }
 
     protected String getIntro() {
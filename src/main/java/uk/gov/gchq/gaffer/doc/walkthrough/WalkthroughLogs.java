@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.walkthrough;
+
+import uk.gov.gchq.gaffer.doc.util.PageSpool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The logged output of a walkthrough, grouped by log key. The messages are
+ * spooled to a temporary file and only the position of each message is
+ * kept in memory, so a log is only read back when the walkthrough template
+ * asks for it.
+ */
+final class WalkthroughLogs implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Map<String, List<long[]>> segments = new LinkedHashMap<>();
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final Path path;
+    private final FileChannel channel;
+    private long position;
+
+    WalkthroughLogs() {
+        this.path = PageSpool.createSpoolFile("logs-");
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to open walkthrough log spool: " + path, e);
+        }
+    }
+
+    void append(final String key, final String message) {
+        final byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        segments.computeIfAbsent(key, k -> new ArrayList<>()).add(new long[]{position, bytes.length});
+        position += bytes.length;
+        try {
+            if (bytes.length > buffer.remaining()) {
+                flush();
+            }
+            if (bytes.length > buffer.capacity()) {
+                channel.write(ByteBuffer.wrap(bytes));
+            } else {
+                buffer.put(bytes);
+            }
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to write to walkthrough log spool: " + path, e);
+        }
+    }
+
+    Set<String> getKeys() {
+        return Collections.unmodifiableSet(segments.keySet());
+    }
+
+    /**
+     * Reads the messages logged with a key back from the spool.
+     *
+     * @param key the log key
+     * @return the messages separated by new lines, or null if nothing was logged with the key
+     */
+    String get(final String key) {
+        final List<long[]> keySegments = segments.get(key);
+        if (null == keySegments) {
+            return null;
+        }
+
+        final StringBuilder log = new StringBuilder();
+        try {
+            flush();
+            for (final long[] segment : keySegments) {
+                if (segment != keySegments.get(0)) {
+                    log.append("\n");
+                }
+                final ByteBuffer bytes = ByteBuffer.allocate((int) segment[1]);
+                while (bytes.hasRemaining()) {
+                    if (channel.read(bytes, segment[0] + bytes.position()) < 0) {
+                        throw new IOException("Unexpected end of walkthrough log spool");
+                    }
+                }
+                log.append(new String(bytes.array(), StandardCharsets.UTF_8));
+            }
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to read walkthrough log spool: " + path, e);
+        }
+        return log.toString();
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to delete walkthrough log spool: " + path, e);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -18,7 +18,6 @@ package uk.gov.gchq.gaffer.doc.walkthrough;
 import com.google.common.base.CaseFormat;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.text.StrSubstitutor;
 
 import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
 import uk.gov.gchq.gaffer.accumulostore.MockAccumuloStore;
@@ -33,6 +32,7 @@ import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.data.generator.ElementGenerator;
 import uk.gov.gchq.gaffer.data.generator.ObjectGenerator;
+import uk.gov.gchq.gaffer.doc.util.BuildProfile;
 import uk.gov.gchq.gaffer.doc.util.JavaSourceUtil;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.operation.Operation;
@@ -52,11 +52,16 @@ import uk.gov.gchq.koryphe.impl.predicate.Exists;
 
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 public abstract class WalkthroughStrSubstitutor {
     public static final String REF_URL_PREFIX = "ref://";
@@ -81,83 +86,63 @@ public abstract class WalkthroughStrSubstitutor {
 
     public static final String END_MARKER_MARKER = "{%- endcodetabs %}\n";
 
+    private static final String SNIPPET_SUFFIX = "_SNIPPET";
+    private static final Map<String, Optional<String>> RESOURCE_BLOCKS = new ConcurrentHashMap<>();
+    private static Map<String, String> commonParams;
+
     public static String substitute(final String walkthrough, final AbstractWalkthrough example) {
-        return substitute(walkthrough, createParameterMapForExample(walkthrough, example));
+        final WalkthroughTemplate template = WalkthroughTemplate.compile(walkthrough);
+        final ExampleParameterResolver resolver = createParameterResolver(template, example);
+        try (final BuildProfile.Timer timer = BuildProfile.phase(BuildProfile.Phase.TEMPLATE_SUBSTITUTION)) {
+            return template.render(resolver);
+        }
     }
 
     public static String substitute(final String walkthrough) {
-        return substitute(walkthrough, createParameterMap());
+        return WalkthroughTemplate.compile(walkthrough).render(getCommonParams()::get);
     }
 
     public static String substitute(final String walkthrough, final Map<String, String> paramMap) {
-        return new StrSubstitutor(paramMap).replace(walkthrough);
+        return WalkthroughTemplate.parse(walkthrough).render(paramMap::get);
     }
 
+    /**
+     * Checks that all the parameters in the walkthrough have been substituted.
+     *
+     * @param walkthrough the substituted walkthrough
+     * @param allowed     parameters that are expected to be left in the walkthrough
+     * @throws RuntimeException listing every parameter that was not substituted
+     */
     public static void validateSubstitution(final String walkthrough, final String... allowed) {
-        final int startIndex = walkthrough.indexOf("${");
-        final List<String> allowedList = Arrays.asList(allowed);
-
-        if (startIndex > -1) {
-            final String tmp = walkthrough.substring(startIndex + 2);
-            final int endIndex = tmp.indexOf("}");
-            if (endIndex > -1 && !allowedList.contains(tmp.substring(0, endIndex))) {
-                throw new RuntimeException("Parameter was not substituted: " + tmp.substring(0, endIndex));
-            }
+        final Set<String> unsubstituted = new LinkedHashSet<>(WalkthroughTemplate.parse(walkthrough).getParameterNames());
+        unsubstituted.removeAll(Arrays.asList(allowed));
+        if (!unsubstituted.isEmpty()) {
+            throw new RuntimeException("Parameters were not substituted: " + StringUtils.join(unsubstituted, ", "));
         }
     }
 
     public static Map<String, String> createParameterMapForExample(final String text, final AbstractWalkthrough example) {
-        final Class<?> exampleClass = example.getClass();
+        final WalkthroughTemplate template = WalkthroughTemplate.compile(text);
+        final ExampleParameterResolver resolver = createParameterResolver(template, example);
         final Map<String, String> params = new HashMap<>();
-        putParam(params, "HEADER", "# " + example.getHeader());
-        putParam(params, "CODE_LINK", "The code for this example is " + getGitHubCodeLink(example.getClass(), "") + ".");
-        putParam(params, "DATA", getBlockFromResource(example.dataPath, exampleClass));
-        if (null != example.elementGenerator) {
-            putParam(params, "ELEMENT_GENERATOR_JAVA", JavaSourceUtil.getJava(example.elementGenerator.getName(), null));
+        for (final String param : resolver.getParamNames()) {
+            putParam(params, param, resolver.apply(param));
         }
-        putParam(params, "STORE_PROPERTIES", getPropertiesBlockFromResource(example.storePropertiesPath, exampleClass));
-        putParam(params, "GRAPH_CONFIG", getJsonBlockFromResource(example.graphConfigPath, exampleClass));
-        putParam(params, "ELEMENTS_SCHEMA_LINK", getGitHubResourcesLink(example.schemaPath + "/elements.json", example.walkthroughId));
-        putParam(params, "TYPES_SCHEMA_LINK", getGitHubResourcesLink(example.schemaPath + "/types.json", example.walkthroughId));
-        putParam(params, "AGGREGATION_LINK", getGitHubResourcesLink(example.schemaPath + "/aggregation.json", example.walkthroughId));
-        putParam(params, "STORE_PROPERTIES_LINK", getGitHubResourcesLink(example.storePropertiesPath, example.walkthroughId));
-        putParam(params, "ELEMENTS_JSON", getJsonBlockFromResource(example.schemaPath + "/elements.json", exampleClass));
-        putParam(params, "TYPES_JSON", getJsonBlockFromResource(example.schemaPath + "/types.json", exampleClass));
-        putParam(params, "AGGREGATION_JSON", getJsonBlockFromResource(example.schemaPath + "/aggregation.json", exampleClass));
-        putParam(params, "VALIDATION_JSON", getJsonBlockFromResource(example.schemaPath + "/validation.json", exampleClass));
+        return params;
+    }
 
+    /**
+     * Runs the example and creates a resolver for the parameters in its
+     * walkthrough. The example specific parameters are only computed when
+     * the template asks for them.
+     */
+    private static ExampleParameterResolver createParameterResolver(final WalkthroughTemplate template, final AbstractWalkthrough example) {
         try {
             example.run();
         } catch (final Exception e) {
             throw new RuntimeException(e);
         }
-
-        for (final Map.Entry<String, StringBuilder> log : example.getLogCache().entrySet()) {
-            putParam(params, log.getKey(), log.getValue().toString() + "\n");
-        }
-
-        int position = 0;
-        final int length = text.length();
-        while (position < length) {
-            final int startIndex = text.indexOf("${", position);
-            position = length;
-            if (startIndex > -1) {
-                final String tmp = text.substring(startIndex + 2);
-                final int endIndex = tmp.indexOf("}");
-                if (endIndex > -1) {
-                    position = startIndex + endIndex + 3;
-                    final String param = tmp.substring(0, endIndex);
-                    if (param.endsWith("_SNIPPET")) {
-                        final String textId = param.replace("_SNIPPET", "").replaceAll("_", " ").toLowerCase(Locale.getDefault());
-                        putParam(params, param, JavaSourceUtil.getJavaSnippet(example.getClass(), null, textId));
-                    }
-                }
-            }
-            putParam(params, "VALIDATION_JSON", getJsonBlockFromResource(example.schemaPath + "/validation.json", exampleClass));
-        }
-
-        putAllParams(params, createParameterMap());
-        return params;
+        return new ExampleParameterResolver(template, example);
     }
 
     public static void putJavaDocParam(final Map<String, String> params, final Class<?> clazz) {
@@ -181,6 +166,17 @@ public abstract class WalkthroughStrSubstitutor {
     }
 
     public static Map<String, String> createParameterMap() {
+        return new HashMap<>(getCommonParams());
+    }
+
+    private static synchronized Map<String, String> getCommonParams() {
+        if (null == commonParams) {
+            commonParams = Collections.unmodifiableMap(createCommonParams());
+        }
+        return commonParams;
+    }
+
+    private static Map<String, String> createCommonParams() {
         final Map<String, String> params = new HashMap<>();
 
         putParam(params, "START_JAVA_CODE", START_JAVA_CODE_MARKER);
@@ -233,14 +229,26 @@ public abstract class WalkthroughStrSubstitutor {
     }
 
     public static String getPropertiesBlockFromResource(final String resourcePath, final Class<?> clazz) {
-        final String resource = getResource(resourcePath, clazz);
-        return null == resource ? null : "\n```properties\n" + resource.replaceAll("#.*\\n", "") + "\n```\n";
-
+        return getMemoisedBlock("properties", resourcePath, () -> {
+            final String resource = getResource(resourcePath, clazz);
+            return null == resource ? null : "\n```properties\n" + resource.replaceAll("#.*\\n", "") + "\n```\n";
+        });
     }
 
     private static String getBlockFromResource(final String resourcePath, final Class<?> clazz, final String type) {
-        final String resource = getResource(resourcePath, clazz);
-        return null == resource ? null : "\n```" + type + "\n" + resource + "\n```\n";
+        return getMemoisedBlock(type, resourcePath, () -> {
+            final String resource = getResource(resourcePath, clazz);
+            return null == resource ? null : "\n```" + type + "\n" + resource + "\n```\n";
+        });
+    }
+
+    /**
+     * Resources are loaded from the root of the classpath, so the blocks are
+     * memoised by type and resource path and shared by all the walkthroughs
+     * that use the same resources.
+     */
+    private static String getMemoisedBlock(final String type, final String resourcePath, final Supplier<String> block) {
+        return RESOURCE_BLOCKS.computeIfAbsent(type + ":" + resourcePath, key -> Optional.ofNullable(block.get())).orElse(null);
     }
 
     public static String getResource(final String resourcePath, final Class<?> clazz) {
@@ -348,4 +356,80 @@ public abstract class WalkthroughStrSubstitutor {
     }
 
 
+    /**
+     * Resolves the parameters of an example walkthrough, computing each value
+     * the first time it is requested. The common parameters take precedence
+     * over the java snippets, which take precedence over the logged output of
+     * the example, which takes precedence over the example resources.
+     */
+    private static final class ExampleParameterResolver implements Function<String, String> {
+        private final WalkthroughTemplate template;
+        private final AbstractWalkthrough example;
+        private final Map<String, Supplier<String>> exampleParams = new HashMap<>();
+        private final Map<String, String> resolved = new HashMap<>();
+
+        private ExampleParameterResolver(final WalkthroughTemplate template, final AbstractWalkthrough example) {
+            this.template = template;
+            this.example = example;
+
+            final Class<?> exampleClass = example.getClass();
+            exampleParams.put("HEADER", () -> "# " + example.getHeader());
+            exampleParams.put("CODE_LINK", () -> "The code for this example is " + getGitHubCodeLink(exampleClass, "") + ".");
+            exampleParams.put("DATA", () -> getBlockFromResource(example.dataPath, exampleClass));
+            if (null != example.elementGenerator) {
+                exampleParams.put("ELEMENT_GENERATOR_JAVA", () -> JavaSourceUtil.getJava(example.elementGenerator.getName(), null));
+            }
+            exampleParams.put("STORE_PROPERTIES", () -> getPropertiesBlockFromResource(example.storePropertiesPath, exampleClass));
+            exampleParams.put("GRAPH_CONFIG", () -> getJsonBlockFromResource(example.graphConfigPath, exampleClass));
+            exampleParams.put("ELEMENTS_SCHEMA_LINK", () -> getGitHubResourcesLink(example.schemaPath + "/elements.json", example.walkthroughId));
+            exampleParams.put("TYPES_SCHEMA_LINK", () -> getGitHubResourcesLink(example.schemaPath + "/types.json", example.walkthroughId));
+            exampleParams.put("AGGREGATION_LINK", () -> getGitHubResourcesLink(example.schemaPath + "/aggregation.json", example.walkthroughId));
+            exampleParams.put("STORE_PROPERTIES_LINK", () -> getGitHubResourcesLink(example.storePropertiesPath, example.walkthroughId));
+            exampleParams.put("ELEMENTS_JSON", () -> getJsonBlockFromResource(example.schemaPath + "/elements.json", exampleClass));
+            exampleParams.put("TYPES_JSON", () -> getJsonBlockFromResource(example.schemaPath + "/types.json", exampleClass));
+            exampleParams.put("AGGREGATION_JSON", () -> getJsonBlockFromResource(example.schemaPath + "/aggregation.json", exampleClass));
+            exampleParams.put("VALIDATION_JSON", () -> getJsonBlockFromResource(example.schemaPath + "/validation.json", exampleClass));
+        }
+
+        @Override
+        public String apply(final String param) {
+            if (!resolved.containsKey(param)) {
+                resolved.put(param, resolve(param));
+            }
+            return resolved.get(param);
+        }
+
+        private Set<String> getParamNames() {
+            final Set<String> names = new LinkedHashSet<>(exampleParams.keySet());
+            names.addAll(example.getLogKeys());
+            for (final String param : template.getParameterNames()) {
+                if (param.endsWith(SNIPPET_SUFFIX)) {
+                    names.add(param);
+                }
+            }
+            names.addAll(getCommonParams().keySet());
+            return names;
+        }
+
+        private String resolve(final String param) {
+            final String commonValue = getCommonParams().get(param);
+            if (null != commonValue) {
+                return commonValue;
+            }
+
+            // Only snippets in the walkthrough itself are looked up, not snippets in the values substituted into it
+            if (param.endsWith(SNIPPET_SUFFIX) && template.getParameterNames().contains(param)) {
+                final String textId = param.replace(SNIPPET_SUFFIX, "").replaceAll("_", " ").toLowerCase(Locale.getDefault());
+                return JavaSourceUtil.getJavaSnippet(example.getClass(), null, textId);
+            }
+
+            final String log = example.getLog(param);
+            if (null != log) {
+                return log + "\n";
+            }
+
+            final Supplier<String> exampleParam = exampleParams.get(param);
+            return null == exampleParam ? null : exampleParam.get();
+        }
+    }
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.doc.walkthrough;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A walkthrough template that has been parsed into literal text and
+ * {@code ${PARAMETER}} segments, so it can be rendered many times without
+ * searching the text again.
+ * <p>
+ * Rendering follows the same rules as the commons-lang
+ * {@link org.apache.commons.lang3.text.StrSubstitutor} it replaces: parameter
+ * values are themselves substituted, {@code $${} escapes a parameter,
+ * {@code ${NAME:-default}} provides a default value and parameters that
+ * cannot be resolved are left in the text, so the output can be substituted
+ * again with more parameters. Unlike StrSubstitutor, a {@code $} at the end of
+ * a substituted value does not escape a parameter that follows it.
+ */
+public final class WalkthroughTemplate {
+    private static final String PREFIX = "${";
+    private static final String SUFFIX = "}";
+    private static final String DEFAULT_DELIMITER = ":-";
+    private static final char ESCAPE = '$';
+    private static final Map<String, WalkthroughTemplate> COMPILED = new ConcurrentHashMap<>();
+
+    private final List<Segment> segments;
+    private final Set<String> parameterNames;
+
+    private WalkthroughTemplate(final String text) {
+        final List<Segment> parsedSegments = new ArrayList<>();
+        final Set<String> names = new LinkedHashSet<>();
+        int position = 0;
+        while (position < text.length()) {
+            final int start = text.indexOf(PREFIX, position);
+            if (start < 0) {
+                parsedSegments.add(new Segment(text.substring(position)));
+                break;
+            }
+
+            // The escape must be in the template text itself, not at the end of a value substituted before it
+            final boolean escaped = start > position && ESCAPE == text.charAt(start - 1);
+            final int literalEnd = escaped ? start - 1 : start;
+            if (literalEnd > position) {
+                parsedSegments.add(new Segment(text.substring(position, literalEnd)));
+            }
+
+            final int end = text.indexOf(SUFFIX, start + PREFIX.length());
+            if (end < 0) {
+                // An unclosed parameter, the rest of the text can only be escaped
+                parsedSegments.add(new Segment(text.substring(start), null, null, escaped));
+                break;
+            }
+
+            final Segment parameter = createParameter(text.substring(start, end + SUFFIX.length()), escaped);
+            parsedSegments.add(parameter);
+            if (!escaped) {
+                names.add(parameter.name);
+            }
+            position = end + SUFFIX.length();
+        }
+        this.segments = Collections.unmodifiableList(parsedSegments);
+        this.parameterNames = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Gets the compiled template for some text. Templates are cached, so
+     * this should only be used for text that is rendered more than once,
+     * such as the walkthrough resources.
+     *
+     * @param text the template text
+     * @return the compiled template
+     */
+    public static WalkthroughTemplate compile(final String text) {
+        return COMPILED.computeIfAbsent(text, WalkthroughTemplate::new);
+    }
+
+    /**
+     * Parses some text without caching the result.
+     *
+     * @param text the template text
+     * @return the parsed template
+     */
+    public static WalkthroughTemplate parse(final String text) {
+        final WalkthroughTemplate template = COMPILED.get(text);
+        return null != template ? template : new WalkthroughTemplate(text);
+    }
+
+    /**
+     * @return the names of the parameters in the template, in the order they first appear
+     */
+    public Set<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    /**
+     * Renders the template. The resolver is only asked for the parameters
+     * that are in the template or in the values it returns.
+     *
+     * @param resolver resolves a parameter name to its value, or null if the parameter is unknown
+     * @return the rendered text
+     */
+    public String render(final Function<String, String> resolver) {
+        final StringBuilder output = new StringBuilder();
+        render(output, resolver, new ArrayDeque<>());
+        return output.toString();
+    }
+
+    private void render(final StringBuilder output, final Function<String, String> resolver, final Deque<String> resolving) {
+        for (final Segment segment : segments) {
+            if (null == segment.raw) {
+                output.append(segment.literal);
+            } else if (segment.escaped) {
+                // An escaped parameter is output without the escape and the text after the prefix is still substituted
+                output.append(PREFIX);
+                parse(segment.raw.substring(PREFIX.length())).render(output, resolver, resolving);
+            } else if (null == segment.name) {
+                output.append(segment.raw);
+            } else {
+                renderParameter(segment, output, resolver, resolving);
+            }
+        }
+    }
+
+    private void renderParameter(final Segment parameter, final StringBuilder output, final Function<String, String> resolver, final Deque<String> resolving) {
+        if (resolving.contains(parameter.name)) {
+            throw new IllegalStateException("Infinite loop substituting parameter: " + parameter.name + " in " + resolving);
+        }
+
+        String value = resolver.apply(parameter.name);
+        if (null == value) {
+            value = parameter.defaultValue;
+        }
+        if (null == value) {
+            output.append(parameter.raw);
+        } else {
+            resolving.push(parameter.name);
+            parse(value).render(output, resolver, resolving);
+            resolving.pop();
+        }
+    }
+
+    private static Segment createParameter(final String raw, final boolean escaped) {
+        final String expression = raw.substring(PREFIX.length(), raw.length() - SUFFIX.length());
+        for (int i = 0; i < expression.length(); i++) {
+            if (expression.startsWith(PREFIX, i)) {
+                break;
+            }
+            if (expression.startsWith(DEFAULT_DELIMITER, i)) {
+                return new Segment(raw, expression.substring(0, i), expression.substring(i + DEFAULT_DELIMITER.length()), escaped);
+            }
+        }
+        return new Segment(raw, expression, null, escaped);
+    }
+
+    private static final class Segment {
+        private final String literal;
+        private final String raw;
+        private final String name;
+        private final String defaultValue;
+        private final boolean escaped;
+
+        private Segment(final String literal) {
+            this.literal = literal;
+            this.raw = null;
+            this.name = null;
+            this.defaultValue = null;
+            this.escaped = false;
+        }
+
+        private Segment(final String raw, final String name, final String defaultValue, final boolean escaped) {
+            this.literal = null;
+            this.raw = raw;
+            this.name = name;
+            this.defaultValue = defaultValue;
+            this.escaped = escaped;
+        }
+    }
+}
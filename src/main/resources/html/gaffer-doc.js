@@ -0,0 +1,27 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// Switches the tab shown in a codetabs block
+document.addEventListener("click", function (event) {
+    var button = event.target;
+    if (!button.classList.contains("codetab") || "BUTTON" !== button.tagName) {
+        return;
+    }
+    var codetabs = button.closest(".codetabs");
+    codetabs.querySelectorAll(".codetab").forEach(function (tab) {
+        tab.classList.toggle("active", tab.getAttribute("data-tab") === button.getAttribute("data-tab"));
+    });
+});
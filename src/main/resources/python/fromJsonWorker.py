@@ -0,0 +1,67 @@
+#
+# Copyright 2019 Crown Copyright
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+
+# Long lived wrapper around fromJson.py. Each line on stdin is a json request
+# of the form {"json": "...", "className": "..."} and each response is written
+# as a single json line of the form {"python": "..."} or {"error": "..."}.
+# A batch of requests can be sent as {"requests": [...]}, the response is then
+# {"responses": [...]} with one entry per request, in the same order.
+# The python shell modules are only imported once, when the first request is
+# converted, so subsequent conversions do not pay the interpreter start up cost.
+
+import io
+import json
+import os
+import runpy
+import sys
+import traceback
+from contextlib import redirect_stdout
+
+from_json_path = os.path.abspath(sys.argv[1])
+sys.path.insert(0, os.path.dirname(from_json_path))
+output = sys.stdout
+
+
+def convert(request):
+    sys.argv = [from_json_path, request["json"]]
+    if request.get("className"):
+        sys.argv.append(request["className"])
+
+    buffer = io.StringIO()
+    try:
+        with redirect_stdout(buffer):
+            runpy.run_path(from_json_path, run_name="__main__")
+    except SystemExit as e:
+        if e.code not in (None, 0):
+            return {"error": "fromJson.py exited with code " + str(e.code) + "\n" + buffer.getvalue()}
+    except BaseException:
+        return {"error": traceback.format_exc()}
+    return {"python": buffer.getvalue()}
+
+
+for line in sys.stdin:
+    if not line.strip():
+        continue
+    try:
+        request = json.loads(line)
+        if "requests" in request:
+            response = {"responses": [convert(r) for r in request["requests"]]}
+        else:
+            response = convert(request)
+    except BaseException:
+        response = {"error": traceback.format_exc()}
+    output.write(json.dumps(response) + "\n")
+    output.flush()
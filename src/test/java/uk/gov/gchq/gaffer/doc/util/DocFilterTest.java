@@ -0,0 +1,193 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DocFilterTest {
+
+    @After
+    public void after() {
+        System.clearProperty(DocFilter.ONLY_PROPERTY);
+        System.clearProperty(DocFilter.SKIP_PROPERTY);
+    }
+
+    @Test
+    public void shouldIncludeEverythingWithoutFilters() {
+        // When
+        final DocFilter filter = DocFilter.getInstance();
+
+        // Then
+        assertFalse(filter.isActive());
+        assertTrue(filter.includesRunner("Operations"));
+        assertTrue(filter.includesExample("Operations", "GetWalksExample"));
+    }
+
+    @Test
+    public void shouldMatchRunnersAndExamplesWithGlobs() {
+        // Given
+        System.setProperty(DocFilter.ONLY_PROPERTY, "Operations:GetWalks*,Join*");
+
+        // When
+        final DocFilter filter = DocFilter.getInstance();
+
+        // Then
+        assertTrue(filter.isActive());
+        assertTrue(filter.includesRunner("Operations"));
+        assertFalse(filter.includesRunner("Predicates"));
+        assertFalse(filter.includesRunner("Spark Operations"));
+        assertTrue(filter.includesExample("Operations", "GetWalksExample"));
+        assertTrue(filter.includesExample("Operations", "JoinExample"));
+        assertFalse(filter.includesExample("Operations", "GetElementsExample"));
+        assertFalse(filter.includesExample("Predicates", "JoinExample"));
+    }
+
+    @Test
+    public void shouldMatchGlobsAnywhereInTheName() {
+        // Given
+        System.setProperty(DocFilter.ONLY_PROPERTY, "*Operations:*Elements*");
+
+        // When
+        final DocFilter filter = DocFilter.getInstance();
+
+        // Then
+        assertTrue(filter.includesExample("Spark Operations", "GetJavaRDDOfElementsExample"));
+        assertTrue(filter.includesExample("Operations", "GetAllElementsExample"));
+        assertFalse(filter.includesExample("Operations", "GetWalksExample"));
+    }
+
+    @Test
+    public void shouldTreatOtherCharactersLiterally() {
+        // Given
+        System.setProperty(DocFilter.ONLY_PROPERTY, "Dev.Walkthrough");
+
+        // When
+        final DocFilter filter = DocFilter.getInstance();
+
+        // Then
+        assertTrue(filter.includesRunner("Dev.Walkthrough"));
+        assertFalse(filter.includesRunner("DevXWalkthrough"));
+    }
+
+    @Test
+    public void shouldSeparateFiltersWithSemicolons() {
+        // Given
+        System.setProperty(DocFilter.ONLY_PROPERTY, "Operations:GetWalks* ; Predicates;;");
+
+        // When
+        final DocFilter filter = DocFilter.getInstance();
+
+        // Then
+        assertTrue(filter.includesExample("Operations", "GetWalksExample"));
+        assertFalse(filter.includesExample("Operations", "JoinExample"));
+        assertTrue(filter.includesExample("Predicates", "IsMoreThanExample"));
+        assertFalse(filter.includesRunner("Functions"));
+    }
+
+    @Test
+    public void shouldSkipWholeRunners() {
+        // Given
+        System.setProperty(DocFilter.SKIP_PROPERTY, "Spark*;Accumulo*");
+
+        // When
+        final DocFilter filter = DocFilter.getInstance();
+
+        // Then
+        assertTrue(filter.isActive());
+        assertFalse(filter.includesRunner("Spark Operations"));
+        assertFalse(filter.includesRunner("Accumulo Operations"));
+        assertFalse(filter.includesExample("Spark Operations", "GetDataFrameOfElementsExample"));
+        assertTrue(filter.includesRunner("Operations"));
+    }
+
+    @Test
+    public void shouldSkipSomeExamplesButStillRunTheRunner() {
+        // Given
+        System.setProperty(DocFilter.SKIP_PROPERTY, "Operations:GetWalks*");
+
+        // When
+        final DocFilter filter = DocFilter.getInstance();
+
+        // Then
+        assertTrue(filter.includesRunner("Operations"));
+        assertFalse(filter.includesExample("Operations", "GetWalksExample"));
+        assertTrue(filter.includesExample("Operations", "JoinExample"));
+        assertTrue(filter.includesExample("Predicates", "GetWalksExample"));
+    }
+
+    @Test
+    public void shouldSkipExamplesThatAreAlsoSelectedByOnly() {
+        // Given
+        System.setProperty(DocFilter.ONLY_PROPERTY, "Operations");
+        System.setProperty(DocFilter.SKIP_PROPERTY, "Operations:GetWalks*");
+
+        // When
+        final DocFilter filter = DocFilter.getInstance();
+
+        // Then
+        assertTrue(filter.includesRunner("Operations"));
+        assertFalse(filter.includesExample("Operations", "GetWalksExample"));
+        assertTrue(filter.includesExample("Operations", "JoinExample"));
+        assertFalse(filter.includesRunner("Predicates"));
+    }
+
+    @Test
+    public void shouldSkipRunnersThatAreAlsoSelectedByOnly() {
+        // Given
+        System.setProperty(DocFilter.ONLY_PROPERTY, "Operations:GetWalks*;Predicates");
+        System.setProperty(DocFilter.SKIP_PROPERTY, "Operations");
+
+        // When
+        final DocFilter filter = DocFilter.getInstance();
+
+        // Then
+        assertFalse(filter.includesRunner("Operations"));
+        assertFalse(filter.includesExample("Operations", "GetWalksExample"));
+        assertTrue(filter.includesRunner("Predicates"));
+    }
+
+    @Test
+    public void shouldSetPropertiesFromRepeatedArgs() {
+        // When
+        DocFilter.applyArgs(new String[]{"other", DocFilter.ONLY_ARG, "Operations:GetWalks*", DocFilter.SKIP_ARG, "Spark*",
+                DocFilter.ONLY_ARG, "Predicates"});
+
+        // Then
+        assertEquals("Operations:GetWalks*;Predicates", System.getProperty(DocFilter.ONLY_PROPERTY));
+        assertEquals("Spark*", System.getProperty(DocFilter.SKIP_PROPERTY));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTrailingOnlyArg() {
+        DocFilter.applyArgs(new String[]{DocFilter.ONLY_ARG, "Operations", DocFilter.ONLY_ARG});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTrailingSkipArg() {
+        DocFilter.applyArgs(new String[]{DocFilter.SKIP_ARG});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectArgFollowedByAnotherArg() {
+        DocFilter.applyArgs(new String[]{DocFilter.ONLY_ARG, DocFilter.SKIP_ARG, "Spark*"});
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DocManifestTest {
+    private static final List<String> RESOURCES = Arrays.asList("operations", "RoadUse");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File baseDir;
+    private File manifestFile;
+    private File output;
+
+    @Before
+    public void before() throws IOException {
+        baseDir = folder.newFolder("project");
+        manifestFile = new File(folder.getRoot(), "doc-manifest.json");
+        output = new File(folder.getRoot(), "output.md");
+        write("src/main/resources/mockaccumulostore.properties", "properties");
+        write("src/main/resources/operations/Intro.md", "intro");
+        write("src/main/resources/RoadUse/data.txt", "data");
+        write("src/main/resources/predicates/Intro.md", "predicates");
+        write(getSourcePath(), "class source");
+        FileUtils.writeStringToFile(output, "output");
+    }
+
+    @After
+    public void after() {
+        System.clearProperty(ResultSample.MAX_ROWS_PROPERTY);
+        System.clearProperty(ResultSample.SAMPLING_PROPERTY);
+    }
+
+    @Test
+    public void shouldNotBeUpToDateWithoutAManifest() {
+        // Given
+        final DocManifest manifest = new DocManifest(baseDir, manifestFile, false);
+
+        // When / Then
+        assertFalse(manifest.isUpToDate(output, DocManifestTest.class, RESOURCES));
+    }
+
+    @Test
+    public void shouldBeUpToDateWhenInputsAreUnchanged() {
+        // Given
+        saveManifest();
+
+        // When / Then
+        assertTrue(new DocManifest(baseDir, manifestFile, false).isUpToDate(output, DocManifestTest.class, RESOURCES));
+    }
+
+    @Test
+    public void shouldNotBeUpToDateWhenForced() {
+        // Given
+        saveManifest();
+
+        // When / Then
+        assertFalse(new DocManifest(baseDir, manifestFile, true).isUpToDate(output, DocManifestTest.class, RESOURCES));
+    }
+
+    @Test
+    public void shouldNotBeUpToDateWhenOutputIsMissing() {
+        // Given
+        saveManifest();
+        FileUtils.deleteQuietly(output);
+
+        // When / Then
+        assertFalse(new DocManifest(baseDir, manifestFile, false).isUpToDate(output, DocManifestTest.class, RESOURCES));
+    }
+
+    @Test
+    public void shouldNotBeUpToDateWhenOwnResourceChanges() throws IOException {
+        // Given
+        saveManifest();
+
+        // When
+        write("src/main/resources/RoadUse/data.txt", "changed data");
+
+        // Then
+        assertFalse(new DocManifest(baseDir, manifestFile, false).isUpToDate(output, DocManifestTest.class, RESOURCES));
+    }
+
+    @Test
+    public void shouldNotBeUpToDateWhenSharedResourceChanges() throws IOException {
+        // Given
+        saveManifest();
+
+        // When
+        write("src/main/resources/mockaccumulostore.properties", "changed properties");
+
+        // Then
+        assertFalse(new DocManifest(baseDir, manifestFile, false).isUpToDate(output, DocManifestTest.class, RESOURCES));
+    }
+
+    @Test
+    public void shouldNotBeUpToDateWhenSourceChanges() throws IOException {
+        // Given
+        saveManifest();
+
+        // When
+        write(getSourcePath(), "changed class source");
+
+        // Then
+        assertFalse(new DocManifest(baseDir, manifestFile, false).isUpToDate(output, DocManifestTest.class, RESOURCES));
+    }
+
+    @Test
+    public void shouldBeUpToDateWhenAnotherRunnersResourceChanges() throws IOException {
+        // Given
+        saveManifest();
+
+        // When
+        write("src/main/resources/predicates/Intro.md", "changed predicates");
+
+        // Then
+        assertTrue(new DocManifest(baseDir, manifestFile, false).isUpToDate(output, DocManifestTest.class, RESOURCES));
+    }
+
+    @Test
+    public void shouldBeUpToDateWhenProjectIsMoved() throws IOException {
+        // Given
+        saveManifest();
+        final File movedBaseDir = new File(folder.getRoot(), "moved");
+
+        // When
+        FileUtils.moveDirectory(baseDir, movedBaseDir);
+
+        // Then
+        assertTrue(new DocManifest(movedBaseDir, manifestFile, false).isUpToDate(output, DocManifestTest.class, RESOURCES));
+    }
+
+    @Test
+    public void shouldNotBeUpToDateWhenResourcesAreDifferent() {
+        // Given
+        saveManifest();
+
+        // When / Then
+        assertFalse(new DocManifest(baseDir, manifestFile, false).isUpToDate(output, DocManifestTest.class, Collections.singletonList("operations")));
+    }
+
+    @Test
+    public void shouldNotBeUpToDateWhenMaxRowsChanges() {
+        // Given
+        saveManifest();
+
+        // When
+        System.setProperty(ResultSample.MAX_ROWS_PROPERTY, "500");
+
+        // Then
+        assertFalse(new DocManifest(baseDir, manifestFile, false).isUpToDate(output, DocManifestTest.class, RESOURCES));
+    }
+
+    @Test
+    public void shouldNotBeUpToDateWhenSamplingChanges() {
+        // Given
+        saveManifest();
+
+        // When
+        System.setProperty(ResultSample.SAMPLING_PROPERTY, ResultSample.RESERVOIR_SAMPLING);
+
+        // Then
+        assertFalse(new DocManifest(baseDir, manifestFile, false).isUpToDate(output, DocManifestTest.class, RESOURCES));
+    }
+
+    @Test
+    public void shouldChangeSharedSourceHashWhenSharedSourceChanges() throws IOException {
+        // Given
+        final String aggregatorPath = "src/main/java/uk/gov/gchq/gaffer/doc/dev/aggregator/VisibilityAggregator.java";
+        write(aggregatorPath, "aggregator source");
+        final String hash = new DocManifest(baseDir, manifestFile, false).getSharedSourceHash();
+
+        // When
+        write(aggregatorPath, "changed aggregator source");
+
+        // Then
+        assertNotEquals(hash, new DocManifest(baseDir, manifestFile, false).getSharedSourceHash());
+    }
+
+    @Test
+    public void shouldNotChangeSharedSourceHashWhenResourceChanges() throws IOException {
+        // Given
+        final String hash = new DocManifest(baseDir, manifestFile, false).getSharedSourceHash();
+
+        // When
+        write("src/main/resources/mockaccumulostore.properties", "changed properties");
+
+        // Then
+        assertEquals(hash, new DocManifest(baseDir, manifestFile, false).getSharedSourceHash());
+    }
+
+    private void saveManifest() {
+        final DocManifest manifest = new DocManifest(baseDir, manifestFile, false);
+        manifest.update(output, DocManifestTest.class, RESOURCES);
+        manifest.save();
+    }
+
+    private void write(final String path, final String contents) throws IOException {
+        FileUtils.writeStringToFile(new File(baseDir, path), contents);
+    }
+
+    private static String getSourcePath() {
+        return "src/main/java/" + DocManifestTest.class.getName().replace('.', '/') + ".java";
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HtmlSiteRendererTest {
+    private static final String SUMMARY = "# Summary\n"
+            + "\n"
+            + "* [Introduction](README.md)\n"
+            + "* Getting started\n"
+            + "    * [Operations](operations/README.md)\n"
+            + "        * [GetWalks](operations/get-walks.md)\n"
+            + "    * [External](https://gchq.github.io/gaffer-doc/)\n"
+            + "* [Dev](dev/dev.md)\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File docsDir;
+    private File outputDir;
+    private HtmlSiteRenderer renderer;
+
+    @Before
+    public void before() throws IOException {
+        docsDir = folder.newFolder("docs");
+        outputDir = new File(folder.getRoot(), "html");
+        renderer = new HtmlSiteRenderer(docsDir, outputDir, 2, new File(folder.getRoot(), "html-manifest.json"));
+        write("SUMMARY.md", SUMMARY);
+        write("README.md", "# Gaffer\n\nSome text");
+        write("operations/README.md", "# Operations");
+        write("operations/get-walks.md", "# GetWalks");
+        write("dev/dev.md", "Dev\n===\n\nSome text");
+    }
+
+    @Test
+    public void shouldRenderCodeTabs() throws IOException {
+        // Given
+        write("operations/get-walks.md", "before\n"
+                + "\n{% codetabs name=\"Java\", type=\"java\" -%}\n"
+                + "final boolean lessThan = 1 < 2;\n"
+                + "\n"
+                + "final String text = \"text\";\n"
+                + "\n{%- language name=\"JSON\", type=\"json\" -%}\n"
+                + "{\n  \"class\" : \"GetWalks\"\n}\n"
+                + "\n{%- language name=\"Python\", type=\"py\" -%}\n"
+                + "g.GetWalks()\n"
+                + "{%- endcodetabs %}\n"
+                + "\nafter");
+
+        // When
+        renderer.render();
+
+        // Then
+        final String html = read("operations/get-walks.html");
+        assertTrue(html, html.contains("<p>before</p>\n"
+                + "<div class=\"codetabs\"><div class=\"codetabs-header\">"
+                + "<button class=\"codetab active\" data-tab=\"0\">Java</button>"
+                + "<button class=\"codetab\" data-tab=\"1\">JSON</button>"
+                + "<button class=\"codetab\" data-tab=\"2\">Python</button></div>"
+                + "<div class=\"codetabs-body\">"
+                + "<pre class=\"codetab active\" data-tab=\"0\"><code class=\"language-java\">"
+                + "final boolean lessThan = 1 &lt; 2;\n\nfinal String text = &quot;text&quot;;</code></pre>"
+                + "<pre class=\"codetab\" data-tab=\"1\"><code class=\"language-json\">"
+                + "{\n  &quot;class&quot; : &quot;GetWalks&quot;\n}</code></pre>"
+                + "<pre class=\"codetab\" data-tab=\"2\"><code class=\"language-py\">g.GetWalks()</code></pre>"
+                + "</div></div>\n"
+                + "<p>after</p>"));
+    }
+
+    @Test
+    public void shouldRenderEachCodeTabsBlockSeparately() throws IOException {
+        // Given
+        write("README.md", "{% codetabs name=\"Java\", type=\"java\" -%}\nfirst\n{%- endcodetabs %}\n"
+                + "\ntext\n\n"
+                + "{% codetabs name=\"JSON\", type=\"json\" -%}\nsecond\n{%- endcodetabs %}\n");
+
+        // When
+        renderer.render();
+
+        // Then
+        final String html = read("index.html");
+        assertTrue(html, html.contains("<code class=\"language-java\">first</code></pre></div></div>\n"
+                + "<p>text</p>\n"
+                + "<div class=\"codetabs\"><div class=\"codetabs-header\"><button class=\"codetab active\" data-tab=\"0\">JSON</button>"));
+        assertTrue(html, html.contains("<code class=\"language-json\">second</code>"));
+        assertFalse(html, html.contains("CODETABS"));
+    }
+
+    @Test
+    public void shouldRenderTheNavigationFromTheSummary() throws IOException {
+        // When
+        renderer.render();
+
+        // Then
+        final String html = read("operations/get-walks.html");
+        assertTrue(html, html.contains("<ul>"
+                + "<li><a href=\"../index.html\">Introduction</a></li>"
+                + "<li><span>Getting started</span><ul>"
+                + "<li><a href=\"../operations/index.html\">Operations</a><ul>"
+                + "<li class=\"active\"><a href=\"../operations/get-walks.html\">GetWalks</a></li>"
+                + "</ul></li>"
+                + "<li><a href=\"https://gchq.github.io/gaffer-doc/\">External</a></li>"
+                + "</ul></li>"
+                + "<li><a href=\"../dev/dev.html\">Dev</a></li>"
+                + "</ul>"));
+        assertTrue(html, html.contains("<link rel=\"stylesheet\" href=\"../html/gaffer-doc.css\">"));
+    }
+
+    @Test
+    public void shouldLinkFromTheRootOfTheSite() throws IOException {
+        // When
+        renderer.render();
+
+        // Then
+        final String html = read("index.html");
+        assertTrue(html, html.contains("<li class=\"active\"><a href=\"index.html\">Introduction</a></li>"));
+        assertTrue(html, html.contains("<a href=\"operations/get-walks.html\">GetWalks</a>"));
+        assertTrue(html, html.contains("<link rel=\"stylesheet\" href=\"html/gaffer-doc.css\">"));
+    }
+
+    @Test
+    public void shouldRenderAnEmptyNavigationWithoutASummary() throws IOException {
+        // Given
+        new File(docsDir, "SUMMARY.md").delete();
+
+        // When
+        renderer.render();
+
+        // Then
+        final String html = read("index.html");
+        assertFalse(html, html.contains("<ul>"));
+        assertTrue(html, html.contains("<title>Gaffer - Gaffer Doc</title>"));
+    }
+
+    @Test
+    public void shouldTitlePagesFromTheSummaryThenTheFirstHeading() throws IOException {
+        // Given
+        write("not-in-summary.md", "Some text\n\n## A <heading>\n\n# Another heading");
+        write("no-heading.md", "Some text");
+
+        // When
+        renderer.render();
+
+        // Then
+        assertTrue(read("index.html").contains("<title>Introduction - Gaffer Doc</title>"));
+        assertTrue(read("dev/dev.html").contains("<title>Dev - Gaffer Doc</title>"));
+        assertTrue(read("not-in-summary.html").contains("<title>A &lt;heading&gt; - Gaffer Doc</title>"));
+        assertTrue(read("no-heading.html").contains("<title>no-heading.md - Gaffer Doc</title>"));
+    }
+
+    @Test
+    public void shouldRewriteLinksToMarkdownPages() {
+        // When / Then
+        assertEquals("page.html", HtmlSiteRenderer.toHtmlLink("page.md"));
+        assertEquals("../operations/index.html#get-walks", HtmlSiteRenderer.toHtmlLink("../operations/README.md#get-walks"));
+        assertEquals("index.html", HtmlSiteRenderer.toHtmlLink("README.md"));
+        assertEquals("image.png", HtmlSiteRenderer.toHtmlLink("image.png"));
+        assertEquals("#anchor", HtmlSiteRenderer.toHtmlLink("#anchor"));
+        assertEquals("https://github.com/gchq/Gaffer/README.md", HtmlSiteRenderer.toHtmlLink("https://github.com/gchq/Gaffer/README.md"));
+    }
+
+    @Test
+    public void shouldOnlyRenderPagesThatHaveChanged() throws IOException {
+        // Given
+        assertEquals(4, renderer.render());
+        assertEquals(0, renderer.render());
+
+        // When
+        write("operations/get-walks.md", "# GetWalks\n\nChanged");
+
+        // Then
+        assertEquals(1, renderer.render());
+        assertEquals(0, renderer.render());
+    }
+
+    @Test
+    public void shouldRenderPagesWhoseOutputIsMissing() {
+        // Given
+        renderer.render();
+
+        // When
+        new File(outputDir, "dev/dev.html").delete();
+
+        // Then
+        assertEquals(1, renderer.render());
+        assertTrue(new File(outputDir, "dev/dev.html").isFile());
+    }
+
+    @Test
+    public void shouldRenderEveryPageWhenTheSummaryChanges() throws IOException {
+        // Given
+        renderer.render();
+
+        // When
+        write("SUMMARY.md", SUMMARY + "* [New](new.md)\n");
+
+        // Then
+        assertEquals(4, renderer.render());
+    }
+
+    @Test
+    public void shouldCopyOtherFilesAndSkipHiddenAndIgnoredFolders() throws IOException {
+        // Given
+        write("images/graph.svg", "<svg/>");
+        write(".git/config", "config");
+        write("node_modules/gitbook/page.md", "# Plugin");
+        write("_book/index.html", "old");
+
+        // When
+        renderer.render();
+
+        // Then
+        assertEquals("<svg/>", read("images/graph.svg"));
+        assertTrue(new File(outputDir, "html/gaffer-doc.css").isFile());
+        assertTrue(new File(outputDir, "html/gaffer-doc.js").isFile());
+        assertFalse(new File(outputDir, "SUMMARY.html").exists());
+        assertFalse(new File(outputDir, ".git").exists());
+        assertFalse(new File(outputDir, "node_modules").exists());
+        assertFalse(new File(outputDir, "_book").exists());
+    }
+
+    private void write(final String path, final String contents) throws IOException {
+        FileUtils.writeStringToFile(new File(docsDir, path), contents);
+    }
+
+    private String read(final String path) throws IOException {
+        return FileUtils.readFileToString(new File(outputDir, path));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static uk.gov.gchq.gaffer.doc.util.JavaSourceUtil.NEW_LINE;
+
+public class JavaSourceIndexTest {
+    private static final String CLASS_NAME = "uk.gov.gchq.gaffer.doc.Walkthrough";
+    private static final String SEPARATOR = "        // ---------------------------------------------------------";
+
+    private static final String RAW_JAVA = lines(
+            "public class Walkthrough {",
+            "    public void run() {",
+            "        // [graph] create a graph using our schema",
+            SEPARATOR,
+            "        final Graph graph = new Graph.Builder()",
+            "                .build();",
+            SEPARATOR,
+            "",
+            "        // [user] Create a user",
+            "        // over two lines",
+            SEPARATOR,
+            "        final User user = new User(\"user01\");",
+            SEPARATOR,
+            "",
+            "        // [graph] a second graph tag",
+            SEPARATOR,
+            "        final Graph other = null;",
+            SEPARATOR,
+            "    }",
+            "",
+            "    public Iterable<Walk> getWalks() {",
+            SEPARATOR,
+            "        final GetWalks getWalks = new GetWalks.Builder()",
+            "                .build();",
+            SEPARATOR,
+            "        return runExample(getWalks, null);",
+            "    }",
+            "",
+            "    public void cleanUp() {",
+            "        graph.clear();",
+            "    }",
+            "}");
+
+    private final JavaSourceIndex index = new JavaSourceIndex(CLASS_NAME, RAW_JAVA);
+
+    @Test
+    public void shouldReturnTheRawJava() {
+        // When / Then
+        assertEquals(RAW_JAVA, index.getRawJava());
+    }
+
+    @Test
+    public void shouldExtractTagSnippetsWithoutIndentation() {
+        // When
+        final String snippet = index.getTagSnippet("graph");
+
+        // Then
+        assertEquals(lines(
+                "final Graph graph = new Graph.Builder()",
+                "        .build();"), snippet);
+    }
+
+    @Test
+    public void shouldExtractTagSnippetsWithADescriptionOverSeveralLines() {
+        // When / Then
+        assertEquals("final User user = new User(\"user01\");", index.getTagSnippet("user"));
+    }
+
+    @Test
+    public void shouldExtractMethodSnippets() {
+        // When
+        final String snippet = index.getMethodSnippet("getWalks");
+
+        // Then
+        assertEquals(lines(
+                "final GetWalks getWalks = new GetWalks.Builder()",
+                "        .build();"), snippet);
+    }
+
+    @Test
+    public void shouldExtractTheSameSnippetsAsAFullScan() {
+        // When / Then
+        assertEquals(index.getSnippet("// [graph]", JavaSourceIndex.TAG_START_MARKER, JavaSourceIndex.TAG_END_MARKER),
+                index.getTagSnippet("graph"));
+        assertEquals(index.getSnippet(" getWalks() {", JavaSourceIndex.METHOD_START_MARKER, JavaSourceIndex.METHOD_END_MARKER),
+                index.getMethodSnippet("getWalks"));
+    }
+
+    @Test
+    public void shouldExtractUnindexedSnippets() {
+        // When
+        final String snippet = index.getSnippet("cleanUp()", "{", "}");
+
+        // Then
+        assertEquals("graph.clear();", snippet);
+    }
+
+    @Test
+    public void shouldReportAMissingTag() {
+        try {
+            // When
+            index.getTagSnippet("unknown");
+            fail("Exception expected");
+        } catch (final IllegalArgumentException e) {
+            // Then
+            assertEquals("Cannot find java snippet for: " + CLASS_NAME + " // [unknown]", e.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldReportAMissingMethod() {
+        try {
+            // When
+            index.getMethodSnippet("unknown");
+            fail("Exception expected");
+        } catch (final IllegalArgumentException e) {
+            // Then
+            assertEquals("Cannot find java snippet for: " + CLASS_NAME + "  unknown() {", e.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldReportAMethodWithoutASnippet() {
+        try {
+            // When
+            index.getMethodSnippet("cleanUp");
+            fail("Exception expected");
+        } catch (final IllegalArgumentException e) {
+            // Then
+            assertEquals("Cannot find java snippet for: " + CLASS_NAME + "  cleanUp() {", e.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReportAMissingUnindexedMarker() {
+        // When
+        index.getSnippet("unknown()", "{", "}");
+    }
+
+    private static String lines(final String... lines) {
+        return String.join(NEW_LINE, lines);
+    }
+}
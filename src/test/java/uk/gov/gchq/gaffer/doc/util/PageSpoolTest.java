@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PageSpoolTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<List<Pair<String, String>>> batches = new ArrayList<>();
+    private final PythonBatch pythonBatch = new PythonBatch(this::translateAll);
+
+    @Test
+    public void shouldStreamThePageResolvingPythonPlaceholders() throws IOException {
+        // Given
+        final File file = new File(folder.getRoot(), "page.md");
+        try (final PageSpool spool = new PageSpool()) {
+            spool.append("# Title\n\n");
+            spool.append("```python\n" + pythonBatch.deferJson("1", null, false, python -> python) + "\n```\n");
+            spool.append("two on a line: " + pythonBatch.deferJson("2", null, false, python -> "[" + python + "]"));
+            spool.append(" and " + pythonBatch.deferJson("3", null, false, python -> python) + "\n");
+            spool.append("no trailing new line");
+
+            // When
+            spool.writeTo(file, pythonBatch);
+        }
+
+        // Then
+        assertEquals("# Title\n\n"
+                + "```python\npython of 1\n```\n"
+                + "two on a line: [python of 2] and python of 3\n"
+                + "no trailing new line", FileUtils.readFileToString(file));
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void shouldWriteFormattedPythonOverSeveralLines() throws IOException {
+        // Given
+        final File file = new File(folder.getRoot(), "page.md");
+        try (final PageSpool spool = new PageSpool()) {
+            spool.append("before\n" + pythonBatch.deferJson("1", null, false, python -> "```python\n" + python + "\n```") + "\nafter\n");
+
+            // When
+            spool.writeTo(file, pythonBatch);
+        }
+
+        // Then
+        assertEquals("before\n```python\npython of 1\n```\nafter\n", FileUtils.readFileToString(file));
+    }
+
+    @Test
+    public void shouldReturnTheContentsWithoutResolvingPlaceholders() {
+        try (final PageSpool spool = new PageSpool()) {
+            // Given
+            final String placeholder = pythonBatch.deferJson("1", null, false, python -> python);
+            spool.append("first\n");
+            spool.append(placeholder);
+
+            // When
+            final String contents = spool.getContents();
+
+            // Then
+            assertEquals("first\n" + placeholder, contents);
+            assertTrue(batches.isEmpty());
+
+            spool.append("\nsecond");
+            assertEquals("first\n" + placeholder + "\nsecond", spool.getContents());
+        }
+    }
+
+    @Test
+    public void shouldCreateTheParentDirectoriesOfTheOutputFile() throws IOException {
+        // Given
+        final File file = new File(folder.getRoot(), "some/new/dir/page.md");
+        try (final PageSpool spool = new PageSpool()) {
+            spool.append("text");
+
+            // When
+            spool.writeTo(file, pythonBatch);
+        }
+
+        // Then
+        assertEquals("text", FileUtils.readFileToString(file));
+    }
+
+    @Test
+    public void shouldWriteAnEmptyPage() throws IOException {
+        // Given
+        final File file = new File(folder.getRoot(), "page.md");
+        try (final PageSpool spool = new PageSpool()) {
+            // When
+            spool.writeTo(file, pythonBatch);
+        }
+
+        // Then
+        assertEquals("", FileUtils.readFileToString(file));
+    }
+
+    @Test
+    public void shouldDeleteTheSpoolFileWhenClosed() {
+        // Given
+        final Set<String> existing = listSpoolFiles();
+        final PageSpool spool = new PageSpool();
+        spool.append("text");
+        final Set<String> created = listSpoolFiles();
+        created.removeAll(existing);
+        assertEquals(1, created.size());
+
+        // When
+        spool.close();
+
+        // Then
+        assertFalse(listSpoolFiles().contains(created.iterator().next()));
+    }
+
+    @Test
+    public void shouldCreateSpoolFilesInTheSpoolDirectory() {
+        // When
+        final Path file = PageSpool.createSpoolFile("test-");
+
+        // Then
+        assertTrue(file.toFile().isFile());
+        assertEquals(Paths.get(PageSpool.SPOOL_DIR).toAbsolutePath(), file.toAbsolutePath().getParent());
+        assertTrue(file.getFileName().toString().startsWith("test-"));
+        file.toFile().delete();
+    }
+
+    private List<Pair<String, String>> translateAll(final List<Pair<String, String>> requests) {
+        batches.add(new ArrayList<>(requests));
+        final List<Pair<String, String>> results = new ArrayList<>(requests.size());
+        for (final Pair<String, String> request : requests) {
+            results.add(new Pair<>("python of " + request.getFirst(), null));
+        }
+        return results;
+    }
+
+    private static Set<String> listSpoolFiles() {
+        final String[] files = new File(PageSpool.SPOOL_DIR).list();
+        return null == files ? new HashSet<>() : new HashSet<>(Arrays.asList(files));
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+public class PythonBatchTest {
+    private static final String INVALID_JSON = "invalid";
+
+    private final List<List<Pair<String, String>>> batches = new ArrayList<>();
+    private final PythonBatch batch = new PythonBatch(this::translateAll);
+
+    @After
+    public void after() {
+        System.clearProperty(DocUtil.SKIP_PYTHON_PROPERTY);
+    }
+
+    @Test
+    public void shouldReplacePlaceholdersWithFormattedPython() {
+        // Given
+        final String first = batch.deferJson("{\"a\":1}", null, false, python -> "```python\n" + python + "\n```");
+        final String second = batch.deferJson("{\"b\":2}", String.class, false, python -> python);
+
+        // When
+        final String resolved = batch.resolve("before " + first + " middle " + second + " after");
+
+        // Then
+        assertEquals("before ```python\npython of {\"a\":1}\n``` middle python of {\"b\":2} as java.lang.String after", resolved);
+    }
+
+    @Test
+    public void shouldTranslateAllPendingObjectsInOneBatch() {
+        // Given
+        final String first = batch.deferJson("1", null, false, python -> python);
+        final String second = batch.deferJson("2", null, false, python -> python);
+        final String third = batch.deferJson("3", null, false, python -> python);
+
+        // When
+        final String resolved = batch.resolve(second);
+
+        // Then
+        assertEquals("python of 2", resolved);
+        assertEquals(1, batches.size());
+        assertEquals(Arrays.asList("1", "2", "3"), getJson(batches.get(0)));
+        assertEquals("python of 1 python of 3", batch.resolve(first + " " + third));
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void shouldOnlyTranslateNewObjectsInTheNextBatch() {
+        // Given
+        final String first = batch.deferJson("1", null, false, python -> python);
+        batch.resolve(first);
+
+        // When
+        final String second = batch.deferJson("2", null, false, python -> python);
+        final String resolved = batch.resolve(first + " " + second);
+
+        // Then
+        assertEquals("python of 1 python of 2", resolved);
+        assertEquals(2, batches.size());
+        assertEquals(Collections.singletonList("2"), getJson(batches.get(1)));
+    }
+
+    @Test
+    public void shouldNotTranslateTextWithoutPlaceholders() {
+        // Given
+        batch.deferJson("1", null, false, python -> python);
+
+        // When
+        final String resolved = batch.resolve("no placeholders");
+
+        // Then
+        assertEquals("no placeholders", resolved);
+        assertEquals(0, batches.size());
+    }
+
+    @Test
+    public void shouldNotReplacePlaceholdersFromAnotherBatch() {
+        // Given
+        final PythonBatch otherBatch = new PythonBatch(this::translateAll);
+        final String placeholder = otherBatch.deferJson("1", null, false, python -> python);
+        batch.deferJson("1", null, false, python -> python);
+
+        // When
+        final String resolved = batch.resolve(placeholder);
+
+        // Then
+        assertEquals(placeholder, resolved);
+        assertNotEquals(placeholder, otherBatch.resolve(placeholder));
+    }
+
+    @Test
+    public void shouldReplaceSkippedErrorsWithFormattedEmptyString() {
+        // Given
+        final String valid = batch.deferJson("1", null, true, python -> "[" + python + "]");
+        final String invalid = batch.deferJson(INVALID_JSON, null, true, python -> "[" + python + "]");
+
+        // When
+        final String resolved = batch.resolve(valid + invalid);
+
+        // Then
+        assertEquals("[python of 1][]", resolved);
+    }
+
+    @Test
+    public void shouldThrowErrorsThatAreNotSkipped() {
+        // Given
+        final String valid = batch.deferJson("1", null, false, python -> python);
+        final String invalid = batch.deferJson(INVALID_JSON, null, false, python -> python);
+
+        // When / Then
+        assertEquals("python of 1", batch.resolve(valid));
+        try {
+            batch.resolve(invalid);
+            fail("Exception expected");
+        } catch (final RuntimeException e) {
+            assertEquals("Unable to convert " + INVALID_JSON, e.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldUseTheSkipPythonPropertyByDefault() {
+        // Given
+        System.setProperty(DocUtil.SKIP_PYTHON_PROPERTY, "true");
+        final String invalid = batch.deferJson(INVALID_JSON, null, null, python -> "[" + python + "]");
+
+        // When
+        final String resolved = batch.resolve(invalid);
+
+        // Then
+        assertEquals("[]", resolved);
+    }
+
+    private List<Pair<String, String>> translateAll(final List<Pair<String, String>> requests) {
+        batches.add(new ArrayList<>(requests));
+        final List<Pair<String, String>> results = new ArrayList<>(requests.size());
+        for (final Pair<String, String> request : requests) {
+            if (INVALID_JSON.equals(request.getFirst())) {
+                results.add(new Pair<>(null, "Unable to convert " + request.getFirst()));
+            } else {
+                results.add(new Pair<>("python of " + request.getFirst() + (null != request.getSecond() ? " as " + request.getSecond() : ""), null));
+            }
+        }
+        return results;
+    }
+
+    private static List<String> getJson(final List<Pair<String, String>> requests) {
+        final List<String> json = new ArrayList<>(requests.size());
+        for (final Pair<String, String> request : requests) {
+            json.add(request.getFirst());
+        }
+        return json;
+    }
+}
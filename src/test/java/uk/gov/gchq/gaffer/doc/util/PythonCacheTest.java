@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PythonCacheTest {
+    private static final String JSON = "{\"class\":\"uk.gov.gchq.gaffer.operation.impl.Limit\",\"resultLimit\":3}";
+    private static final String PYTHON = "g.Limit(result_limit=3)";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File cacheDir;
+    private File pythonShellDir;
+
+    @Before
+    public void before() throws IOException {
+        cacheDir = new File(folder.getRoot(), "python-cache");
+        pythonShellDir = folder.newFolder("gaffer-python-shell");
+        FileUtils.writeStringToFile(new File(pythonShellDir, "1.9.2"), "");
+        FileUtils.writeStringToFile(new File(pythonShellDir, "src/fromJson.py"), "from_json");
+        FileUtils.writeStringToFile(new File(pythonShellDir, "src/gafferpy/gaffer.py"), "classes");
+    }
+
+    @After
+    public void after() {
+        System.clearProperty(PythonCache.PYTHON_SHELL_VERSION_PROPERTY);
+    }
+
+    @Test
+    public void shouldReturnCachedPython() {
+        // Given
+        final PythonCache cache = new PythonCache(cacheDir, "key", Long.MAX_VALUE);
+
+        // When
+        cache.put(JSON, null, PYTHON);
+
+        // Then
+        assertEquals(PYTHON, cache.get(JSON, null));
+        assertNull(cache.get(JSON, "uk.gov.gchq.gaffer.operation.impl.Limit"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void shouldNotShareEntriesBetweenPythonShells() {
+        // Given
+        new PythonCache(cacheDir, "key", Long.MAX_VALUE).put(JSON, null, PYTHON);
+
+        // When / Then
+        assertNull(new PythonCache(cacheDir, "other key", Long.MAX_VALUE).get(JSON, null));
+    }
+
+    @Test
+    public void shouldBeDisabledWithoutAPythonShellKey() {
+        // Given
+        final PythonCache cache = new PythonCache(cacheDir, null, Long.MAX_VALUE);
+
+        // When
+        cache.put(JSON, null, PYTHON);
+
+        // Then
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get(JSON, null));
+        assertFalse(cacheDir.exists());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntries() throws IOException {
+        // Given
+        final PythonCache cache = new PythonCache(cacheDir, "key", 2L * toPython("1").length());
+        for (final String json : new String[]{"1", "2", "3"}) {
+            cache.put(json, null, toPython(json));
+        }
+        setLastUsed("1", 3000L);
+        setLastUsed("2", 1000L);
+        setLastUsed("3", 2000L);
+
+        // When
+        cache.evict();
+
+        // Then
+        assertEquals(toPython("1"), cache.get("1", null));
+        assertNull(cache.get("2", null));
+        assertEquals(toPython("3"), cache.get("3", null));
+    }
+
+    @Test
+    public void shouldNotEvictACacheWithinItsMaximumSize() {
+        // Given
+        final PythonCache cache = new PythonCache(cacheDir, "key", 3L * toPython("1").length());
+        for (final String json : new String[]{"1", "2", "3"}) {
+            cache.put(json, null, toPython(json));
+        }
+
+        // When
+        cache.evict();
+
+        // Then
+        assertEquals(3, cacheDir.list().length);
+    }
+
+    @Test
+    public void shouldKeyByVersionMarkerAndSources() {
+        // When
+        final String key = PythonCache.readPythonShellKey(pythonShellDir);
+
+        // Then
+        assertTrue(key, key.startsWith("1.9.2-"));
+    }
+
+    @Test
+    public void shouldPreferTheVersionProperty() {
+        // Given
+        System.setProperty(PythonCache.PYTHON_SHELL_VERSION_PROPERTY, "2.0.0");
+
+        // When
+        final String key = PythonCache.readPythonShellKey(pythonShellDir);
+
+        // Then
+        assertTrue(key, key.startsWith("2.0.0-"));
+    }
+
+    @Test
+    public void shouldChangeKeyWhenTheSourcesChangeWithoutANewVersion() throws IOException {
+        // Given
+        final String key = PythonCache.readPythonShellKey(pythonShellDir);
+
+        // When
+        FileUtils.writeStringToFile(new File(pythonShellDir, "src/gafferpy/gaffer.py"), "changed classes");
+
+        // Then
+        assertNotEquals(key, PythonCache.readPythonShellKey(pythonShellDir));
+    }
+
+    @Test
+    public void shouldIgnoreFilesThatAreNotPythonSources() throws IOException {
+        // Given
+        final String key = PythonCache.readPythonShellKey(pythonShellDir);
+
+        // When
+        FileUtils.writeStringToFile(new File(pythonShellDir, "src/gafferpy/__pycache__/gaffer.pyc"), "compiled");
+
+        // Then
+        assertEquals(key, PythonCache.readPythonShellKey(pythonShellDir));
+    }
+
+    @Test
+    public void shouldNotHaveAKeyWithoutAVersion() {
+        // Given
+        new File(pythonShellDir, "1.9.2").delete();
+
+        // When / Then
+        assertNull(PythonCache.readPythonShellKey(pythonShellDir));
+    }
+
+    private static String toPython(final String json) {
+        return "g.Limit(result_limit=" + json + ")";
+    }
+
+    private void setLastUsed(final String json, final long time) throws IOException {
+        // Entries are named by a hash, so the entry is found by its contents
+        for (final File entry : cacheDir.listFiles()) {
+            if (toPython(json).equals(FileUtils.readFileToString(entry))) {
+                assertTrue(entry.setLastModified(time));
+                return;
+            }
+        }
+        throw new AssertionError("No cache entry for " + json);
+    }
+}
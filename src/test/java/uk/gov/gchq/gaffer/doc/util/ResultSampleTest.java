@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.doc.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ResultSampleTest {
+
+    @After
+    public void after() {
+        System.clearProperty(ResultSample.MAX_ROWS_PROPERTY);
+        System.clearProperty(ResultSample.SAMPLING_PROPERTY);
+    }
+
+    @Test
+    public void shouldKeepAllRowsOfASmallResult() {
+        // Given
+        System.setProperty(ResultSample.MAX_ROWS_PROPERTY, "5");
+
+        // When
+        final ResultSample<Integer> sample = ResultSample.of(Arrays.asList(1, 2, 3));
+
+        // Then
+        assertEquals(Arrays.asList(1, 2, 3), sample.getRows());
+        assertEquals(3, sample.getTotalRows());
+        assertFalse(sample.isTruncated());
+        assertNull(sample.getFooter());
+    }
+
+    @Test
+    public void shouldKeepTheFirstRowsByDefault() {
+        // Given
+        System.setProperty(ResultSample.MAX_ROWS_PROPERTY, "3");
+
+        // When
+        final ResultSample<Integer> sample = ResultSample.of(range(10));
+
+        // Then
+        assertEquals(Arrays.asList(0, 1, 2), sample.getRows());
+        assertEquals(10, sample.getTotalRows());
+        assertTrue(sample.isTruncated());
+        assertEquals("... 7 more rows", sample.getFooter());
+    }
+
+    @Test
+    public void shouldDefaultToOneHundredRows() {
+        // When
+        final ResultSample<Integer> sample = ResultSample.of(range(250));
+
+        // Then
+        assertEquals(ResultSample.DEFAULT_MAX_ROWS, sample.getRows().size());
+        assertEquals(250, sample.getTotalRows());
+        assertEquals("... 150 more rows", sample.getFooter());
+    }
+
+    @Test
+    public void shouldKeepAtLeastOneRow() {
+        // Given
+        System.setProperty(ResultSample.MAX_ROWS_PROPERTY, "0");
+
+        // When
+        final ResultSample<Integer> sample = ResultSample.of(range(2));
+
+        // Then
+        assertEquals(Arrays.asList(0), sample.getRows());
+        assertEquals("... 1 more row", sample.getFooter());
+    }
+
+    @Test
+    public void shouldTakeAReservoirSampleInTheOriginalOrder() {
+        // Given
+        System.setProperty(ResultSample.MAX_ROWS_PROPERTY, "10");
+        System.setProperty(ResultSample.SAMPLING_PROPERTY, ResultSample.RESERVOIR_SAMPLING);
+
+        // When
+        final ResultSample<Integer> sample = ResultSample.of(range(1000));
+
+        // Then
+        final List<Integer> rows = sample.getRows();
+        assertEquals(10, rows.size());
+        assertEquals(1000, sample.getTotalRows());
+        assertNotEquals(range(10), rows);
+        for (int i = 1; i < rows.size(); i++) {
+            assertTrue("Rows are not in their original order: " + rows, rows.get(i - 1) < rows.get(i));
+        }
+        assertEquals("... 990 more rows (a random sample of 10 of 1000 rows is shown)", sample.getFooter());
+    }
+
+    @Test
+    public void shouldTakeTheSameReservoirSampleEveryTime() {
+        // Given
+        System.setProperty(ResultSample.MAX_ROWS_PROPERTY, "10");
+        System.setProperty(ResultSample.SAMPLING_PROPERTY, ResultSample.RESERVOIR_SAMPLING);
+
+        // When
+        final ResultSample<Integer> first = ResultSample.of(range(1000));
+        final ResultSample<Integer> second = ResultSample.of(range(1000));
+
+        // Then
+        assertEquals(first.getRows(), second.getRows());
+    }
+
+    @Test
+    public void shouldKeepAllRowsOfASmallResultWhenReservoirSampling() {
+        // Given
+        System.setProperty(ResultSample.MAX_ROWS_PROPERTY, "10");
+        System.setProperty(ResultSample.SAMPLING_PROPERTY, ResultSample.RESERVOIR_SAMPLING);
+
+        // When
+        final ResultSample<Integer> sample = ResultSample.of(range(10));
+
+        // Then
+        assertEquals(range(10), sample.getRows());
+        assertNull(sample.getFooter());
+    }
+
+    @Test
+    public void shouldCloseTheIterator() {
+        // Given
+        final ClosableIterator iterator = new ClosableIterator(range(3).iterator());
+
+        // When
+        ResultSample.of(iterator);
+
+        // Then
+        assertTrue(iterator.closed);
+    }
+
+    @Test
+    public void shouldCountRowsTakenFromALargerResult() {
+        // When
+        final ResultSample<Integer> sample = ResultSample.of(range(3), 20);
+
+        // Then
+        assertEquals(range(3), sample.getRows());
+        assertEquals(20, sample.getTotalRows());
+        assertEquals("... 17 more rows", sample.getFooter());
+    }
+
+    @Test
+    public void shouldNotCountFewerRowsThanAreShown() {
+        // When
+        final ResultSample<Integer> sample = ResultSample.of(range(3), 1);
+
+        // Then
+        assertEquals(3, sample.getTotalRows());
+        assertFalse(sample.isTruncated());
+    }
+
+    private static List<Integer> range(final int size) {
+        final List<Integer> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(i);
+        }
+        return rows;
+    }
+
+    private static final class ClosableIterator implements Iterator<Integer>, Closeable {
+        private final Iterator<Integer> iterator;
+        private boolean closed;
+
+        private ClosableIterator(final Iterator<Integer> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Integer next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
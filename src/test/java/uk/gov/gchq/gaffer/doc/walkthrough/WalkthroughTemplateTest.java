@@ -0,0 +1,171 @@
+/*
+ * Copyright 2019 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.doc.walkthrough;
+
+import org.apache.commons.lang3.text.StrSubstitutor;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class WalkthroughTemplateTest {
+
+    @Test
+    public void shouldSubstituteParametersLikeStrSubstitutor() {
+        // Given
+        final Map<String, String> params = new HashMap<>();
+        params.put("NAME", "value");
+        params.put("OTHER", "other");
+
+        // When / Then
+        assertSameAsStrSubstitutor("no parameters", params);
+        assertSameAsStrSubstitutor("${NAME}", params);
+        assertSameAsStrSubstitutor("before ${NAME} middle ${OTHER} after", params);
+        assertSameAsStrSubstitutor("${NAME}${OTHER}${NAME}", params);
+        assertSameAsStrSubstitutor("", params);
+    }
+
+    @Test
+    public void shouldEscapeParametersLikeStrSubstitutor() {
+        // Given
+        final Map<String, String> params = new HashMap<>();
+        params.put("NAME", "value");
+        params.put("OTHER", "other");
+
+        // When / Then
+        assertSameAsStrSubstitutor("$${NAME}", params);
+        assertSameAsStrSubstitutor("text $${NAME} and ${NAME}", params);
+        assertSameAsStrSubstitutor("$$${NAME}", params);
+        assertSameAsStrSubstitutor("${NAME}$${OTHER}", params);
+        assertSameAsStrSubstitutor("$${NAME${OTHER}}", params);
+        assertSameAsStrSubstitutor("cost: $5 ${NAME}", params);
+        assertSameAsStrSubstitutor("$${UNCLOSED", params);
+        assertSameAsStrSubstitutor("${UNCLOSED", params);
+    }
+
+    @Test
+    public void shouldUseDefaultValuesLikeStrSubstitutor() {
+        // Given
+        final Map<String, String> params = new HashMap<>();
+        params.put("NAME", "value");
+        params.put("EMPTY", "");
+
+        // When / Then
+        assertSameAsStrSubstitutor("${UNKNOWN:-default}", params);
+        assertSameAsStrSubstitutor("${NAME:-default}", params);
+        assertSameAsStrSubstitutor("${EMPTY:-default}", params);
+        assertSameAsStrSubstitutor("${UNKNOWN:-}", params);
+        assertSameAsStrSubstitutor("${UNKNOWN:-a:-b}", params);
+        assertSameAsStrSubstitutor("${UNKNOWN:-${NAME}}", params);
+    }
+
+    @Test
+    public void shouldSubstituteNestedValuesLikeStrSubstitutor() {
+        // Given
+        final Map<String, String> params = new HashMap<>();
+        params.put("OUTER", "outer [${INNER}]");
+        params.put("INNER", "inner [${NAME}] $${ESCAPED}");
+        params.put("NAME", "value");
+        params.put("DEFAULTED", "${UNKNOWN:-${NAME}}");
+
+        // When / Then
+        assertSameAsStrSubstitutor("${OUTER}", params);
+        assertSameAsStrSubstitutor("${OUTER} ${INNER}", params);
+        assertSameAsStrSubstitutor("${DEFAULTED}", params);
+        assertSameAsStrSubstitutor("${UNKNOWN:-${OUTER}}", params);
+        assertSameAsStrSubstitutor("${NAME${NAME}}", params);
+    }
+
+    @Test
+    public void shouldLeaveUnknownParametersLikeStrSubstitutor() {
+        // Given
+        final Map<String, String> params = new HashMap<>();
+        params.put("NAME", "value ${UNKNOWN}");
+
+        // When / Then
+        assertSameAsStrSubstitutor("${UNKNOWN}", params);
+        assertSameAsStrSubstitutor("${NAME} and ${ANOTHER}", params);
+        assertSameAsStrSubstitutor("${}", params);
+    }
+
+    @Test
+    public void shouldDetectInfiniteLoopsLikeStrSubstitutor() {
+        // Given
+        final Map<String, String> params = new HashMap<>();
+        params.put("A", "a ${B}");
+        params.put("B", "b ${A}");
+        params.put("SELF", "${SELF}");
+
+        // When / Then
+        for (final String text : Arrays.asList("${A}", "${B}", "x ${SELF} y")) {
+            assertThrows(() -> new StrSubstitutor(params).replace(text), text);
+            assertThrows(() -> WalkthroughTemplate.parse(text).render(params::get), text);
+        }
+    }
+
+    @Test
+    public void shouldAllowTheSameParameterToBeUsedTwiceInAValue() {
+        // Given
+        final Map<String, String> params = new HashMap<>();
+        params.put("TWICE", "${NAME} ${NAME}");
+        params.put("NAME", "value");
+
+        // When / Then
+        assertSameAsStrSubstitutor("${TWICE}", params);
+    }
+
+    @Test
+    public void shouldOnlyEscapeParametersWithTheEscapeInTheTemplateText() {
+        // Given
+        final Map<String, String> params = new HashMap<>();
+        params.put("PRICE", "$");
+        params.put("NAME", "value");
+
+        // When
+        final String result = WalkthroughTemplate.parse("${PRICE}${NAME} and $${NAME}").render(params::get);
+
+        // Then
+        assertEquals("$value and ${NAME}", result);
+    }
+
+    @Test
+    public void shouldNotListEscapedParameters() {
+        // When
+        final WalkthroughTemplate template = WalkthroughTemplate.parse("${A} $${B} ${C:-default} ${A}");
+
+        // Then
+        assertEquals(new LinkedHashSet<>(Arrays.asList("A", "C")), template.getParameterNames());
+    }
+
+    private static void assertSameAsStrSubstitutor(final String text, final Map<String, String> params) {
+        assertEquals(text, new StrSubstitutor(params).replace(text), WalkthroughTemplate.parse(text).render(params::get));
+    }
+
+    private static void assertThrows(final Runnable substitution, final String text) {
+        try {
+            substitution.run();
+            fail("Expected an infinite loop to be detected in: " + text);
+        } catch (final IllegalStateException e) {
+            // Expected
+        }
+    }
+}